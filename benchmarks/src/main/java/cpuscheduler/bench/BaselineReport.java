@@ -0,0 +1,108 @@
+package cpuscheduler.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result file against the published baseline.
+ * Prints ns/process, processes/s and bytes allocated per process for every benchmark and
+ * exits with status 1 when any benchmark is slower than the baseline by more than the threshold.
+ * <pre>
+ * java -cp target/benchmarks.jar cpuscheduler.bench.BaselineReport results.json [baseline.json] [threshold%]
+ * </pre>
+ */
+public final class BaselineReport {
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    private BaselineReport() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: BaselineReport <results.json> [baseline.json] [threshold%]");
+            System.exit(2);
+        }
+        Map<String, Map<String, Object>> current = load(Path.of(args[0]));
+        Map<String, Map<String, Object>> baseline = args.length > 1 ? load(Path.of(args[1])) : Map.of();
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+
+        boolean regressed = false;
+        System.out.printf("%-95s %12s %14s %12s %10s%n", "Benchmark", "ns/process", "processes/s", "B/process", "vs base");
+        for (Map.Entry<String, Map<String, Object>> entry : current.entrySet()) {
+            Map<String, Object> run = entry.getValue();
+            double nsPerProcess = nsPerProcess(run);
+            double bytesPerProcess = bytesPerProcess(run);
+
+            String delta = "";
+            Map<String, Object> base = baseline.get(entry.getKey());
+            if (base != null) {
+                double change = (nsPerProcess - nsPerProcess(base)) / nsPerProcess(base) * 100;
+                delta = String.format("%+.1f%%", change);
+                if (change > threshold) {
+                    regressed = true;
+                    delta += " !";
+                }
+            }
+            System.out.printf("%-95s %12.2f %14.0f %12s %10s%n", entry.getKey(), nsPerProcess, 1e9 / nsPerProcess,
+                    Double.isNaN(bytesPerProcess) ? "-" : String.format("%.1f", bytesPerProcess), delta);
+        }
+        if (regressed) {
+            System.out.printf("%nRegression: at least one benchmark is more than %.1f%% slower than the baseline.%n", threshold);
+            System.exit(1);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Map<String, Object>> load(Path path) throws IOException {
+        List<Object> runs = (List<Object>) Json.parse(Files.readString(path));
+        Map<String, Map<String, Object>> byKey = new TreeMap<>();
+        for (Object o : runs) {
+            Map<String, Object> run = (Map<String, Object>) o;
+            byKey.put(key(run), run);
+        }
+        return byKey;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String key(Map<String, Object> run) {
+        String name = (String) run.get("benchmark");
+        name = name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1);
+        Map<String, Object> params = (Map<String, Object>) run.getOrDefault("params", Map.of());
+        return name + new TreeMap<>(params);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static double nsPerProcess(Map<String, Object> run) {
+        Map<String, Object> primary = (Map<String, Object>) run.get("primaryMetric");
+        double score = (Double) primary.get("score");
+        String unit = (String) primary.get("scoreUnit");
+        double nsPerOp = switch (unit) {
+            case "s/op" -> score * 1e9;
+            case "ms/op" -> score * 1e6;
+            case "us/op" -> score * 1e3;
+            case "ns/op" -> score;
+            default -> throw new IllegalArgumentException("Unsupported score unit " + unit + "; run with -bm avgt");
+        };
+        return nsPerOp / processCount(run);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static double bytesPerProcess(Map<String, Object> run) {
+        Map<String, Object> secondary = (Map<String, Object>) run.getOrDefault("secondaryMetrics", Map.of());
+        Map<String, Object> allocation = (Map<String, Object>) secondary.get(ALLOCATION);
+        if (allocation == null) {
+            return Double.NaN;
+        }
+        return (Double) allocation.get("score") / processCount(run);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int processCount(Map<String, Object> run) {
+        Map<String, Object> params = (Map<String, Object>) run.get("params");
+        return Integer.parseInt((String) params.get("processCount"));
+    }
+}
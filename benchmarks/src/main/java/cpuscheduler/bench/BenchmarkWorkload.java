@@ -0,0 +1,33 @@
+package cpuscheduler.bench;
+
+import cpuscheduler.Process;
+import cpuscheduler.engine.Workload;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * The same generated workload in the two shapes the schedulers accept.
+ */
+final class BenchmarkWorkload {
+    static final long SEED = 42;
+
+    final List<Process> processes;
+    final Workload columns;
+
+    BenchmarkWorkload(int processCount, BurstDistribution distribution) {
+        int[] ids = new int[processCount];
+        int[] bursts = distribution.bursts(processCount, SEED);
+        int[] priorities = new int[processCount];
+        int[] arrivals = new int[processCount];
+        SplittableRandom random = new SplittableRandom(SEED + 1);
+        processes = new ArrayList<>(processCount);
+        for (int i = 0; i < processCount; i++) {
+            ids[i] = i + 1;
+            priorities[i] = random.nextInt(10);
+            processes.add(new Process(ids[i], bursts[i], priorities[i]));
+        }
+        columns = new Workload(ids, bursts, priorities, arrivals);
+    }
+}
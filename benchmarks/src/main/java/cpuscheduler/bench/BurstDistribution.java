@@ -0,0 +1,49 @@
+package cpuscheduler.bench;
+
+import java.util.SplittableRandom;
+
+/**
+ * Burst-time shapes used by the benchmarks. Every shape has a mean burst of roughly 20 time units
+ * so that runs of the same size do a comparable amount of simulated work.
+ */
+public enum BurstDistribution {
+    /** Bursts drawn uniformly from [1, 40]. */
+    UNIFORM {
+        @Override
+        int next(SplittableRandom random) {
+            return 1 + random.nextInt(40);
+        }
+    },
+    /** Pareto bursts (shape 1.5): most jobs are short, a few are very long. */
+    HEAVY_TAILED {
+        @Override
+        int next(SplittableRandom random) {
+            double pareto = 7 / Math.pow(1 - random.nextDouble(), 1 / 1.5);
+            return (int) Math.min(pareto, 100_000);
+        }
+    },
+    /** 90% short interactive bursts [1, 5] and 10% long batch bursts [150, 200]. */
+    BIMODAL {
+        @Override
+        int next(SplittableRandom random) {
+            return random.nextInt(10) == 0 ? 150 + random.nextInt(51) : 1 + random.nextInt(5);
+        }
+    };
+
+    abstract int next(SplittableRandom random);
+
+    /**
+     * Generates a burst column.
+     * @param count The number of processes.
+     * @param seed The random seed, so every fork sees the same workload.
+     * @return The burst times.
+     */
+    public int[] bursts(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] bursts = new int[count];
+        for (int i = 0; i < count; i++) {
+            bursts[i] = next(random);
+        }
+        return bursts;
+    }
+}
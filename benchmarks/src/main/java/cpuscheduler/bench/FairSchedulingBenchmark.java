@@ -0,0 +1,62 @@
+package cpuscheduler.bench;
+
+import cpuscheduler.algorithms.CFSSchedulingAlgorithm;
+import cpuscheduler.algorithms.MLFQSchedulingAlgorithm;
+import cpuscheduler.algorithms.RoundRobinSchedulingAlgorithm;
+import cpuscheduler.engine.EngineResult;
+import cpuscheduler.engine.EventSimulator;
+import cpuscheduler.engine.RoundRobinPolicy;
+import cpuscheduler.engine.RunOptions;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MLFQ and CFS against Round Robin over the same workload. roundRobinEvents runs Round Robin
+ * through the event simulator like the other two, so the difference is the cost of the policy
+ * decisions; roundRobin is the specialised engine the GUI uses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FairSchedulingBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int processCount;
+
+    @Param({"UNIFORM", "HEAVY_TAILED"})
+    public BurstDistribution distribution;
+
+    private BenchmarkWorkload workload;
+
+    private final RoundRobinSchedulingAlgorithm roundRobin = new RoundRobinSchedulingAlgorithm(4);
+    private final MLFQSchedulingAlgorithm mlfq = new MLFQSchedulingAlgorithm();
+    private final CFSSchedulingAlgorithm cfs = new CFSSchedulingAlgorithm();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        workload = new BenchmarkWorkload(processCount, distribution);
+    }
+
+    @Benchmark
+    public EngineResult roundRobin() {
+        return roundRobin.simulate(workload.columns, RunOptions.HEADLESS);
+    }
+
+    @Benchmark
+    public EngineResult roundRobinEvents() {
+        return EventSimulator.run(workload.columns, new RoundRobinPolicy(4));
+    }
+
+    @Benchmark
+    public EngineResult mlfq() {
+        return mlfq.simulate(workload.columns, RunOptions.HEADLESS);
+    }
+
+    @Benchmark
+    public EngineResult cfs() {
+        return cfs.simulate(workload.columns, RunOptions.HEADLESS);
+    }
+}
@@ -0,0 +1,56 @@
+package cpuscheduler.bench;
+
+import cpuscheduler.engine.HeadlessScheduler;
+import cpuscheduler.engine.MultiCoreConfig;
+import cpuscheduler.engine.MultiCoreResult;
+import cpuscheduler.engine.MultiCoreSimulator;
+import cpuscheduler.engine.RunOptions;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The multi-core simulator as the simulated core count grows. Every process arrives at time 0,
+ * so the run queues are as long as they get. Divide the score by processCount for ns/process.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MultiCoreBenchmark {
+    @Param({"100000", "1000000"})
+    public int processCount;
+
+    @Param({"1", "64", "4096"})
+    public int cores;
+
+    @Param({"GLOBAL", "PARTITIONED", "STEALING"})
+    public String placement;
+
+    private BenchmarkWorkload workload;
+    private MultiCoreConfig config;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        workload = new BenchmarkWorkload(processCount, BurstDistribution.HEAVY_TAILED);
+        config = switch (placement) {
+            case "GLOBAL" -> MultiCoreConfig.global(cores);
+            case "PARTITIONED" -> MultiCoreConfig.partitioned(cores, false);
+            default -> MultiCoreConfig.partitioned(cores, true);
+        };
+    }
+
+    @Benchmark
+    public MultiCoreResult roundRobin() {
+        return MultiCoreSimulator.run(workload.columns, HeadlessScheduler.Policy.ROUND_ROBIN, 4, config,
+                RunOptions.HEADLESS);
+    }
+
+    @Benchmark
+    public MultiCoreResult sjf() {
+        return MultiCoreSimulator.run(workload.columns, HeadlessScheduler.Policy.SJF, 1, config,
+                RunOptions.HEADLESS);
+    }
+}
@@ -0,0 +1,57 @@
+package cpuscheduler.bench;
+
+import cpuscheduler.SchedulerResult;
+import cpuscheduler.algorithms.RoundRobinSchedulingAlgorithm;
+import cpuscheduler.engine.EngineResult;
+import cpuscheduler.engine.HeadlessScheduler;
+import cpuscheduler.engine.RoundRobinEngine;
+import cpuscheduler.engine.RunOptions;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round Robin across a sweep of quanta. Small quanta multiply the number of dispatches,
+ * so this is where per-iteration overhead in the scheduling loop shows up first.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoundRobinBenchmark {
+    @Param({"10", "1000", "100000", "1000000", "10000000"})
+    public int processCount;
+
+    @Param({"UNIFORM", "HEAVY_TAILED", "BIMODAL"})
+    public BurstDistribution distribution;
+
+    @Param({"1", "2", "4", "8", "16", "32", "64"})
+    public int quantum;
+
+    private BenchmarkWorkload workload;
+
+    private RoundRobinSchedulingAlgorithm roundRobin;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        workload = new BenchmarkWorkload(processCount, distribution);
+        roundRobin = new RoundRobinSchedulingAlgorithm(quantum);
+    }
+
+    @Benchmark
+    public SchedulerResult roundRobin() {
+        return roundRobin.schedule(workload.processes);
+    }
+
+    @Benchmark
+    public EngineResult engineRoundRobin() {
+        return HeadlessScheduler.run(workload.columns, HeadlessScheduler.Policy.ROUND_ROBIN, quantum);
+    }
+
+    @Benchmark
+    public EngineResult engineRoundRobinPerQuantum() {
+        return RoundRobinEngine.run(workload.columns, quantum, RunOptions.HEADLESS, false);
+    }
+}
@@ -0,0 +1,70 @@
+package cpuscheduler.bench;
+
+import cpuscheduler.SchedulerResult;
+import cpuscheduler.algorithms.FCFSSchedulingAlgorithm;
+import cpuscheduler.algorithms.PrioritySchedulingAlgorithm;
+import cpuscheduler.algorithms.SJFSchedulingAlgorithm;
+import cpuscheduler.engine.EngineResult;
+import cpuscheduler.engine.HeadlessScheduler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Run-to-completion algorithms: the object-based schedule() and the headless engine over the
+ * same workload. Divide the score by processCount for ns/process (see {@link BaselineReport}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchedulingBenchmark {
+    @Param({"10", "1000", "100000", "1000000", "10000000"})
+    public int processCount;
+
+    @Param({"UNIFORM", "HEAVY_TAILED", "BIMODAL"})
+    public BurstDistribution distribution;
+
+    private BenchmarkWorkload workload;
+
+    private final FCFSSchedulingAlgorithm fcfs = new FCFSSchedulingAlgorithm();
+    private final SJFSchedulingAlgorithm sjf = new SJFSchedulingAlgorithm();
+    private final PrioritySchedulingAlgorithm priority = new PrioritySchedulingAlgorithm();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        workload = new BenchmarkWorkload(processCount, distribution);
+    }
+
+    @Benchmark
+    public SchedulerResult fcfs() {
+        return fcfs.schedule(workload.processes);
+    }
+
+    @Benchmark
+    public SchedulerResult sjf() {
+        return sjf.schedule(workload.processes);
+    }
+
+    @Benchmark
+    public SchedulerResult priority() {
+        return priority.schedule(workload.processes);
+    }
+
+    @Benchmark
+    public EngineResult engineFcfs() {
+        return HeadlessScheduler.run(workload.columns, HeadlessScheduler.Policy.FCFS, 1);
+    }
+
+    @Benchmark
+    public EngineResult engineSjf() {
+        return HeadlessScheduler.run(workload.columns, HeadlessScheduler.Policy.SJF, 1);
+    }
+
+    @Benchmark
+    public EngineResult enginePriority() {
+        return HeadlessScheduler.run(workload.columns, HeadlessScheduler.Policy.PRIORITY, 1);
+    }
+}
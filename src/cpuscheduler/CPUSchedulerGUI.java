@@ -1,14 +1,41 @@
 package cpuscheduler;
 
 import cpuscheduler.algorithms.*;
+import cpuscheduler.analysis.AlgorithmComparison;
+import cpuscheduler.analysis.ParameterTuner;
+import cpuscheduler.analysis.QuantumSweep;
+import cpuscheduler.cache.ResultCache;
+import cpuscheduler.engine.ContextSwitchCost;
+import cpuscheduler.engine.EngineResult;
+import cpuscheduler.engine.RunOptions;
+import cpuscheduler.engine.Workload;
+import cpuscheduler.engine.WorkloadBuilder;
+import cpuscheduler.generator.ArrivalProcess;
+import cpuscheduler.generator.BurstDistribution;
+import cpuscheduler.generator.PriorityMix;
+import cpuscheduler.generator.WorkloadGenerator;
+import cpuscheduler.gui.GanttCanvas;
+import cpuscheduler.gui.ResultTableModel;
+import cpuscheduler.gui.WorkloadTableModel;
+import cpuscheduler.io.ResultFileWriter;
+import cpuscheduler.io.WorkloadReader;
 
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
 import java.awt.*;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class CPUSchedulerGUI extends JFrame {
 
@@ -16,25 +43,46 @@ public class CPUSchedulerGUI extends JFrame {
     private final JTextField tfProcessId;
     private final JTextField tfBurstTime;
     private final JTextField tfPriority;
-    private final JTextField tfQuantumTime;
+    private final JTextField tfArrivalTime;
+    private final JTextField tfSwitchCost;
 
-    // Algorithm selection
+    // Algorithm selection: every registered algorithm, with the settings last entered for each
+    private final AlgorithmRegistry algorithmRegistry = AlgorithmRegistry.load();
+    private final List<AlgorithmProvider> providers = algorithmRegistry.providers();
+    private final Map<AlgorithmProvider, AlgorithmSettings> algorithmSettings = new HashMap<>();
     private final JComboBox<String> algorithmComboBox;
-    private final Map<String, SchedulingAlgorithm> availableAlgorithms;
-
-    private final DefaultTableModel inputTableModel;
-
-    private final DefaultTableModel resultsTableModel;
-    private final JTextArea ganttChartArea;
-
-    private final List<Process> processList; // Stores processes added by the user
+    // The fields of the selected algorithm's parameters, rebuilt when the selection changes
+    private final JPanel parameterPanel;
+    private final Map<AlgorithmParameter<?>, JTextField> parameterFields = new LinkedHashMap<>();
+    private AlgorithmProvider selectedProvider;
+
+    private final WorkloadTableModel inputTableModel;
+
+    private final ResultTableModel resultsTableModel;
+    private final GanttCanvas ganttCanvas;
+    private final JTextArea statisticsArea;
+
+    // Background runs
+    private final JButton btnRunScheduler;
+    private final JButton btnCompareAlgorithms;
+    private final JButton btnTuneQuantum;
+    private final JButton btnLoadTrace;
+    private final JButton btnGenerate;
+    private final JButton btnSaveResults;
+    private final JButton btnCancel;
+    private final JProgressBar progressBar;
+    private SwingWorker<?, ?> activeWorker;
+    private EngineResult lastResult;
+    // Repeated runs of the same configuration on the same processes are answered from here
+    private final ResultCache resultCache = createResultCache();
+    private String lastAlgorithmName;
+
+    private WorkloadBuilder processes; // Processes added by the user or loaded from a trace, as columns
     private int nextProcessId = 1;
 
     public CPUSchedulerGUI() {
         super("CPU Scheduler Simulator"); // Updated title
-        processList = new ArrayList<>();
-        availableAlgorithms = new HashMap<>();
-        loadAlgorithms(); // Initialize available algorithms
+        processes = new WorkloadBuilder();
 
         // --- Input Panel ---
         JPanel inputPanel = new JPanel(new GridBagLayout());
@@ -43,13 +91,10 @@ public class CPUSchedulerGUI extends JFrame {
         gbc.fill = GridBagConstraints.HORIZONTAL;
 
         gbc.gridx = 0; gbc.gridy = 0;
-        JLabel lblQuantumTime = new JLabel("Quantum Time:");
-        lblQuantumTime.setVisible(false); // Initially hidden
-        inputPanel.add(lblQuantumTime, gbc);
-        tfQuantumTime = new JTextField(5);
-        tfQuantumTime.setVisible(false); // Initially hidden
-        gbc.gridx = 1; gbc.gridy = 0;
-        inputPanel.add(tfQuantumTime, gbc);
+        gbc.gridwidth = 2;
+        parameterPanel = new JPanel(new GridLayout(0, 2, 10, 5));
+        inputPanel.add(parameterPanel, gbc);
+        gbc.gridwidth = 1;
 
         gbc.gridx = 0; gbc.gridy = 1;
         inputPanel.add(new JLabel("Process ID:"), gbc);
@@ -71,11 +116,34 @@ public class CPUSchedulerGUI extends JFrame {
         gbc.gridx = 1; gbc.gridy = 3;
         inputPanel.add(tfPriority, gbc);
 
+        gbc.gridx = 0; gbc.gridy = 4;
+        inputPanel.add(new JLabel("Arrival Time:"), gbc);
+        tfArrivalTime = new JTextField(5);
+        tfArrivalTime.setText("0");
+        gbc.gridx = 1; gbc.gridy = 4;
+        inputPanel.add(tfArrivalTime, gbc);
+
+        gbc.gridx = 0; gbc.gridy = 5;
+        inputPanel.add(new JLabel("Switch Cost:"), gbc);
+        tfSwitchCost = new JTextField(5);
+        tfSwitchCost.setText("0");
+        tfSwitchCost.setToolTipText("CPU time charged for every context switch, in every run, comparison and tuning");
+        gbc.gridx = 1; gbc.gridy = 5;
+        inputPanel.add(tfSwitchCost, gbc);
+
         // Create a panel for buttons
-        JPanel buttonPanel = new JPanel(new GridLayout(4, 1, 0, 5));
+        JPanel buttonPanel = new JPanel(new GridLayout(0, 1, 0, 5));
         JButton btnAddProcess = new JButton("Add Process");
-        JButton btnRunScheduler = new JButton("Run Selected Algorithm");
+        btnLoadTrace = new JButton("Load Trace...");
+        btnGenerate = new JButton("Generate Workload...");
+        btnSaveResults = new JButton("Save Results...");
+        btnSaveResults.setEnabled(false);
+        btnRunScheduler = new JButton("Run Selected Algorithm");
         JButton btnClearProcesses = new JButton("Clear Processes");
+        btnCompareAlgorithms = new JButton("Compare All Algorithms");
+        btnTuneQuantum = new JButton("Tune Quantum");
+        btnCancel = new JButton("Cancel Run");
+        btnCancel.setEnabled(false);
 
         btnRunScheduler.setBackground(new Color(100, 180, 100));
         btnRunScheduler.setForeground(Color.WHITE);
@@ -88,50 +156,66 @@ public class CPUSchedulerGUI extends JFrame {
         btnClearProcesses.setBorderPainted(false);
 
         buttonPanel.add(btnAddProcess);
+        buttonPanel.add(btnLoadTrace);
+        buttonPanel.add(btnGenerate);
         buttonPanel.add(btnRunScheduler);
+        buttonPanel.add(btnCompareAlgorithms);
+        buttonPanel.add(btnTuneQuantum);
+        buttonPanel.add(btnSaveResults);
+        buttonPanel.add(btnCancel);
         buttonPanel.add(btnClearProcesses);
 
-        gbc.gridx = 0; gbc.gridy = 4;
+        gbc.gridx = 0; gbc.gridy = 6;
         gbc.gridwidth = 2;
         inputPanel.add(buttonPanel, gbc);
 
         // --- Algorithm Selection Panel ---
         JPanel selectionPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
         selectionPanel.add(new JLabel("Select Algorithm:"));
-        algorithmComboBox = new JComboBox<>(availableAlgorithms.keySet().toArray(new String[0]));
-        if (!availableAlgorithms.isEmpty()) {
+        algorithmComboBox = new JComboBox<>();
+        for (AlgorithmProvider provider : providers) {
+            algorithmComboBox.addItem(provider.displayName());
+        }
+        if (!providers.isEmpty()) {
             algorithmComboBox.setSelectedIndex(0); // Select first algorithm by default
+            showParameters(providers.get(0));
         }
         selectionPanel.add(algorithmComboBox);
 
 
         // --- Process Input Table ---
-        String[] inputColumnNames = {"ID", "Burst Time", "Priority", "Arrival Time"};
-        inputTableModel = new DefaultTableModel(inputColumnNames, 0);
+        inputTableModel = new WorkloadTableModel(processes);
         // Table to display added processes
         JTable processInputTable = new JTable(inputTableModel);
         JScrollPane inputTableScrollPane = new JScrollPane(processInputTable);
-        inputTableScrollPane.setBorder(BorderFactory.createTitledBorder("Process Queue (Arrival Time 0)"));
+        inputTableScrollPane.setBorder(BorderFactory.createTitledBorder("Process Queue"));
 
         // --- Results Panel ---
         JPanel resultsPanel = new JPanel(new BorderLayout(10,10));
         resultsPanel.setBorder(BorderFactory.createTitledBorder("Scheduling Results"));
 
-        String[] resultsColumnNames = {"P.ID", "Priority", "Burst", "Arrival", "Start", "Completion", "Response", "Waiting", "Turnaround", "State"};
-        resultsTableModel = new DefaultTableModel(resultsColumnNames, 0);
+        // Cells are read from the result columns on demand, so only the visible rows cost anything
+        resultsTableModel = new ResultTableModel();
         JTable resultsTable = new JTable(resultsTableModel);
         JScrollPane resultsTableScrollPane = new JScrollPane(resultsTable);
         resultsTableScrollPane.setPreferredSize(new Dimension(700, 200)); // Set preferred size
 
-        ganttChartArea = new JTextArea(7, 40);
-        ganttChartArea.setEditable(false);
-        ganttChartArea.setFont(new Font("Monospaced", Font.PLAIN, 12));
-        JScrollPane ganttScrollPane = new JScrollPane(ganttChartArea);
-        ganttScrollPane.setBorder(BorderFactory.createTitledBorder("Gantt Chart & Averages"));
-        ganttScrollPane.setPreferredSize(new Dimension(700, 150));
+        ganttCanvas = new GanttCanvas();
+        statisticsArea = new JTextArea(8, 40);
+        statisticsArea.setEditable(false);
+        statisticsArea.setFont(new Font("Monospaced", Font.PLAIN, 12));
+        JPanel ganttPanel = new JPanel(new BorderLayout());
+        ganttPanel.setBorder(BorderFactory.createTitledBorder("Gantt Chart & Averages (wheel to zoom, drag to pan, double-click to fit)"));
+        ganttPanel.add(ganttCanvas, BorderLayout.CENTER);
+        ganttPanel.add(statisticsArea, BorderLayout.SOUTH);
+
+        progressBar = new JProgressBar(0, 100);
+        progressBar.setStringPainted(true);
+        progressBar.setString("Idle");
 
+        resultsPanel.add(progressBar, BorderLayout.NORTH);
         resultsPanel.add(resultsTableScrollPane, BorderLayout.CENTER);
-        resultsPanel.add(ganttScrollPane, BorderLayout.SOUTH);
+        resultsPanel.add(ganttPanel, BorderLayout.SOUTH);
 
 
         // --- Main Layout ---
@@ -151,151 +235,689 @@ public class CPUSchedulerGUI extends JFrame {
         // --- Action Listeners ---
         btnAddProcess.addActionListener(_ -> addProcess());
 
-        btnRunScheduler.addActionListener(_ -> runSelectedAlgorithm());
+        btnLoadTrace.addActionListener(_ -> loadTrace());
+
+        btnGenerate.addActionListener(_ -> generateWorkload());
+
+        btnSaveResults.addActionListener(_ -> saveResults());
+
+        btnCompareAlgorithms.addActionListener(_ -> compareAllAlgorithms());
+
+        btnTuneQuantum.addActionListener(_ -> tuneQuantum());
+
+        btnCancel.addActionListener(_ -> {
+            if (activeWorker != null) {
+                activeWorker.cancel(true); // Interrupts the simulation thread
+            }
+        });
 
         // Action listener for the "Clear Processes" button
         btnClearProcesses.addActionListener(_ -> {
-            processList.clear(); // Clear the process list
-            inputTableModel.setRowCount(0); // Clear the table model
+            processes = new WorkloadBuilder(); // Drop the processes, including a loaded trace
+            inputTableModel.setProcesses(processes);
             nextProcessId = 1; // Reset the process ID counter
             tfProcessId.setText(String.valueOf(nextProcessId)); // Update the process ID field
         });
 
-        // Show or hide quantum time input based on the selected algorithm
+        // Show the parameters of the selected algorithm, keeping what was entered for the previous one
         algorithmComboBox.addActionListener(_ -> {
-            String selectedAlgo = (String) algorithmComboBox.getSelectedItem();
-            boolean isRoundRobin = "Round Robin".equals(selectedAlgo);
-            lblQuantumTime.setVisible(isRoundRobin);
-            tfQuantumTime.setVisible(isRoundRobin);
-        });
-
-        // Update quantum time in the Round Robin algorithm when running
-        btnRunScheduler.addActionListener(_ -> {
-            if ("Round Robin".equals(algorithmComboBox.getSelectedItem())) {
+            int selected = algorithmComboBox.getSelectedIndex();
+            if (selected >= 0 && providers.get(selected) != selectedProvider) {
                 try {
-                    int quantumTime = Integer.parseInt(tfQuantumTime.getText().trim());
-                    if (quantumTime <= 0) {
-                        JOptionPane.showMessageDialog(this, "Quantum Time must be positive.", "Input Error", JOptionPane.ERROR_MESSAGE);
-                        return;
-                    }
-                    RoundRobinSchedulingAlgorithm rrAlgorithm = (RoundRobinSchedulingAlgorithm) availableAlgorithms.get("Round Robin");
-                    rrAlgorithm.setQuantumTime(quantumTime);
-                } catch (NumberFormatException ex) {
-                    JOptionPane.showMessageDialog(this, "Please enter a valid number for Quantum Time.", "Input Error", JOptionPane.ERROR_MESSAGE);
-                    return;
+                    readSettings();
+                } catch (IllegalArgumentException ex) {
+                    // Invalid entries are dropped; the previous settings stay
                 }
+                showParameters(providers.get(selected));
             }
-            runSelectedAlgorithm();
         });
 
+        btnRunScheduler.addActionListener(_ -> runSelectedAlgorithm());
+
         // Frame properties
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         pack();
         setLocationRelativeTo(null);
         setVisible(true);
+
+        if (!algorithmRegistry.problems().isEmpty()) {
+            JOptionPane.showMessageDialog(this, "Some algorithm plugins were skipped:\n"
+                    + String.join("\n", algorithmRegistry.problems()), "Algorithm Plugins", JOptionPane.WARNING_MESSAGE);
+        }
     }
 
-    private void loadAlgorithms() {
-        // Add FCFS
-        SchedulingAlgorithm fcfs = new FCFSSchedulingAlgorithm();
-        availableAlgorithms.put(fcfs.getName(), fcfs);
+    /**
+     * Replaces the parameter fields with those of an algorithm, filled with its current settings.
+     */
+    private void showParameters(AlgorithmProvider provider) {
+        selectedProvider = provider;
+        parameterPanel.removeAll();
+        parameterFields.clear();
+        AlgorithmSettings settings = settingsOf(provider);
+        for (AlgorithmParameter<?> parameter : provider.parameters()) {
+            JTextField field = new JTextField(formatSetting(settings, parameter), 5);
+            parameterPanel.add(new JLabel(parameter.label() + ":"));
+            parameterPanel.add(field);
+            parameterFields.put(parameter, field);
+        }
+        parameterPanel.revalidate();
+        parameterPanel.repaint();
+    }
 
-        // Add SJF
-        SchedulingAlgorithm sjf = new SJFSchedulingAlgorithm();
-        availableAlgorithms.put(sjf.getName(), sjf);
+    private static <T> String formatSetting(AlgorithmSettings settings, AlgorithmParameter<T> parameter) {
+        return parameter.format(settings.get(parameter));
+    }
 
-        // Add Priority non-preemptive
-        SchedulingAlgorithm priority = new PrioritySchedulingAlgorithm();
-        availableAlgorithms.put(priority.getName(), priority);
+    private AlgorithmSettings settingsOf(AlgorithmProvider provider) {
+        return algorithmSettings.getOrDefault(provider, AlgorithmSettings.DEFAULTS);
+    }
+
+    /**
+     * Stores the values in the parameter fields as the settings of the selected algorithm.
+     * @throws IllegalArgumentException If a value is not valid; the stored settings are unchanged.
+     */
+    private void readSettings() {
+        if (selectedProvider == null) {
+            return;
+        }
+        AlgorithmSettings settings = settingsOf(selectedProvider);
+        for (Map.Entry<AlgorithmParameter<?>, JTextField> entry : parameterFields.entrySet()) {
+            AlgorithmParameter<?> parameter = entry.getKey();
+            try {
+                settings = settings.withText(parameter, entry.getValue().getText());
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException(parameter.label() + ": " + ex.getMessage(), ex);
+            }
+        }
+        // Checks the values together, such as an MLFQ with too many levels
+        selectedProvider.create(settings);
+        algorithmSettings.put(selectedProvider, settings);
+    }
 
-        // Add Round Robin
-        SchedulingAlgorithm roundRobin = new RoundRobinSchedulingAlgorithm();
-        availableAlgorithms.put(roundRobin.getName(), roundRobin);
+    /**
+     * Stores the entered parameters; shows an error and returns false if one is not valid.
+     */
+    private boolean readSettingsOrShowError() {
+        try {
+            readSettings();
+            return true;
+        } catch (IllegalArgumentException ex) {
+            JOptionPane.showMessageDialog(this, ex.getMessage(), "Input Error", JOptionPane.ERROR_MESSAGE);
+            return false;
+        }
     }
 
     private void addProcess() {
         try {
             int burstTime = Integer.parseInt(tfBurstTime.getText().trim());
             int priority = Integer.parseInt(tfPriority.getText().trim());
+            int arrivalTime = Integer.parseInt(tfArrivalTime.getText().trim());
 
             if (burstTime <= 0) {
                 JOptionPane.showMessageDialog(this, "Burst Time must be positive.", "Input Error", JOptionPane.ERROR_MESSAGE);
                 return;
             }
+            if (arrivalTime < 0) {
+                JOptionPane.showMessageDialog(this, "Arrival Time cannot be negative.", "Input Error", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
 
-            Process newProcess = new Process(nextProcessId, burstTime, priority);
-            processList.add(newProcess);
-
-            inputTableModel.addRow(new Object[]{
-                    newProcess.getProcessId(),
-                    newProcess.getBurstTime(),
-                    newProcess.getPriority(),
-                    newProcess.getArrivalTime()
-            });
+            processes.add(nextProcessId, burstTime, priority, arrivalTime);
+            inputTableModel.processAdded();
 
             nextProcessId++;
             tfProcessId.setText(String.valueOf(nextProcessId));
             tfBurstTime.setText("");
             tfPriority.setText("");
+            tfArrivalTime.setText("0");
             tfBurstTime.requestFocus();
 
         } catch (NumberFormatException ex) {
-            JOptionPane.showMessageDialog(this, "Please enter valid numbers for Burst Time and Priority.", "Input Error", JOptionPane.ERROR_MESSAGE);
+            JOptionPane.showMessageDialog(this, "Please enter valid numbers for Burst Time, Priority and Arrival Time.", "Input Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    private void generateWorkload() {
+        JTextField tfCount = new JTextField("100000", 8);
+        JTextField tfSeed = new JTextField("1", 8);
+        JComboBox<String> arrivalBox = new JComboBox<>(new String[]{"Poisson", "Bursty (MMPP)"});
+        JTextField tfInterarrival = new JTextField("10", 8);
+        JComboBox<String> burstBox = new JComboBox<>(new String[]{"Exponential", "Pareto (heavy tail)"});
+        JTextField tfMeanBurst = new JTextField("8", 8);
+        JTextField tfPriorities = new JTextField("10", 8);
+        JPanel form = new JPanel(new GridLayout(0, 2, 5, 5));
+        form.add(new JLabel("Processes:"));
+        form.add(tfCount);
+        form.add(new JLabel("Seed:"));
+        form.add(tfSeed);
+        form.add(new JLabel("Arrivals:"));
+        form.add(arrivalBox);
+        form.add(new JLabel("Mean Interarrival Time:"));
+        form.add(tfInterarrival);
+        form.add(new JLabel("Bursts:"));
+        form.add(burstBox);
+        form.add(new JLabel("Mean / Minimum Burst:"));
+        form.add(tfMeanBurst);
+        form.add(new JLabel("Priorities (1 to):"));
+        form.add(tfPriorities);
+        if (JOptionPane.showConfirmDialog(this, form, "Generate Workload", JOptionPane.OK_CANCEL_OPTION,
+                JOptionPane.PLAIN_MESSAGE) != JOptionPane.OK_OPTION) {
+            return;
         }
+
+        WorkloadGenerator generator;
+        int count;
+        long seed;
+        try {
+            count = Integer.parseInt(tfCount.getText().trim());
+            seed = Long.parseLong(tfSeed.getText().trim());
+            double interarrival = Double.parseDouble(tfInterarrival.getText().trim());
+            double meanBurst = Double.parseDouble(tfMeanBurst.getText().trim());
+            int lowestPriority = Integer.parseInt(tfPriorities.getText().trim());
+            if (count <= 0 || !(interarrival > 0) || !(meanBurst >= 1) || lowestPriority < 1) {
+                JOptionPane.showMessageDialog(this, "Processes, interarrival time, burst and priorities must be positive.", "Input Error", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
+            // The bursty process alternates quiet spells at a fifth of the mean rate with bursts at five times it
+            ArrivalProcess arrivals = arrivalBox.getSelectedIndex() == 0
+                    ? ArrivalProcess.poisson(1 / interarrival)
+                    : ArrivalProcess.mmpp(new double[]{0.2 / interarrival, 5 / interarrival},
+                    new double[]{400 * interarrival, 16 * interarrival});
+            BurstDistribution bursts = burstBox.getSelectedIndex() == 0
+                    ? BurstDistribution.exponential(meanBurst)
+                    : BurstDistribution.pareto(1.5, (int) meanBurst, (int) Math.min(Integer.MAX_VALUE / 4, meanBurst * 10_000));
+            generator = new WorkloadGenerator(arrivals, bursts, PriorityMix.uniform(1, lowestPriority));
+        } catch (IllegalArgumentException ex) { // Includes NumberFormatException
+            JOptionPane.showMessageDialog(this, "Please enter valid numbers: " + ex.getMessage(), "Input Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        startWorker(new GenerateWorker(generator, count, seed));
+    }
+
+    private void loadTrace() {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle("Load Trace (CSV: pid,arrival,burst,priority, or binary)");
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        startWorker(new TraceLoadWorker(chooser.getSelectedFile()));
+    }
+
+    private void saveResults() {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle("Save Results (binary result file)");
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        startWorker(new ResultSaveWorker(lastAlgorithmName, lastResult, chooser.getSelectedFile()));
     }
 
     private void runSelectedAlgorithm() {
-        if (processList.isEmpty()) {
+        if (processes.size() == 0) {
             JOptionPane.showMessageDialog(this, "No processes to schedule. Please add processes first.", "Scheduling Error", JOptionPane.WARNING_MESSAGE);
             return;
         }
 
-        String selectedAlgoName = (String) algorithmComboBox.getSelectedItem();
-
-        if (selectedAlgoName == null) {
+        if (selectedProvider == null) {
             JOptionPane.showMessageDialog(this, "Please select an algorithm.", "Algorithm Error", JOptionPane.ERROR_MESSAGE);
             return;
         }
+        if (!readSettingsOrShowError()) {
+            return;
+        }
+        SchedulingAlgorithm algorithm = selectedProvider.create(settingsOf(selectedProvider));
+        ContextSwitchCost switchCost = readSwitchCost();
+        if (switchCost == null) {
+            return;
+        }
+
+        // Snapshot the processes on the EDT; the worker only reads the columns
+        Workload workload = processes.build();
+
+        lastResult = null;
+        resultsTableModel.setResult(null);
+        ganttCanvas.setGantt(null);
+        statisticsArea.setText("");
+        startWorker(new SchedulerWorker(algorithm, workload, switchCost));
+    }
+
+    private void compareAllAlgorithms() {
+        if (processes.size() == 0) {
+            JOptionPane.showMessageDialog(this, "No processes to schedule. Please add processes first.", "Scheduling Error", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
 
-        SchedulingAlgorithm algorithm = availableAlgorithms.get(selectedAlgoName);
+        if (!readSettingsOrShowError()) {
+            return;
+        }
+        ContextSwitchCost switchCost = readSwitchCost();
+        if (switchCost == null) {
+            return;
+        }
+
+        // Every algorithm runs with its current settings, in parallel over the same read-only columns
+        List<SchedulingAlgorithm> algorithms = new ArrayList<>();
+        for (AlgorithmProvider provider : providers) {
+            algorithms.add(provider.create(settingsOf(provider)));
+        }
+        Workload workload = processes.build();
+        startWorker(new ComparisonWorker(algorithms, workload, switchCost));
+    }
 
-        if (algorithm == null) { // Should not happen if ComboBox is populated correctly
-            JOptionPane.showMessageDialog(this, "Selected algorithm not found.", "Internal Error", JOptionPane.ERROR_MESSAGE);
+    private void tuneQuantum() {
+        if (processes.size() == 0) {
+            JOptionPane.showMessageDialog(this, "No processes to schedule. Please add processes first.", "Scheduling Error", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        ContextSwitchCost switchCost = readSwitchCost();
+        if (switchCost == null) {
             return;
         }
 
-        // The algorithm implementation (e.g., FCFSSchedulingAlgorithm) now handles creating copies
-        // of processes if needed, so we can pass the GUI's processList.
-        // Or, for ultimate safety ensure copies are made before calling, as done in FCFS impl.
-        SchedulerResult result = algorithm.schedule(new ArrayList<>(processList)); // Pass a copy of the list
-
-
-        // Clear previous results from GUI
-        resultsTableModel.setRowCount(0);
-        ganttChartArea.setText("");
-
-        // Populate results table
-        if (result != null && result.completedProcesses() != null) {
-            for (Process p : result.completedProcesses()) {
-                resultsTableModel.addRow(new Object[]{
-                        p.getProcessId(),
-                        p.getPriority(),
-                        p.getBurstTime(),
-                        p.getArrivalTime(),
-                        p.getStartTime(),
-                        p.getCompletionTime(),
-                        p.getResponseTime(),
-                        p.getWaitingTime(),
-                        p.getTurnaroundTime(),
-                        p.getState()
+        Workload workload = processes.build();
+        int longestBurst = 1;
+        for (int row = 0; row < workload.size(); row++) {
+            longestBurst = Math.max(longestBurst, workload.burstTime(row));
+        }
+        // Quanta beyond the longest burst all behave like FCFS
+        List<SchedulingAlgorithm> candidates = new ArrayList<>(
+                ParameterTuner.roundRobinCandidates(QuantumSweep.range(1, Math.min(longestBurst, 100), 1)));
+        candidates.addAll(ParameterTuner.mlfqCandidates(new int[][]{{2, 4, 8}, {1, 4, 16}, {4, 8, 16}},
+                new long[]{25, 50, 100, 400}));
+        startWorker(new TuningWorker(candidates, workload, switchCost));
+    }
+
+    /**
+     * Reads the switch cost field as a dispatch latency; shows an error and returns null if it is
+     * not a non-negative number.
+     */
+    private ContextSwitchCost readSwitchCost() {
+        try {
+            int latency = Integer.parseInt(tfSwitchCost.getText().trim());
+            if (latency >= 0) {
+                return latency == 0 ? ContextSwitchCost.NONE : ContextSwitchCost.dispatch(latency);
+            }
+        } catch (IllegalArgumentException ex) {
+            // Reported below, like a negative cost
+        }
+        JOptionPane.showMessageDialog(this, "Switch Cost must be a non-negative number.", "Input Error", JOptionPane.ERROR_MESSAGE);
+        return null;
+    }
+
+    private void startWorker(SwingWorker<?, ?> worker) {
+        activeWorker = worker;
+        btnRunScheduler.setEnabled(false);
+        btnCompareAlgorithms.setEnabled(false);
+        btnTuneQuantum.setEnabled(false);
+        btnLoadTrace.setEnabled(false);
+        btnGenerate.setEnabled(false);
+        btnSaveResults.setEnabled(false);
+        btnCancel.setEnabled(true);
+        progressBar.setValue(0);
+        progressBar.setString("Starting...");
+        worker.addPropertyChangeListener(e -> {
+            if ("progress".equals(e.getPropertyName()) && activeWorker == worker) {
+                progressBar.setValue((Integer) e.getNewValue());
+            }
+        });
+        worker.execute();
+    }
+
+    private void finishWorker(String status) {
+        activeWorker = null;
+        btnRunScheduler.setEnabled(true);
+        btnCompareAlgorithms.setEnabled(true);
+        btnTuneQuantum.setEnabled(true);
+        btnLoadTrace.setEnabled(true);
+        btnGenerate.setEnabled(true);
+        btnSaveResults.setEnabled(lastResult != null);
+        btnCancel.setEnabled(false);
+        progressBar.setString(status);
+    }
+
+    private void showRunError(ExecutionException ex) {
+        finishWorker("Failed");
+        JOptionPane.showMessageDialog(this, "The run failed: " + ex.getCause().getMessage(), "Scheduling Error", JOptionPane.ERROR_MESSAGE);
+    }
+
+    /**
+     * Runs one algorithm off the EDT, reporting progress while it simulates. The table model reads
+     * the result columns directly, so showing every row costs one table event.
+     */
+    private final class SchedulerWorker extends SwingWorker<EngineResult, Void> {
+        private final SchedulingAlgorithm algorithm;
+        private final Workload workload;
+        private final ContextSwitchCost switchCost;
+
+        SchedulerWorker(SchedulingAlgorithm algorithm, Workload workload, ContextSwitchCost switchCost) {
+            this.algorithm = algorithm;
+            this.workload = workload;
+            this.switchCost = switchCost;
+        }
+
+        @Override
+        protected EngineResult doInBackground() {
+            int n = workload.size();
+            RunOptions options = RunOptions.WITH_GANTT.withSwitchCost(switchCost).withProgress((events, time, completed) -> {
+                setProgress((int) (completed * 100L / n));
+                String status = String.format("%s: %,d events, simulated time %,d", algorithm.getName(), events, time);
+                SwingUtilities.invokeLater(() -> {
+                    if (activeWorker == this) {
+                        progressBar.setString(status);
+                    }
                 });
+            });
+            return resultCache.simulate(algorithm, workload, options);
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                finishWorker("Cancelled");
+                return;
+            }
+            try {
+                EngineResult result = get();
+                resultsTableModel.setResult(result);
+                progressBar.setValue(100);
+                ganttCanvas.setGantt(result.gantt());
+                statisticsArea.setText(result.toSchedulerResult().statistics());
+                lastResult = result;
+                lastAlgorithmName = algorithm.getName();
+                finishWorker(algorithm.getName() + ": done");
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException ex) {
+                showRunError(ex);
+            }
+        }
+    }
+
+    /**
+     * Reads a trace file off the EDT into fresh columns, which replace the process queue once
+     * the whole file has been read.
+     */
+    private final class TraceLoadWorker extends SwingWorker<WorkloadBuilder, Void> {
+        private final File file;
+
+        TraceLoadWorker(File file) {
+            this.file = file;
+        }
+
+        @Override
+        protected WorkloadBuilder doInBackground() throws IOException {
+            long size = Math.max(1, file.length());
+            WorkloadBuilder loaded = new WorkloadBuilder();
+            WorkloadReader.stream(file.toPath(),
+                    (pid, arrival, burst, priority) -> loaded.add(pid, burst, priority, arrival),
+                    bytesRead -> setProgress((int) (bytesRead * 100 / size)));
+            return loaded;
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                finishWorker("Cancelled");
+                return;
+            }
+            try {
+                processes = get();
+                inputTableModel.setProcesses(processes);
+                int maxId = 0;
+                for (int row = 0; row < processes.size(); row++) {
+                    maxId = Math.max(maxId, processes.processId(row));
+                }
+                nextProcessId = maxId + 1;
+                tfProcessId.setText(String.valueOf(nextProcessId));
+                finishWorker(String.format("Loaded %,d processes from %s", processes.size(), file.getName()));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException ex) {
+                showRunError(ex);
+            }
+        }
+    }
+
+    /**
+     * Generates a synthetic workload off the EDT and replaces the process list with it.
+     */
+    private final class GenerateWorker extends SwingWorker<WorkloadBuilder, Void> {
+        private final WorkloadGenerator generator;
+        private final int count;
+        private final long seed;
+
+        GenerateWorker(WorkloadGenerator generator, int count, long seed) {
+            this.generator = generator;
+            this.count = count;
+            this.seed = seed;
+        }
+
+        @Override
+        protected WorkloadBuilder doInBackground() {
+            Workload workload = generator.generate(count, seed);
+            WorkloadBuilder generated = new WorkloadBuilder(count);
+            for (int row = 0; row < count; row++) {
+                generated.add(workload.processId(row), workload.burstTime(row), workload.priority(row),
+                        workload.arrivalTime(row));
+            }
+            return generated;
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                finishWorker("Cancelled");
+                return;
+            }
+            try {
+                processes = get();
+                inputTableModel.setProcesses(processes);
+                nextProcessId = count + 1; // Generated ids run from 1 to count
+                tfProcessId.setText(String.valueOf(nextProcessId));
+                finishWorker(String.format("Generated %,d processes (seed %d)", count, seed));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException ex) {
+                showRunError(ex);
+            }
+        }
+    }
+
+    /**
+     * Writes the last result, with its Gantt slices, to a binary result file off the EDT.
+     */
+    private final class ResultSaveWorker extends SwingWorker<Void, Void> {
+        private final String algorithmName;
+        private final EngineResult result;
+        private final File file;
+
+        ResultSaveWorker(String algorithmName, EngineResult result, File file) {
+            this.algorithmName = algorithmName;
+            this.result = result;
+            this.file = file;
+        }
+
+        @Override
+        protected Void doInBackground() throws IOException {
+            ResultFileWriter.write(algorithmName, result, file.toPath());
+            return null;
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                finishWorker("Cancelled");
+                return;
+            }
+            try {
+                get();
+                finishWorker("Saved results to " + file.getName());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException ex) {
+                showRunError(ex);
+            }
+        }
+    }
+
+    /**
+     * Runs every registered algorithm off the EDT and shows the side-by-side table when done.
+     */
+    private final class ComparisonWorker extends SwingWorker<List<AlgorithmComparison.Row>, Void> {
+        private final List<SchedulingAlgorithm> algorithms;
+        private final Workload workload;
+        private final ContextSwitchCost switchCost;
+
+        ComparisonWorker(List<SchedulingAlgorithm> algorithms, Workload workload, ContextSwitchCost switchCost) {
+            this.algorithms = algorithms;
+            this.workload = workload;
+            this.switchCost = switchCost;
+        }
+
+        @Override
+        protected List<AlgorithmComparison.Row> doInBackground() {
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                return AlgorithmComparison.run(workload, algorithms, RunOptions.HEADLESS.withSwitchCost(switchCost),
+                        resultCache, executor);
+            }
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                finishWorker("Cancelled");
+                return;
+            }
+            List<AlgorithmComparison.Row> rows;
+            try {
+                rows = get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException ex) {
+                showRunError(ex);
+                return;
+            }
+            finishWorker("Comparison done");
+
+            DefaultTableModel comparisonModel = new DefaultTableModel(AlgorithmComparison.COLUMN_NAMES, 0);
+            for (AlgorithmComparison.Row row : rows) {
+                comparisonModel.addRow(AlgorithmComparison.toCells(row));
+            }
+            JTable comparisonTable = new JTable(comparisonModel);
+            comparisonTable.setAutoResizeMode(JTable.AUTO_RESIZE_OFF);
+            JScrollPane comparisonScrollPane = new JScrollPane(comparisonTable);
+            comparisonScrollPane.setPreferredSize(new Dimension(900, 200));
+
+            // The rows are named without parameters, so list the settings each algorithm ran with
+            List<String> configurations = new ArrayList<>();
+            for (SchedulingAlgorithm algorithm : algorithms) {
+                if (!algorithm.getConfiguration().equals(algorithm.getName())) {
+                    configurations.add(algorithm.getConfiguration());
+                }
             }
-            ganttChartArea.setText(result.ganttChart()); // Gantt chart string now includes averages
-        } else {
-            ganttChartArea.setText("Error: Algorithm did not return valid results.");
+            JPanel comparisonPanel = new JPanel(new BorderLayout(0, 5));
+            comparisonPanel.add(comparisonScrollPane, BorderLayout.CENTER);
+            if (!configurations.isEmpty()) {
+                JTextArea settingsArea = new JTextArea(String.join("\n", configurations));
+                settingsArea.setEditable(false);
+                settingsArea.setOpaque(false);
+                comparisonPanel.add(settingsArea, BorderLayout.SOUTH);
+            }
+            JOptionPane.showMessageDialog(CPUSchedulerGUI.this, comparisonPanel, "Algorithm Comparison",
+                    JOptionPane.PLAIN_MESSAGE);
+        }
+    }
+
+    /**
+     * Searches Round Robin quanta and MLFQ settings off the EDT for the lowest p99 response time,
+     * shows the Pareto front against mean turnaround, and enters the best settings found for each
+     * algorithm.
+     */
+    private final class TuningWorker extends SwingWorker<ParameterTuner.Report, Void> {
+        private final List<SchedulingAlgorithm> candidates;
+        private final Workload workload;
+        private final ContextSwitchCost switchCost;
+
+        TuningWorker(List<SchedulingAlgorithm> candidates, Workload workload, ContextSwitchCost switchCost) {
+            this.candidates = candidates;
+            this.workload = workload;
+            this.switchCost = switchCost;
+        }
+
+        @Override
+        protected ParameterTuner.Report doInBackground() {
+            return new ParameterTuner(ParameterTuner.Objective.P99_RESPONSE, ParameterTuner.Objective.MEAN_TURNAROUND,
+                    ParameterTuner.Objective.CONTEXT_SWITCHES).withSwitchCost(switchCost).tune(workload, candidates);
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                finishWorker("Cancelled");
+                return;
+            }
+            ParameterTuner.Report report;
+            try {
+                report = get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException ex) {
+                showRunError(ex);
+                return;
+            }
+            finishWorker("Tuning done");
+
+            // Finalists are sorted by p99 response time, so the first one of each algorithm is its best
+            Set<AlgorithmProvider> tuned = new HashSet<>();
+            for (ParameterTuner.Candidate candidate : report.finalists()) {
+                AlgorithmProvider provider = algorithmRegistry.providerOf(candidate.algorithm());
+                if (provider != null && tuned.add(provider)) {
+                    algorithmSettings.put(provider, provider.settingsOf(candidate.algorithm()));
+                }
+            }
+            if (tuned.contains(selectedProvider)) {
+                showParameters(selectedProvider);
+            }
+
+            List<ParameterTuner.Objective> objectives = report.objectives();
+            String[] columns = new String[objectives.size() + 1];
+            columns[0] = "Configuration";
+            for (int i = 0; i < objectives.size(); i++) {
+                columns[i + 1] = objectives.get(i).getLabel();
+            }
+            DefaultTableModel frontModel = new DefaultTableModel(columns, 0);
+            for (ParameterTuner.Candidate candidate : report.paretoFront()) {
+                Object[] cells = new Object[columns.length];
+                cells[0] = candidate.algorithm().getConfiguration();
+                for (int i = 0; i < objectives.size(); i++) {
+                    cells[i + 1] = String.format("%.2f", candidate.score(i));
+                }
+                frontModel.addRow(cells);
+            }
+            JTable frontTable = new JTable(frontModel);
+            JScrollPane frontScrollPane = new JScrollPane(frontTable);
+            frontScrollPane.setPreferredSize(new Dimension(800, 200));
+
+            JOptionPane.showMessageDialog(CPUSchedulerGUI.this, frontScrollPane,
+                    "Pareto Front (" + report.finalists().size() + " of " + candidates.size()
+                            + " configurations ran on every process)",
+                    JOptionPane.PLAIN_MESSAGE);
         }
     }
 
+    /**
+     * Creates the result cache: 256 MB in memory, plus up to 1 GB of files in the directory named by
+     * the {@code cpuscheduler.cache.dir} system property if it is set.
+     */
+    private static ResultCache createResultCache() {
+        String directory = System.getProperty("cpuscheduler.cache.dir");
+        if (directory == null || directory.isBlank()) {
+            return new ResultCache(256L << 20);
+        }
+        return new ResultCache(256L << 20, Path.of(directory), 1L << 30);
+    }
 
     public static void main(String[] args) {
         // Ensure setVisible(true) is called in constructor or here
@@ -0,0 +1,108 @@
+package cpuscheduler;
+
+import java.util.Arrays;
+
+/**
+ * The execution timeline of a scheduling run as a compact list of (process id, start, end) slices.
+ * Slices are stored in primitive arrays and only turned into text when {@link #render()} is called.
+ */
+public final class GanttChart {
+    private int[] processIds;
+    private int[] starts;
+    private int[] ends;
+    private int size;
+
+    public GanttChart() {
+        this(16);
+    }
+
+    public GanttChart(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        processIds = new int[capacity];
+        starts = new int[capacity];
+        ends = new int[capacity];
+    }
+
+    /**
+     * Appends a slice in which the given process ran on the CPU.
+     * @param processId The process that ran.
+     * @param start The time the slice began.
+     * @param end The time the slice ended.
+     */
+    public void add(int processId, int start, int end) {
+        if (size == processIds.length) {
+            int capacity = size * 2;
+            processIds = Arrays.copyOf(processIds, capacity);
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+        }
+        processIds[size] = processId;
+        starts[size] = start;
+        ends[size] = end;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int processId(int slice) {
+        return processIds[slice];
+    }
+
+    public int start(int slice) {
+        return starts[slice];
+    }
+
+    public int end(int slice) {
+        return ends[slice];
+    }
+
+    /**
+     * Finds the first slice that ends after the given time. Slices are appended in time order
+     * by a single-CPU run, so this is a binary search.
+     * @param time The time to look up.
+     * @return The slice index, or size() if every slice ends at or before the time.
+     */
+    public int firstSliceEndingAfter(double time) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ends[mid] <= time) {
+                lo = mid + 1;
+            }
+            else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Renders the chart as two lines: the process slices and the time at the end of each slice.
+     * Gaps in which no process was ready are shown as IDLE slices.
+     * @return The text Gantt chart.
+     */
+    public String render() {
+        StringBuilder chart = new StringBuilder("|");
+        StringBuilder timing = new StringBuilder("0");
+        int previousEnd = 0;
+        for (int i = 0; i < size; i++) {
+            if (starts[i] > previousEnd) {
+                appendSlice(chart, timing, " IDLE (", starts[i] - previousEnd, starts[i]);
+            }
+            appendSlice(chart, timing, " P" + processIds[i] + " (", ends[i] - starts[i], ends[i]);
+            previousEnd = ends[i];
+        }
+        return chart + "\n" + timing;
+    }
+
+    private static void appendSlice(StringBuilder chart, StringBuilder timing, String label, int length, int end) {
+        int width = chart.length();
+        chart.append(label).append(length).append(") |");
+        String endText = Integer.toString(end);
+        timing.repeat(' ', Math.max(0, chart.length() - width - endText.length()));
+        timing.append(endText);
+    }
+}
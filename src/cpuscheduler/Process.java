@@ -1,6 +1,12 @@
 package cpuscheduler;
 
 public class Process {
+    // Process states
+    public static final String READY = "Ready";
+    public static final String RUNNING = "Running";
+    public static final String BLOCKED = "Blocked"; // Waiting for or doing I/O
+    public static final String TERMINATED = "Terminated";
+
     private final int processId;
     private final int priority;
     private final int arrivalTime;
@@ -15,11 +21,15 @@ public class Process {
     private int completionTime;
 
     public Process(int processId, int burstTime, int priority) {
+        this(processId, burstTime, priority, 0);
+    }
+
+    public Process(int processId, int burstTime, int priority, int arrivalTime) {
         this.processId = processId;
         this.burstTime = burstTime;
         this.priority = priority;
-        this.arrivalTime = 0; // Requirement: all processes arrive at time 0
-        this.state = "Ready"; // Initial state
+        this.arrivalTime = arrivalTime;
+        this.state = READY; // Initial state
     }
 
     // Getters
@@ -90,7 +100,7 @@ public class Process {
 
     @Override
     public String toString() {
-        return "P" + processId + " (BT:" + burstTime + ", Prio:" + priority + ")";
+        return "P" + processId + " (BT:" + burstTime + ", Prio:" + priority + ", AT:" + arrivalTime + ")";
     }
 
 
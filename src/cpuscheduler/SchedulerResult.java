@@ -1,9 +1,34 @@
 package cpuscheduler;
 
+import cpuscheduler.metrics.SchedulingMetrics;
+
 import java.util.List;
 
 /**
- * @param ganttChart This string can include the chart and average times
+ * @param gantt The execution slices; rendered to text only when {@link #ganttChart()} is read
+ * @param metrics Latency percentiles, throughput and CPU utilisation of the run
  */
-public record SchedulerResult(List<Process> completedProcesses, String ganttChart) {
+public record SchedulerResult(List<Process> completedProcesses, GanttChart gantt,
+                              double averageWaitingTime, double averageTurnaroundTime, double averageResponseTime,
+                              int contextSwitches, SchedulingMetrics metrics) {
+
+    /**
+     * Renders the Gantt chart followed by the average times and the context-switch count.
+     * @return The chart and statistics text shown in the GUI.
+     */
+    public String ganttChart() {
+        return gantt.render() + "\n\n" + statistics();
+    }
+
+    /**
+     * Renders the average times, the context-switch count and the metrics summary, one per line.
+     * @return The statistics text.
+     */
+    public String statistics() {
+        return String.format("Average Waiting Time: %.2f", averageWaitingTime)
+                + String.format("\nAverage Turnaround Time: %.2f", averageTurnaroundTime)
+                + String.format("\nAverage Response Time: %.2f", averageResponseTime)
+                + "\nContext Switches: " + contextSwitches
+                + "\n" + metrics.summary();
+    }
 }
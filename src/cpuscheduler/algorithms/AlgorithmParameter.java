@@ -0,0 +1,152 @@
+package cpuscheduler.algorithms;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Describes one typed parameter of an algorithm, such as the Round Robin quantum: its key in
+ * specifications like {@code rr:quantum=4}, its label in the GUI, its type and default, and how it
+ * is parsed from and formatted to text. Descriptors are immutable and compared by identity, so an
+ * algorithm declares each one once as a constant.
+ *
+ * @param <T> The type of the value
+ */
+public final class AlgorithmParameter<T> {
+    private final String key;
+    private final String label;
+    private final Class<T> type;
+    private final T defaultValue;
+    private final Function<String, T> parser;
+    private final Function<T, String> formatter;
+    // Copies mutable values, so neither callers nor settings can change a stored one
+    private final UnaryOperator<T> copier;
+
+    private AlgorithmParameter(String key, String label, Class<T> type, T defaultValue, Function<String, T> parser,
+                               Function<T, String> formatter, UnaryOperator<T> copier) {
+        if (key.isEmpty() || !key.chars().allMatch(c -> Character.isLowerCase(c) || Character.isDigit(c) || c == '-')) {
+            throw new IllegalArgumentException("Parameter key '" + key + "' must be lower-case letters, digits and '-'.");
+        }
+        this.key = key;
+        this.label = label;
+        this.type = type;
+        this.defaultValue = copier.apply(defaultValue);
+        this.parser = parser;
+        this.formatter = formatter;
+        this.copier = copier;
+    }
+
+    /**
+     * An integer parameter.
+     * @param key The key in specifications, in lower case.
+     * @param label The label shown in the GUI.
+     * @param defaultValue The value when the parameter is not given.
+     * @param min The smallest valid value.
+     */
+    public static AlgorithmParameter<Integer> integer(String key, String label, int defaultValue, int min) {
+        return new AlgorithmParameter<>(key, label, Integer.class, defaultValue, text -> {
+            int value = parseInt(text, key);
+            if (value < min) {
+                throw new IllegalArgumentException("Parameter " + key + " must be at least " + min + ", got " + value + ".");
+            }
+            return value;
+        }, String::valueOf, UnaryOperator.identity());
+    }
+
+    /**
+     * A long integer parameter, for times that may exceed the int range.
+     * @param key The key in specifications, in lower case.
+     * @param label The label shown in the GUI.
+     * @param defaultValue The value when the parameter is not given.
+     * @param min The smallest valid value.
+     */
+    public static AlgorithmParameter<Long> longInteger(String key, String label, long defaultValue, long min) {
+        return new AlgorithmParameter<>(key, label, Long.class, defaultValue, text -> {
+            long value;
+            try {
+                value = Long.parseLong(text.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Parameter " + key + " must be an integer, got '" + text + "'.");
+            }
+            if (value < min) {
+                throw new IllegalArgumentException("Parameter " + key + " must be at least " + min + ", got " + value + ".");
+            }
+            return value;
+        }, String::valueOf, UnaryOperator.identity());
+    }
+
+    /**
+     * A list of integers written with '/' between them, such as the MLFQ quanta {@code 2/4/8}.
+     * @param key The key in specifications, in lower case.
+     * @param label The label shown in the GUI.
+     * @param defaultValue The value when the parameter is not given.
+     * @param min The smallest valid element.
+     */
+    public static AlgorithmParameter<int[]> integerList(String key, String label, int[] defaultValue, int min) {
+        return new AlgorithmParameter<>(key, label, int[].class, defaultValue, text -> {
+            String[] parts = text.trim().split("/");
+            int[] values = new int[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                try {
+                    values[i] = Integer.parseInt(parts[i].trim());
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Parameter " + key + " must be integers separated by '/', got '"
+                            + text + "'.");
+                }
+                if (values[i] < min) {
+                    throw new IllegalArgumentException("Every value of parameter " + key + " must be at least " + min
+                            + ", got " + values[i] + ".");
+                }
+            }
+            return values;
+        }, values -> String.join("/", Arrays.stream(values).mapToObj(String::valueOf).toList()), int[]::clone);
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public Class<T> type() {
+        return type;
+    }
+
+    public T defaultValue() {
+        return copier.apply(defaultValue);
+    }
+
+    /**
+     * Parses a value from text.
+     * @throws IllegalArgumentException If the text is not a valid value, with a message naming the key.
+     */
+    public T parse(String text) {
+        return parser.apply(text);
+    }
+
+    /**
+     * Formats a value the way {@link #parse(String)} reads it.
+     */
+    public String format(T value) {
+        return formatter.apply(value);
+    }
+
+    T copy(T value) {
+        return copier.apply(value);
+    }
+
+    private static int parseInt(String text, String key) {
+        try {
+            return Integer.parseInt(text.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Parameter " + key + " must be an integer, got '" + text + "'.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+}
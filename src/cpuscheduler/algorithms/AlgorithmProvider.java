@@ -0,0 +1,57 @@
+package cpuscheduler.algorithms;
+
+import java.util.List;
+
+/**
+ * Creates one kind of scheduling algorithm from its settings. The built-in algorithms have
+ * providers of their own; others ship in separate jars and are found by {@link AlgorithmRegistry}
+ * through {@link java.util.ServiceLoader}, listed in
+ * {@code META-INF/services/cpuscheduler.algorithms.AlgorithmProvider}. A provider needs a public
+ * no-argument constructor and must be safe to call from several threads.
+ *
+ * <p>The algorithm a provider creates schedules through the {@link cpuscheduler.engine.SchedulingPolicy}
+ * it returns from {@link SchedulingAlgorithm#createPolicy()}, so a plugin runs in the same engines as
+ * the built-in algorithms. The registry names each one by provider id and settings, so results
+ * cached for one setting are never returned for another.
+ */
+public interface AlgorithmProvider {
+    /**
+     * Gets the id that selects this algorithm in specifications such as {@code rr:quantum=4}.
+     * @return A unique id of lower-case letters, digits and '-'.
+     */
+    String id();
+
+    /**
+     * Gets the name shown in the GUI.
+     * @return The name of the algorithm at its default settings.
+     */
+    default String displayName() {
+        return create(AlgorithmSettings.DEFAULTS).getName();
+    }
+
+    /**
+     * Gets the parameters the algorithm accepts, in the order the GUI shows them.
+     * @return The parameters; empty if the algorithm has none.
+     */
+    default List<AlgorithmParameter<?>> parameters() {
+        return List.of();
+    }
+
+    /**
+     * Creates the algorithm.
+     * @param settings The parameter values; parameters that are not set take their defaults.
+     * @return The configured algorithm.
+     * @throws IllegalArgumentException If the values are valid one by one but not together.
+     */
+    SchedulingAlgorithm create(AlgorithmSettings settings);
+
+    /**
+     * Reads the settings back from an algorithm this provider created, so a tuned instance can be
+     * shown and edited.
+     * @param algorithm An algorithm.
+     * @return Its settings, or null if this provider did not create it.
+     */
+    default AlgorithmSettings settingsOf(SchedulingAlgorithm algorithm) {
+        return null;
+    }
+}
@@ -0,0 +1,230 @@
+package cpuscheduler.algorithms;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * The scheduling algorithms the GUI and the command line offer: the built-in ones, then any
+ * {@link AlgorithmProvider} found on the class path. Adding an algorithm means shipping a jar with
+ * a provider, not editing the callers.
+ *
+ * <p>A provider that cannot be loaded, or that reuses an id, is left out and reported in
+ * {@link #problems()}, so one broken plugin does not take the others down. A registry is immutable
+ * and can be shared between threads.
+ *
+ * <p>The registry hands out plugin providers wrapped, so that the algorithms they create are
+ * configured by id and settings, such as {@code Lottery (lottery:tickets=20)}. Results are cached
+ * by configuration, and a plugin could otherwise leave {@link SchedulingAlgorithm#getConfiguration()}
+ * at its name and get the results of another setting back.
+ */
+public final class AlgorithmRegistry {
+    private static final AlgorithmRegistry BUILT_IN = new AlgorithmRegistry();
+
+    // By id, in the order the algorithms are offered
+    private final Map<String, AlgorithmProvider> providers = new LinkedHashMap<>();
+    private final List<String> problems = new ArrayList<>();
+
+    private AlgorithmRegistry() {
+        for (BuiltInAlgorithm builtIn : BuiltInAlgorithm.values()) {
+            providers.put(builtIn.id(), builtIn);
+        }
+    }
+
+    /**
+     * Gets the algorithms of this package, without looking for plugins.
+     */
+    public static AlgorithmRegistry builtIn() {
+        return BUILT_IN;
+    }
+
+    /**
+     * Loads the built-in algorithms and the providers visible to the class loader of this class.
+     */
+    public static AlgorithmRegistry load() {
+        return load(AlgorithmRegistry.class.getClassLoader());
+    }
+
+    /**
+     * Loads the built-in algorithms and the providers a class loader finds through
+     * {@code META-INF/services/cpuscheduler.algorithms.AlgorithmProvider}.
+     * @param loader The class loader to search.
+     * @return The registry; see {@link #problems()} for the providers that were left out.
+     */
+    public static AlgorithmRegistry load(ClassLoader loader) {
+        AlgorithmRegistry registry = new AlgorithmRegistry();
+        Iterator<AlgorithmProvider> found = ServiceLoader.load(AlgorithmProvider.class, loader).iterator();
+        while (true) {
+            AlgorithmProvider provider;
+            try {
+                if (!found.hasNext()) {
+                    break;
+                }
+                provider = found.next();
+            } catch (ServiceConfigurationError e) {
+                // The iterator moves on to the next provider after an error
+                registry.problems.add(e.getMessage());
+                continue;
+            }
+            registry.add(provider);
+        }
+        return registry;
+    }
+
+    private void add(AlgorithmProvider provider) {
+        String source = provider.getClass().getName();
+        try {
+            String id = provider.id();
+            if (id == null || id.isEmpty() || !id.chars().allMatch(c -> Character.isLowerCase(c) || Character.isDigit(c)
+                    || c == '-')) {
+                problems.add(source + ": id '" + id + "' must be lower-case letters, digits and '-'.");
+                return;
+            }
+            if (providers.containsKey(id)) {
+                problems.add(source + ": id '" + id + "' is already taken by "
+                        + (providers.get(id) instanceof Plugin plugin ? plugin.provider.getClass().getName()
+                        : "a built-in algorithm") + ".");
+                return;
+            }
+            List<AlgorithmParameter<?>> parameters = List.copyOf(provider.parameters());
+            List<String> keys = new ArrayList<>();
+            for (AlgorithmParameter<?> parameter : parameters) {
+                if (keys.contains(parameter.key())) {
+                    problems.add(source + ": parameter '" + parameter.key() + "' is declared twice.");
+                    return;
+                }
+                keys.add(parameter.key());
+            }
+            providers.put(id, new Plugin(provider, id, parameters));
+        } catch (RuntimeException e) {
+            problems.add(source + ": " + e);
+        }
+    }
+
+    /**
+     * Gets every algorithm, built-in ones first.
+     */
+    public List<AlgorithmProvider> providers() {
+        return List.copyOf(providers.values());
+    }
+
+    /**
+     * Gets the id of every algorithm, built-in ones first.
+     */
+    public List<String> ids() {
+        return List.copyOf(providers.keySet());
+    }
+
+    /**
+     * Gets the provider with an id, ignoring case.
+     * @return The provider, or null if there is none.
+     */
+    public AlgorithmProvider find(String id) {
+        return providers.get(id.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Gets the provider that created an algorithm.
+     * @param algorithm An algorithm.
+     * @return The first provider whose {@link AlgorithmProvider#settingsOf} recognises it, or null.
+     */
+    public AlgorithmProvider providerOf(SchedulingAlgorithm algorithm) {
+        for (AlgorithmProvider provider : providers.values()) {
+            if (provider.settingsOf(algorithm) != null) {
+                return provider;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the providers that were left out when loading, one message each.
+     */
+    public List<String> problems() {
+        return Collections.unmodifiableList(problems);
+    }
+
+    /**
+     * Creates the algorithm a specification of the form {@code id[:key=value]...} describes, for
+     * example {@code rr:quantum=4} or {@code mlfq:quanta=2/4/8:boost=100}. Ids and keys ignore case.
+     * @param spec The specification.
+     * @return The configured algorithm.
+     * @throws IllegalArgumentException If the id, a key or a value is not valid.
+     */
+    public SchedulingAlgorithm parse(String spec) {
+        String[] parts = spec.trim().split(":");
+        AlgorithmProvider provider = find(parts[0]);
+        if (provider == null) {
+            throw new IllegalArgumentException("Unknown algorithm '" + parts[0] + "'; expected one of "
+                    + String.join(", ", providers.keySet()) + ".");
+        }
+        Map<String, String> values = new LinkedHashMap<>();
+        for (int i = 1; i < parts.length; i++) {
+            int eq = parts[i].indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Expected key=value in '" + spec + "', got '" + parts[i] + "'.");
+            }
+            values.put(parts[i].substring(0, eq).toLowerCase(Locale.ROOT), parts[i].substring(eq + 1));
+        }
+        AlgorithmSettings settings = AlgorithmSettings.DEFAULTS;
+        for (AlgorithmParameter<?> parameter : provider.parameters()) {
+            String value = values.remove(parameter.key());
+            if (value != null) {
+                settings = settings.withText(parameter, value);
+            }
+        }
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown parameter(s) " + values.keySet() + " for " + provider.id() + ".");
+        }
+        return provider.create(settings);
+    }
+
+    /**
+     * A plugin provider whose algorithms are configured by id and settings.
+     */
+    private static final class Plugin implements AlgorithmProvider {
+        private final AlgorithmProvider provider;
+        private final String id;
+        private final List<AlgorithmParameter<?>> parameters;
+
+        Plugin(AlgorithmProvider provider, String id, List<AlgorithmParameter<?>> parameters) {
+            this.provider = provider;
+            this.id = id;
+            this.parameters = parameters;
+        }
+
+        @Override
+        public String id() {
+            return id;
+        }
+
+        @Override
+        public String displayName() {
+            return provider.displayName();
+        }
+
+        @Override
+        public List<AlgorithmParameter<?>> parameters() {
+            return parameters;
+        }
+
+        @Override
+        public SchedulingAlgorithm create(AlgorithmSettings settings) {
+            return new PluginAlgorithm(provider.create(settings), this, settings);
+        }
+
+        @Override
+        public AlgorithmSettings settingsOf(SchedulingAlgorithm algorithm) {
+            if (algorithm instanceof PluginAlgorithm plugin) {
+                return plugin.provider() == this ? plugin.settings() : null;
+            }
+            return provider.settingsOf(algorithm);
+        }
+    }
+}
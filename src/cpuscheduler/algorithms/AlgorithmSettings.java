@@ -0,0 +1,59 @@
+package cpuscheduler.algorithms;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The parameter values an {@link AlgorithmProvider} creates an algorithm from. A parameter that
+ * was never set has its default value. Settings are immutable; {@link #with} returns a copy.
+ */
+public final class AlgorithmSettings {
+    /**
+     * Every parameter at its default.
+     */
+    public static final AlgorithmSettings DEFAULTS = new AlgorithmSettings(new IdentityHashMap<>());
+
+    private final Map<AlgorithmParameter<?>, Object> values;
+
+    private AlgorithmSettings(Map<AlgorithmParameter<?>, Object> values) {
+        this.values = values;
+    }
+
+    /**
+     * Gets the value of a parameter, or its default if it was not set.
+     */
+    public <T> T get(AlgorithmParameter<T> parameter) {
+        Object value = values.get(parameter);
+        return value == null ? parameter.defaultValue() : parameter.copy(parameter.type().cast(value));
+    }
+
+    /**
+     * Tells whether a parameter was set, even to its default.
+     */
+    public boolean isSet(AlgorithmParameter<?> parameter) {
+        return values.containsKey(parameter);
+    }
+
+    /**
+     * Returns settings with one more value; these settings are left unchanged.
+     * @param parameter The parameter.
+     * @param value The value, already valid for the parameter.
+     * @return The new settings.
+     */
+    public <T> AlgorithmSettings with(AlgorithmParameter<T> parameter, T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Parameter " + parameter.key() + " must not be null.");
+        }
+        Map<AlgorithmParameter<?>, Object> copy = new IdentityHashMap<>(values);
+        copy.put(parameter, parameter.copy(value));
+        return new AlgorithmSettings(copy);
+    }
+
+    /**
+     * Returns settings with one more value parsed from text; these settings are left unchanged.
+     * @throws IllegalArgumentException If the text is not a valid value of the parameter.
+     */
+    public <T> AlgorithmSettings withText(AlgorithmParameter<T> parameter, String text) {
+        return with(parameter, parameter.parse(text));
+    }
+}
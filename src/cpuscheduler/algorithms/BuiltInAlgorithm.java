@@ -0,0 +1,116 @@
+package cpuscheduler.algorithms;
+
+import java.util.List;
+
+/**
+ * The providers of the algorithms in this package. They create algorithms directly, without
+ * reflection, so the built-in algorithms need no service configuration.
+ */
+enum BuiltInAlgorithm implements AlgorithmProvider {
+    FCFS("fcfs", FCFSSchedulingAlgorithm.class) {
+        @Override
+        public SchedulingAlgorithm create(AlgorithmSettings settings) {
+            return new FCFSSchedulingAlgorithm();
+        }
+    },
+    SJF("sjf", SJFSchedulingAlgorithm.class) {
+        @Override
+        public SchedulingAlgorithm create(AlgorithmSettings settings) {
+            return new SJFSchedulingAlgorithm();
+        }
+    },
+    PRIORITY("priority", PrioritySchedulingAlgorithm.class) {
+        @Override
+        public SchedulingAlgorithm create(AlgorithmSettings settings) {
+            return new PrioritySchedulingAlgorithm();
+        }
+    },
+    SRTF("srtf", SRTFSchedulingAlgorithm.class) {
+        @Override
+        public SchedulingAlgorithm create(AlgorithmSettings settings) {
+            return new SRTFSchedulingAlgorithm();
+        }
+    },
+    PREEMPTIVE_PRIORITY("preemptive-priority", PreemptivePrioritySchedulingAlgorithm.class) {
+        @Override
+        public SchedulingAlgorithm create(AlgorithmSettings settings) {
+            return new PreemptivePrioritySchedulingAlgorithm();
+        }
+    },
+    ROUND_ROBIN("rr", RoundRobinSchedulingAlgorithm.class, RoundRobinSchedulingAlgorithm.QUANTUM) {
+        @Override
+        public SchedulingAlgorithm create(AlgorithmSettings settings) {
+            return new RoundRobinSchedulingAlgorithm(settings.get(RoundRobinSchedulingAlgorithm.QUANTUM));
+        }
+
+        @Override
+        AlgorithmSettings read(SchedulingAlgorithm algorithm) {
+            return AlgorithmSettings.DEFAULTS.with(RoundRobinSchedulingAlgorithm.QUANTUM,
+                    ((RoundRobinSchedulingAlgorithm) algorithm).getQuantumTime());
+        }
+    },
+    MLFQ("mlfq", MLFQSchedulingAlgorithm.class, MLFQSchedulingAlgorithm.QUANTA, MLFQSchedulingAlgorithm.BOOST_PERIOD) {
+        @Override
+        public SchedulingAlgorithm create(AlgorithmSettings settings) {
+            return new MLFQSchedulingAlgorithm(settings.get(MLFQSchedulingAlgorithm.QUANTA),
+                    settings.get(MLFQSchedulingAlgorithm.BOOST_PERIOD));
+        }
+
+        @Override
+        AlgorithmSettings read(SchedulingAlgorithm algorithm) {
+            MLFQSchedulingAlgorithm mlfq = (MLFQSchedulingAlgorithm) algorithm;
+            return AlgorithmSettings.DEFAULTS.with(MLFQSchedulingAlgorithm.QUANTA, mlfq.getQuanta())
+                    .with(MLFQSchedulingAlgorithm.BOOST_PERIOD, mlfq.getBoostPeriod());
+        }
+    },
+    CFS("cfs", CFSSchedulingAlgorithm.class, CFSSchedulingAlgorithm.TARGET_LATENCY,
+            CFSSchedulingAlgorithm.MIN_GRANULARITY, CFSSchedulingAlgorithm.WAKEUP_GRANULARITY) {
+        @Override
+        public SchedulingAlgorithm create(AlgorithmSettings settings) {
+            return new CFSSchedulingAlgorithm(settings.get(CFSSchedulingAlgorithm.TARGET_LATENCY),
+                    settings.get(CFSSchedulingAlgorithm.MIN_GRANULARITY),
+                    settings.get(CFSSchedulingAlgorithm.WAKEUP_GRANULARITY));
+        }
+
+        @Override
+        AlgorithmSettings read(SchedulingAlgorithm algorithm) {
+            CFSSchedulingAlgorithm cfs = (CFSSchedulingAlgorithm) algorithm;
+            return AlgorithmSettings.DEFAULTS.with(CFSSchedulingAlgorithm.TARGET_LATENCY, cfs.getTargetLatency())
+                    .with(CFSSchedulingAlgorithm.MIN_GRANULARITY, cfs.getMinGranularity())
+                    .with(CFSSchedulingAlgorithm.WAKEUP_GRANULARITY, cfs.getWakeupGranularity());
+        }
+    };
+
+    private final String id;
+    // Matched exactly, so a subclass from elsewhere is not mistaken for a built-in algorithm
+    private final Class<? extends SchedulingAlgorithm> type;
+    private final List<AlgorithmParameter<?>> parameters;
+
+    BuiltInAlgorithm(String id, Class<? extends SchedulingAlgorithm> type, AlgorithmParameter<?>... parameters) {
+        this.id = id;
+        this.type = type;
+        this.parameters = List.of(parameters);
+    }
+
+    @Override
+    public String id() {
+        return id;
+    }
+
+    @Override
+    public List<AlgorithmParameter<?>> parameters() {
+        return parameters;
+    }
+
+    @Override
+    public AlgorithmSettings settingsOf(SchedulingAlgorithm algorithm) {
+        return algorithm.getClass() == type ? read(algorithm) : null;
+    }
+
+    /**
+     * Reads the settings of an algorithm of this provider's type.
+     */
+    AlgorithmSettings read(SchedulingAlgorithm algorithm) {
+        return AlgorithmSettings.DEFAULTS;
+    }
+}
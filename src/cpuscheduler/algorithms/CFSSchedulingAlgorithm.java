@@ -0,0 +1,67 @@
+package cpuscheduler.algorithms;
+
+import cpuscheduler.engine.CFSPolicy;
+import cpuscheduler.engine.SchedulingPolicy;
+
+public class CFSSchedulingAlgorithm extends SchedulingAlgorithm {
+    public static final int DEFAULT_TARGET_LATENCY = 24;
+    public static final int DEFAULT_MIN_GRANULARITY = 3;
+    public static final int DEFAULT_WAKEUP_GRANULARITY = 4;
+    public static final AlgorithmParameter<Integer> TARGET_LATENCY =
+            AlgorithmParameter.integer("latency", "Target Latency", DEFAULT_TARGET_LATENCY, 1);
+    public static final AlgorithmParameter<Integer> MIN_GRANULARITY =
+            AlgorithmParameter.integer("min", "Min Granularity", DEFAULT_MIN_GRANULARITY, 1);
+    public static final AlgorithmParameter<Integer> WAKEUP_GRANULARITY =
+            AlgorithmParameter.integer("wakeup", "Wakeup Granularity", DEFAULT_WAKEUP_GRANULARITY, 0);
+
+    private final int targetLatency;
+    private final int minGranularity;
+    private final int wakeupGranularity;
+
+    public CFSSchedulingAlgorithm() {
+        this(DEFAULT_TARGET_LATENCY, DEFAULT_MIN_GRANULARITY, DEFAULT_WAKEUP_GRANULARITY);
+    }
+
+    /**
+     * @param targetLatency The period in which every runnable process should run once.
+     * @param minGranularity The shortest slice a process is given.
+     * @param wakeupGranularity How far ahead in virtual runtime the running process must be
+     *                          before an arrival preempts it.
+     */
+    public CFSSchedulingAlgorithm(int targetLatency, int minGranularity, int wakeupGranularity) {
+        // Validate once here rather than on every run
+        new CFSPolicy(targetLatency, minGranularity, wakeupGranularity);
+        this.targetLatency = targetLatency;
+        this.minGranularity = minGranularity;
+        this.wakeupGranularity = wakeupGranularity;
+    }
+
+    public int getTargetLatency() {
+        return targetLatency;
+    }
+
+    public int getMinGranularity() {
+        return minGranularity;
+    }
+
+    public int getWakeupGranularity() {
+        return wakeupGranularity;
+    }
+
+    @Override
+    public String getName() {
+        return "Completely Fair Scheduler (CFS)";
+    }
+
+    @Override
+    public String getConfiguration() {
+        return getName() + " (latency=" + targetLatency + ", min=" + minGranularity
+                + ", wakeup=" + wakeupGranularity + ")";
+    }
+
+    @Override
+    protected SchedulingPolicy createPolicy() {
+        // Smaller priority numbers are treated as lower nice values, i.e. a larger CPU share
+        return new CFSPolicy(targetLatency, minGranularity, wakeupGranularity);
+    }
+}
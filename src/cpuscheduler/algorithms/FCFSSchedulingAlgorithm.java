@@ -1,9 +1,16 @@
 package cpuscheduler.algorithms;
 
+import cpuscheduler.engine.FCFSPolicy;
+import cpuscheduler.engine.SchedulingPolicy;
 
 public class FCFSSchedulingAlgorithm extends SchedulingAlgorithm {
     @Override
     public String getName() {
         return "First Come First Serve (FCFS)";
     }
+
+    @Override
+    protected SchedulingPolicy createPolicy() {
+        return new FCFSPolicy();
+    }
 }
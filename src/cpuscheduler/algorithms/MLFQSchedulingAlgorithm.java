@@ -0,0 +1,56 @@
+package cpuscheduler.algorithms;
+
+import cpuscheduler.engine.MLFQPolicy;
+import cpuscheduler.engine.SchedulingPolicy;
+
+import java.util.Arrays;
+
+public class MLFQSchedulingAlgorithm extends SchedulingAlgorithm {
+    public static final int[] DEFAULT_QUANTA = {2, 4, 8};
+    public static final long DEFAULT_BOOST_PERIOD = 50;
+    public static final AlgorithmParameter<int[]> QUANTA =
+            AlgorithmParameter.integerList("quanta", "Quanta", DEFAULT_QUANTA, 1);
+    public static final AlgorithmParameter<Long> BOOST_PERIOD =
+            AlgorithmParameter.longInteger("boost", "Boost Period", DEFAULT_BOOST_PERIOD, 0);
+
+    private final int[] quanta;
+    private final long boostPeriod;
+
+    public MLFQSchedulingAlgorithm() {
+        this(DEFAULT_QUANTA, DEFAULT_BOOST_PERIOD);
+    }
+
+    /**
+     * @param quanta The quantum of every level, top level first.
+     * @param boostPeriod The CPU time between priority boosts, or 0 for no boost.
+     */
+    public MLFQSchedulingAlgorithm(int[] quanta, long boostPeriod) {
+        // Validate once here rather than on every run
+        new MLFQPolicy(quanta, boostPeriod);
+        this.quanta = quanta.clone();
+        this.boostPeriod = boostPeriod;
+    }
+
+    public int[] getQuanta() {
+        return quanta.clone();
+    }
+
+    public long getBoostPeriod() {
+        return boostPeriod;
+    }
+
+    @Override
+    public String getName() {
+        return "Multilevel Feedback Queue (MLFQ)";
+    }
+
+    @Override
+    public String getConfiguration() {
+        return getName() + " (quanta=" + Arrays.toString(quanta) + ", boost=" + boostPeriod + ")";
+    }
+
+    @Override
+    protected SchedulingPolicy createPolicy() {
+        return new MLFQPolicy(quanta, boostPeriod);
+    }
+}
@@ -0,0 +1,66 @@
+package cpuscheduler.algorithms;
+
+import cpuscheduler.engine.EngineResult;
+import cpuscheduler.engine.RunOptions;
+import cpuscheduler.engine.SchedulingPolicy;
+import cpuscheduler.engine.Workload;
+
+/**
+ * An algorithm created by a plugin, with a configuration built from its provider's id and its
+ * settings rather than from {@link SchedulingAlgorithm#getConfiguration()}. The result cache keys
+ * on the configuration, so a plugin that does not override it still gets one key per setting,
+ * and a plugin that shares a display name with another algorithm does not share its results.
+ */
+final class PluginAlgorithm extends SchedulingAlgorithm {
+    private final SchedulingAlgorithm algorithm;
+    private final AlgorithmProvider provider;
+    private final AlgorithmSettings settings;
+    private final String configuration;
+
+    PluginAlgorithm(SchedulingAlgorithm algorithm, AlgorithmProvider provider, AlgorithmSettings settings) {
+        this.algorithm = algorithm;
+        this.provider = provider;
+        this.settings = settings;
+        StringBuilder spec = new StringBuilder(provider.id());
+        for (AlgorithmParameter<?> parameter : provider.parameters()) {
+            spec.append(':').append(parameter.key()).append('=').append(format(parameter, settings));
+        }
+        this.configuration = algorithm.getName() + " (" + spec + ")";
+    }
+
+    private static <T> String format(AlgorithmParameter<T> parameter, AlgorithmSettings settings) {
+        return parameter.format(settings.get(parameter));
+    }
+
+    AlgorithmProvider provider() {
+        return provider;
+    }
+
+    AlgorithmSettings settings() {
+        return settings;
+    }
+
+    @Override
+    public String getName() {
+        return algorithm.getName();
+    }
+
+    /**
+     * Gets the name followed by the specification that recreates the algorithm, such as
+     * {@code Lottery (lottery:tickets=20)}, with every parameter including the defaults.
+     */
+    @Override
+    public String getConfiguration() {
+        return configuration;
+    }
+
+    @Override
+    protected SchedulingPolicy createPolicy() {
+        return algorithm.createPolicy();
+    }
+
+    @Override
+    public EngineResult simulate(Workload workload, RunOptions options) {
+        return algorithm.simulate(workload, options);
+    }
+}
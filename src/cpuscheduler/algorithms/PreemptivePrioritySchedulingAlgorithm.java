@@ -0,0 +1,17 @@
+package cpuscheduler.algorithms;
+
+import cpuscheduler.engine.PreemptivePriorityPolicy;
+import cpuscheduler.engine.SchedulingPolicy;
+
+public class PreemptivePrioritySchedulingAlgorithm extends SchedulingAlgorithm {
+    @Override
+    public String getName() {
+        return "Priority preemptive";
+    }
+
+    @Override
+    protected SchedulingPolicy createPolicy() {
+        // An arrival with a lower priority number than the running process preempts it
+        return new PreemptivePriorityPolicy();
+    }
+}
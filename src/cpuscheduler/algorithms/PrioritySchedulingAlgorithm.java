@@ -1,8 +1,7 @@
 package cpuscheduler.algorithms;
 
-import cpuscheduler.Process;
-
-import java.util.*;
+import cpuscheduler.engine.PriorityPolicy;
+import cpuscheduler.engine.SchedulingPolicy;
 
 public class PrioritySchedulingAlgorithm extends SchedulingAlgorithm {
     @Override
@@ -11,12 +10,8 @@ public class PrioritySchedulingAlgorithm extends SchedulingAlgorithm {
     }
 
     @Override
-    protected Queue<Process> getProcesses(List<Process> processes) {
-        List<Process> localProcessList = cloneProcesses(processes);
-
-        // Sort the processes by priority (lower number = higher priority)
-        localProcessList.sort(Comparator.comparingInt(Process::getPriority));
-
-        return new LinkedList<>(localProcessList);
+    protected SchedulingPolicy createPolicy() {
+        // Among the ready processes, the one with the lowest priority number runs next
+        return new PriorityPolicy();
     }
 }
@@ -1,19 +1,41 @@
 package cpuscheduler.algorithms;
 
-import cpuscheduler.Process;
-import cpuscheduler.SchedulerResult;
-
-import java.util.*;
+import cpuscheduler.engine.EngineResult;
+import cpuscheduler.engine.RoundRobinEngine;
+import cpuscheduler.engine.RoundRobinPolicy;
+import cpuscheduler.engine.RunOptions;
+import cpuscheduler.engine.SchedulingPolicy;
+import cpuscheduler.engine.Workload;
 
 public class RoundRobinSchedulingAlgorithm extends SchedulingAlgorithm {
-    private static int quantumTime;
+    public static final int DEFAULT_QUANTUM_TIME = 2;
+    public static final AlgorithmParameter<Integer> QUANTUM =
+            AlgorithmParameter.integer("quantum", "Quantum Time", DEFAULT_QUANTUM_TIME, 1);
+
+    private final int quantumTime;
+
+    public RoundRobinSchedulingAlgorithm() {
+        this(DEFAULT_QUANTUM_TIME);
+    }
+
+    public RoundRobinSchedulingAlgorithm(int quantumTime) {
+        if (quantumTime <= 0) {
+            throw new IllegalArgumentException("Quantum Time must be positive.");
+        }
+        this.quantumTime = quantumTime;
+    }
 
     public int getQuantumTime() {
         return quantumTime;
     }
 
-    public void setQuantumTime(int quantumTime) {
-        RoundRobinSchedulingAlgorithm.quantumTime = quantumTime;
+    /**
+     * Gets a Round Robin algorithm with a different quantum. This instance is left unchanged.
+     * @param quantumTime The time slice of the new instance.
+     * @return The new algorithm.
+     */
+    public RoundRobinSchedulingAlgorithm withQuantumTime(int quantumTime) {
+        return quantumTime == this.quantumTime ? this : new RoundRobinSchedulingAlgorithm(quantumTime);
     }
 
     @Override
@@ -22,75 +44,18 @@ public class RoundRobinSchedulingAlgorithm extends SchedulingAlgorithm {
     }
 
     @Override
-    public SchedulerResult schedule(List<Process> processes) {
-        Queue<Process> readyQueue = getProcesses(processes);
-
-        List<Process> completedProcesses = new ArrayList<>();
-        int currentTime = 0;
-        int quantumTime = getQuantumTime();
-
-        StringBuilder ganttChartBuilder = new StringBuilder("|");
-        StringBuilder ganttTimingBuilder = new StringBuilder("0");
-
-        System.out.println("\n--- Round Robin Scheduling Logic ---");
-        System.out.println("Process | Burst | Arrival | Completion | Response | Turnaround | Waiting");
-
-        // Map each process ID to its remaining burst time
-        Map<Integer, Integer> processBurstTimeMap = new HashMap<>();
-        while (!readyQueue.isEmpty()) {
-            Process currentProcess = readyQueue.poll();
-            int currentProcessId = currentProcess.getProcessId();
-            int currentProcessBurstTime = currentProcess.getBurstTime();
-
-            if (!processBurstTimeMap.containsKey(currentProcessId)) {
-                processBurstTimeMap.put(currentProcessId, currentProcessBurstTime);
-                currentProcess.setResponseTime(currentTime - currentProcess.getArrivalTime());
-                currentProcess.setStartTime(currentTime);
-            }
-
-            currentProcess.setState("Running");
-
-            int remainingBurstTime = processBurstTimeMap.get(currentProcessId);
-            if (remainingBurstTime > quantumTime) {
-                currentProcess.setWaitingTime(currentTime - currentProcess.getArrivalTime() - (currentProcessBurstTime - remainingBurstTime));
-                processBurstTimeMap.put(currentProcessId, remainingBurstTime - quantumTime);
-                currentTime += quantumTime;
-                currentProcess.setState("Ready");
-                readyQueue.add(currentProcess);
-            }
-            else {
-                currentTime += remainingBurstTime;
-                currentProcess.setCompletionTime(currentTime);
-                currentProcess.setTurnaroundTime(currentProcess.getCompletionTime() - currentProcess.getArrivalTime());
-                currentProcess.setWaitingTime(currentProcess.getTurnaroundTime() - currentProcessBurstTime);
-                currentProcess.setState("Terminated");
-                completedProcesses.add(currentProcess);
-            }
-
-            // Build Gantt chart strings
-            ganttChartBuilder
-                    .append(" P")
-                    .append(currentProcessId)
-                    .append(" (")
-                    .append(remainingBurstTime)
-                    .append(") |");
-            ganttTimingBuilder.append(String.format("%" + ((" P" + currentProcessId + " (" + currentProcessBurstTime + ") ").length() + 1) + "s", currentTime));
-
-            System.out.printf("P%-7d | %-5d | %-7d | %-10d | %-7d | %-10d | %-7d | %-10s\n",
-                    currentProcessId,
-                    remainingBurstTime,
-                    currentProcess.getArrivalTime(),
-                    currentProcess.getCompletionTime(),
-                    currentProcess.getResponseTime(),
-                    currentProcess.getTurnaroundTime(),
-                    currentProcess.getWaitingTime(),
-                    currentProcess.getState());
-        }
-
-        String ganttChartOutput = generateStatistics(completedProcesses, ganttChartBuilder, ganttTimingBuilder);
+    public String getConfiguration() {
+        return getName() + " (quantum=" + quantumTime + ")";
+    }
 
-        completedProcesses.sort(Comparator.comparingInt(Process::getProcessId));
+    @Override
+    protected SchedulingPolicy createPolicy() {
+        return new RoundRobinPolicy(getQuantumTime());
+    }
 
-        return new SchedulerResult(completedProcesses, ganttChartOutput);
+    @Override
+    public EngineResult simulate(Workload workload, RunOptions options) {
+        // Same schedule as RoundRobinPolicy in the event simulator, without the event heap
+        return RoundRobinEngine.run(workload, getQuantumTime(), options, true);
     }
 }
@@ -1,8 +1,7 @@
 package cpuscheduler.algorithms;
 
-import cpuscheduler.Process;
-
-import java.util.*;
+import cpuscheduler.engine.SJFPolicy;
+import cpuscheduler.engine.SchedulingPolicy;
 
 public class SJFSchedulingAlgorithm extends SchedulingAlgorithm {
     @Override
@@ -11,12 +10,8 @@ public class SJFSchedulingAlgorithm extends SchedulingAlgorithm {
     }
 
     @Override
-    protected Queue<Process> getProcesses(List<Process> processes) {
-        List<Process> localProcessList = cloneProcesses(processes);
-
-        // Sort the processes by burst time
-        localProcessList.sort(Comparator.comparingInt(Process::getBurstTime));
-
-        return new LinkedList<>(localProcessList);
+    protected SchedulingPolicy createPolicy() {
+        // Among the ready processes, the one with the shortest burst time runs next
+        return new SJFPolicy();
     }
 }
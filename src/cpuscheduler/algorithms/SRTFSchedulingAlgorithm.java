@@ -0,0 +1,17 @@
+package cpuscheduler.algorithms;
+
+import cpuscheduler.engine.SRTFPolicy;
+import cpuscheduler.engine.SchedulingPolicy;
+
+public class SRTFSchedulingAlgorithm extends SchedulingAlgorithm {
+    @Override
+    public String getName() {
+        return "Shortest Remaining Time First (SRTF)";
+    }
+
+    @Override
+    protected SchedulingPolicy createPolicy() {
+        // An arrival with a shorter burst than the running process's remaining time preempts it
+        return new SRTFPolicy();
+    }
+}
@@ -0,0 +1,111 @@
+package cpuscheduler.analysis;
+
+import cpuscheduler.algorithms.SchedulingAlgorithm;
+import cpuscheduler.cache.ResultCache;
+import cpuscheduler.engine.EngineResult;
+import cpuscheduler.engine.RunOptions;
+import cpuscheduler.engine.Workload;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs several algorithms against the same workload in parallel and collects their metrics
+ * side by side. The workload columns are built once and shared read-only by every run.
+ */
+public final class AlgorithmComparison {
+    /**
+     * The metrics of one algorithm. Throughput is in processes per time unit, CPU utilisation is
+     * the busy fraction of the makespan and switch overhead the fraction spent switching.
+     */
+    public record Row(String algorithm,
+                      double averageWaitingTime, int p50WaitingTime, int p99WaitingTime,
+                      double averageTurnaroundTime, int p50TurnaroundTime, int p99TurnaroundTime,
+                      double averageResponseTime, int p50ResponseTime, int p99ResponseTime,
+                      double throughput, double cpuUtilization, int contextSwitches, double switchOverhead) {
+
+        static Row of(String algorithm, EngineResult r) {
+            return new Row(algorithm,
+                    r.averageWaitingTime(), r.waitingTimePercentile(50), r.waitingTimePercentile(99),
+                    r.averageTurnaroundTime(), r.turnaroundTimePercentile(50), r.turnaroundTimePercentile(99),
+                    r.averageResponseTime(), r.responseTimePercentile(50), r.responseTimePercentile(99),
+                    r.throughput(), r.cpuUtilization(), r.contextSwitches(), r.switchOverhead());
+        }
+    }
+
+    public static final String[] COLUMN_NAMES = {
+            "Algorithm",
+            "Avg Waiting", "p50 Waiting", "p99 Waiting",
+            "Avg Turnaround", "p50 Turnaround", "p99 Turnaround",
+            "Avg Response", "p50 Response", "p99 Response",
+            "Throughput", "CPU Util.", "Switches", "Switch Ovhd."
+    };
+
+    private AlgorithmComparison() {
+    }
+
+    /**
+     * Runs every algorithm headless on its own virtual thread, always simulating.
+     * @param workload The processes to schedule.
+     * @param algorithms The algorithms to compare.
+     * @return One row per algorithm, in iteration order.
+     */
+    public static List<Row> run(Workload workload, Collection<? extends SchedulingAlgorithm> algorithms) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            return run(workload, algorithms, RunOptions.HEADLESS, null, executor);
+        }
+    }
+
+    /**
+     * Runs every algorithm as a separate task on the given executor.
+     * @param workload The processes to schedule.
+     * @param algorithms The algorithms to compare.
+     * @param options The options of every run, such as the context switch cost. The runs share the
+     *                trace and progress listener, which must then be thread-safe.
+     * @param cache The cache to look results up in and add new ones to, or null to always simulate.
+     * @param executor The executor that runs the simulations.
+     * @return One row per algorithm, in iteration order.
+     */
+    public static List<Row> run(Workload workload, Collection<? extends SchedulingAlgorithm> algorithms,
+                                RunOptions options, ResultCache cache, ExecutorService executor) {
+        List<Future<Row>> futures = new ArrayList<>(algorithms.size());
+        for (SchedulingAlgorithm algorithm : algorithms) {
+            futures.add(executor.submit(() -> Row.of(algorithm.getName(), cache == null
+                    ? algorithm.simulate(workload, options)
+                    : cache.simulate(algorithm, workload, options))));
+        }
+        List<Row> rows = new ArrayList<>(futures.size());
+        try {
+            for (Future<Row> future : futures) {
+                rows.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Comparison was interrupted.", e);
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw new IllegalStateException("An algorithm failed: " + e.getCause().getMessage(), e.getCause());
+        }
+        return rows;
+    }
+
+    /**
+     * Converts a row to table cells in {@link #COLUMN_NAMES} order.
+     */
+    public static Object[] toCells(Row row) {
+        return new Object[]{
+                row.algorithm(),
+                String.format("%.2f", row.averageWaitingTime()), row.p50WaitingTime(), row.p99WaitingTime(),
+                String.format("%.2f", row.averageTurnaroundTime()), row.p50TurnaroundTime(), row.p99TurnaroundTime(),
+                String.format("%.2f", row.averageResponseTime()), row.p50ResponseTime(), row.p99ResponseTime(),
+                String.format("%.4f", row.throughput()), String.format("%.1f%%", row.cpuUtilization() * 100),
+                row.contextSwitches(), String.format("%.1f%%", row.switchOverhead() * 100)
+        };
+    }
+}
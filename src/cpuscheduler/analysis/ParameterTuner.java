@@ -0,0 +1,420 @@
+package cpuscheduler.analysis;
+
+import cpuscheduler.algorithms.MLFQSchedulingAlgorithm;
+import cpuscheduler.algorithms.RoundRobinSchedulingAlgorithm;
+import cpuscheduler.algorithms.SchedulingAlgorithm;
+import cpuscheduler.engine.ContextSwitchCost;
+import cpuscheduler.engine.EngineResult;
+import cpuscheduler.engine.RunOptions;
+import cpuscheduler.engine.Workload;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Searches algorithm configurations, such as Round Robin quanta or MLFQ queue settings, for the
+ * ones that minimize a set of objectives. Candidates are evaluated in parallel by successive
+ * halving: every stage simulates the surviving candidates on a longer prefix of the workload (its
+ * earliest arrivals) and only the best of them, by the primary objective, go on to the next. A
+ * candidate on the Pareto front of a stage always survives it, so a good trade-off is not pruned
+ * for losing on the primary objective alone. The last stage runs the full workload.
+ *
+ * <p>With {@link #withSwitchCost(ContextSwitchCost)}, every run charges context switches to the
+ * clock, so short quanta pay for their extra switches in every time-based objective.
+ *
+ * <p>A tuner is immutable and can be shared between threads.
+ */
+public final class ParameterTuner {
+    /**
+     * A metric of a run to minimize.
+     */
+    public enum Objective {
+        MEAN_WAITING("Avg Waiting", EngineResult::averageWaitingTime),
+        MEAN_TURNAROUND("Avg Turnaround", EngineResult::averageTurnaroundTime),
+        MEAN_RESPONSE("Avg Response", EngineResult::averageResponseTime),
+        P99_WAITING("p99 Waiting", r -> r.waitingTimePercentile(99)),
+        P99_TURNAROUND("p99 Turnaround", r -> r.turnaroundTimePercentile(99)),
+        P99_RESPONSE("p99 Response", r -> r.responseTimePercentile(99)),
+        CONTEXT_SWITCHES("Switches", EngineResult::contextSwitches),
+        /**
+         * The fraction of the run spent switching; zero unless the tuner has a switch cost.
+         */
+        SWITCH_OVERHEAD("Switch Overhead", EngineResult::switchOverhead);
+
+        private final String label;
+        private final ToDoubleFunction<EngineResult> metric;
+
+        Objective(String label, ToDoubleFunction<EngineResult> metric) {
+            this.label = label;
+            this.metric = metric;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        /**
+         * Measures this objective on a run; lower is better.
+         */
+        public double measure(EngineResult result) {
+            return metric.applyAsDouble(result);
+        }
+    }
+
+    /**
+     * A configuration and its scores on the longest prefix it was simulated on.
+     * @param algorithm The configured algorithm.
+     * @param scores One score per objective, in the tuner's objective order.
+     * @param processes The number of processes the scores were measured on.
+     */
+    public record Candidate(SchedulingAlgorithm algorithm, double[] scores, int processes) {
+        public double score(int objective) {
+            return scores[objective];
+        }
+
+        /**
+         * Tells whether this candidate is at least as good on every objective and better on one.
+         */
+        public boolean dominates(Candidate other) {
+            boolean better = false;
+            for (int i = 0; i < scores.length; i++) {
+                if (scores[i] > other.scores[i]) {
+                    return false;
+                }
+                better |= scores[i] < other.scores[i];
+            }
+            return better;
+        }
+    }
+
+    /**
+     * The outcome of a search.
+     * @param objectives The objectives, primary first.
+     * @param finalists The candidates that reached the full workload, best primary score first.
+     * @param paretoFront The finalists no other finalist dominates, best primary score first.
+     * @param pruned The candidates dropped on a prefix, with the scores they were dropped on.
+     * @param simulatedProcesses The processes simulated over every stage and candidate.
+     */
+    public record Report(List<Objective> objectives, List<Candidate> finalists, List<Candidate> paretoFront,
+                         List<Candidate> pruned, long simulatedProcesses) {
+        /**
+         * Gets the finalist with the best primary score.
+         */
+        public Candidate best() {
+            return finalists.getFirst();
+        }
+
+        /**
+         * Formats the Pareto front as a fixed-width text table.
+         */
+        public String toTable() {
+            int width = "Configuration".length();
+            for (Candidate candidate : paretoFront) {
+                width = Math.max(width, candidate.algorithm().getConfiguration().length());
+            }
+            String nameFormat = "%-" + width + "s";
+            StringBuilder table = new StringBuilder(String.format(nameFormat, "Configuration"));
+            for (Objective objective : objectives) {
+                table.append(String.format(" %14s", objective.getLabel()));
+            }
+            table.append(System.lineSeparator());
+            for (Candidate candidate : paretoFront) {
+                table.append(String.format(nameFormat, candidate.algorithm().getConfiguration()));
+                for (double score : candidate.scores()) {
+                    table.append(String.format(" %14.2f", score));
+                }
+                table.append(System.lineSeparator());
+            }
+            return table.toString();
+        }
+    }
+
+    // Prefixes shorter than this say too little about the full workload to prune on
+    private static final int MIN_STAGE_PROCESSES = 256;
+
+    private final List<Objective> objectives;
+    private final double[] stages;
+    private final double keepFraction;
+    private final ContextSwitchCost switchCost;
+
+    /**
+     * Creates a tuner with three stages, on 1/16, 1/4 and all of the workload, that keeps the best
+     * quarter of the candidates after each prefix.
+     * @param primary The objective survivors and the best candidate are chosen by.
+     * @param others The other objectives of the Pareto front.
+     */
+    public ParameterTuner(Objective primary, Objective... others) {
+        this(objectivesOf(primary, others), new double[]{1.0 / 16, 1.0 / 4, 1}, 0.25, ContextSwitchCost.NONE);
+    }
+
+    private ParameterTuner(List<Objective> objectives, double[] stages, double keepFraction,
+                           ContextSwitchCost switchCost) {
+        this.objectives = objectives;
+        this.stages = stages;
+        this.keepFraction = keepFraction;
+        this.switchCost = switchCost;
+    }
+
+    /**
+     * Returns a tuner that simulates the given prefixes of the workload.
+     * @param fractions Increasing fractions of the processes, the last of which must be 1.
+     * @return A tuner with these stages.
+     */
+    public ParameterTuner withStages(double... fractions) {
+        if (fractions.length == 0 || fractions[fractions.length - 1] != 1) {
+            throw new IllegalArgumentException("The last stage must cover the whole workload.");
+        }
+        for (int i = 0; i < fractions.length; i++) {
+            if (fractions[i] <= 0 || (i > 0 && fractions[i] <= fractions[i - 1])) {
+                throw new IllegalArgumentException("Stage fractions must be positive and increasing.");
+            }
+        }
+        return new ParameterTuner(objectives, fractions.clone(), keepFraction, switchCost);
+    }
+
+    /**
+     * Returns a tuner that keeps the given share of the candidates after each prefix.
+     * @param fraction The share kept by primary score, between 0 (only the best) and 1 (no pruning).
+     * @return A tuner with this share.
+     */
+    public ParameterTuner withKeepFraction(double fraction) {
+        if (!(fraction >= 0 && fraction <= 1)) {
+            throw new IllegalArgumentException("The kept fraction must be between 0 and 1.");
+        }
+        return new ParameterTuner(objectives, stages, fraction, switchCost);
+    }
+
+    /**
+     * Returns a tuner whose runs charge context switches with the given cost model.
+     * @param switchCost The cost of a switch; {@link ContextSwitchCost#NONE} for free switches.
+     * @return A tuner with this cost model.
+     */
+    public ParameterTuner withSwitchCost(ContextSwitchCost switchCost) {
+        if (switchCost == null) {
+            throw new IllegalArgumentException("Switch cost must not be null.");
+        }
+        return new ParameterTuner(objectives, stages, keepFraction, switchCost);
+    }
+
+    public List<Objective> getObjectives() {
+        return objectives;
+    }
+
+    public ContextSwitchCost getSwitchCost() {
+        return switchCost;
+    }
+
+    /**
+     * Lists Round Robin configurations, one per quantum.
+     * @param quanta The quanta, for instance from {@link QuantumSweep#range}.
+     */
+    public static List<SchedulingAlgorithm> roundRobinCandidates(int[] quanta) {
+        List<SchedulingAlgorithm> candidates = new ArrayList<>(quanta.length);
+        for (int quantum : quanta) {
+            candidates.add(new RoundRobinSchedulingAlgorithm(quantum));
+        }
+        return candidates;
+    }
+
+    /**
+     * Lists MLFQ configurations, one per combination of queue quanta and boost period. The boost
+     * period is the aging rate: how often a process starved in a low queue is moved back to the top.
+     * @param quantaSets The quanta of the queues, highest priority first, per configuration.
+     * @param boostPeriods The boost periods to combine with each set of quanta.
+     */
+    public static List<SchedulingAlgorithm> mlfqCandidates(int[][] quantaSets, long[] boostPeriods) {
+        List<SchedulingAlgorithm> candidates = new ArrayList<>(quantaSets.length * boostPeriods.length);
+        for (int[] quanta : quantaSets) {
+            for (long boostPeriod : boostPeriods) {
+                candidates.add(new MLFQSchedulingAlgorithm(quanta, boostPeriod));
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Searches the candidates on the common fork-join pool, which uses every core.
+     * @param workload The processes to schedule.
+     * @param algorithms The configurations to compare.
+     * @return The finalists and their Pareto front.
+     */
+    public Report tune(Workload workload, List<? extends SchedulingAlgorithm> algorithms) {
+        return tune(workload, algorithms, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Searches the candidates on the given pool.
+     * @param workload The processes to schedule.
+     * @param algorithms The configurations to compare.
+     * @param pool The pool that runs the simulations.
+     * @return The finalists and their Pareto front.
+     * @throws CancellationException If the calling thread is interrupted. The simulations running
+     * for it stop at their next progress report, and the call returns once they have.
+     */
+    public Report tune(Workload workload, List<? extends SchedulingAlgorithm> algorithms, ForkJoinPool pool) {
+        if (algorithms.isEmpty()) {
+            throw new IllegalArgumentException("There are no candidates to tune.");
+        }
+        int n = workload.size();
+        List<SchedulingAlgorithm> survivors = new ArrayList<>(algorithms);
+        List<Candidate> pruned = new ArrayList<>();
+        long simulatedProcesses = 0;
+        int previousSize = -1;
+        List<Candidate> scored = List.of();
+        // Pool threads never see the caller's interrupt, so it reaches the simulations through this flag
+        AtomicBoolean cancelled = new AtomicBoolean();
+        RunOptions options = RunOptions.HEADLESS.withSwitchCost(switchCost).withProgress((_, _, _) -> {
+            if (cancelled.get()) {
+                throw new CancellationException("Tuning was interrupted.");
+            }
+        });
+        for (double fraction : stages) {
+            int size = fraction == 1 ? n : Math.min(n, Math.max(MIN_STAGE_PROCESSES, (int) Math.ceil(fraction * n)));
+            if (size == previousSize) {
+                continue;
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Tuning was interrupted.");
+            }
+            previousSize = size;
+            Workload prefix = workload.earliestArrivals(size);
+            Candidate[] candidates = new Candidate[survivors.size()];
+            evaluate(pool, new EvaluateTask(prefix, survivors, options, cancelled, candidates, 0, candidates.length),
+                    cancelled);
+            simulatedProcesses += (long) size * candidates.length;
+            scored = sortedByPrimary(Arrays.asList(candidates));
+            if (size == n) {
+                break;
+            }
+            int keep = Math.max(1, (int) Math.ceil(keepFraction * scored.size()));
+            List<Candidate> front = paretoFront(scored);
+            survivors = new ArrayList<>();
+            for (int i = 0; i < scored.size(); i++) {
+                Candidate candidate = scored.get(i);
+                if (i < keep || front.contains(candidate)) {
+                    survivors.add(candidate.algorithm());
+                }
+                else {
+                    pruned.add(candidate);
+                }
+            }
+        }
+        return new Report(objectives, scored, paretoFront(scored), List.copyOf(pruned), simulatedProcesses);
+    }
+
+    /**
+     * Runs one stage on the pool, waiting for it interruptibly. On an interrupt the stage is
+     * cancelled and waited for, so no simulation outlives the call.
+     */
+    private static void evaluate(ForkJoinPool pool, EvaluateTask stage, AtomicBoolean cancelled) {
+        ForkJoinTask<Void> task = pool.submit(stage);
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            cancelled.set(true);
+            task.quietlyJoin();
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Tuning was interrupted.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Gets the candidates no other candidate dominates, keeping their order. Candidates with
+     * equal scores are all kept.
+     */
+    static List<Candidate> paretoFront(List<Candidate> candidates) {
+        List<Candidate> front = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            boolean dominated = false;
+            for (Candidate other : candidates) {
+                if (other.dominates(candidate)) {
+                    dominated = true;
+                    break;
+                }
+            }
+            if (!dominated) {
+                front.add(candidate);
+            }
+        }
+        return List.copyOf(front);
+    }
+
+    /**
+     * Sorts by primary score; ties keep the order the candidates were given in.
+     */
+    private static List<Candidate> sortedByPrimary(List<Candidate> candidates) {
+        List<Candidate> sorted = new ArrayList<>(candidates);
+        sorted.sort(Comparator.comparingDouble(c -> c.score(0)));
+        return List.copyOf(sorted);
+    }
+
+    private static List<Objective> objectivesOf(Objective primary, Objective... others) {
+        List<Objective> all = new ArrayList<>(others.length + 1);
+        all.add(primary);
+        for (Objective objective : others) {
+            if (all.contains(objective)) {
+                throw new IllegalArgumentException("Objective " + objective + " is given twice.");
+            }
+            all.add(objective);
+        }
+        return List.copyOf(all);
+    }
+
+    private final class EvaluateTask extends RecursiveAction {
+        private final Workload workload;
+        private final List<SchedulingAlgorithm> algorithms;
+        private final RunOptions options;
+        private final AtomicBoolean cancelled;
+        private final Candidate[] candidates;
+        private final int from;
+        private final int to;
+
+        EvaluateTask(Workload workload, List<SchedulingAlgorithm> algorithms, RunOptions options, AtomicBoolean cancelled,
+                     Candidate[] candidates, int from, int to) {
+            this.workload = workload;
+            this.algorithms = algorithms;
+            this.options = options;
+            this.cancelled = cancelled;
+            this.candidates = candidates;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (cancelled.get()) {
+                throw new CancellationException("Tuning was interrupted.");
+            }
+            if (to - from == 1) {
+                SchedulingAlgorithm algorithm = algorithms.get(from);
+                EngineResult result = algorithm.simulate(workload, options);
+                double[] scores = new double[objectives.size()];
+                for (int i = 0; i < scores.length; i++) {
+                    scores[i] = objectives.get(i).measure(result);
+                }
+                candidates[from] = new Candidate(algorithm, scores, workload.size());
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new EvaluateTask(workload, algorithms, options, cancelled, candidates, from, mid),
+                    new EvaluateTask(workload, algorithms, options, cancelled, candidates, mid, to));
+        }
+    }
+}
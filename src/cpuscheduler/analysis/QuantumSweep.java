@@ -0,0 +1,117 @@
+package cpuscheduler.analysis;
+
+import cpuscheduler.algorithms.RoundRobinSchedulingAlgorithm;
+import cpuscheduler.engine.ContextSwitchCost;
+import cpuscheduler.engine.EngineResult;
+import cpuscheduler.engine.RunOptions;
+import cpuscheduler.engine.Workload;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs Round Robin over one workload for a range of quanta in parallel. Every quantum gets its
+ * own immutable {@link RoundRobinSchedulingAlgorithm}; the workload columns are shared read-only.
+ * With a {@link ContextSwitchCost} in the run options, switches take CPU time, so the rows show what short quanta
+ * cost in throughput.
+ */
+public final class QuantumSweep {
+    /**
+     * The metrics of one Round Robin run.
+     */
+    public record Row(int quantumTime, double averageWaitingTime, double averageTurnaroundTime,
+                      double averageResponseTime, int contextSwitches, double switchOverhead) {
+    }
+
+    private QuantumSweep() {
+    }
+
+    /**
+     * Lists the quanta from, from + step, ... up to and including to.
+     */
+    public static int[] range(int from, int to, int step) {
+        if (from <= 0 || step <= 0 || to < from) {
+            throw new IllegalArgumentException("Quantum range must be positive and increasing.");
+        }
+        int[] quanta = new int[(to - from) / step + 1];
+        for (int i = 0; i < quanta.length; i++) {
+            quanta[i] = from + i * step;
+        }
+        return quanta;
+    }
+
+    /**
+     * Sweeps the quanta headless on the common fork-join pool, which uses every core.
+     * @param workload The processes to schedule.
+     * @param quanta The quanta to evaluate.
+     * @return One row per quantum, in the order given.
+     */
+    public static List<Row> run(Workload workload, int[] quanta) {
+        return run(workload, quanta, RunOptions.HEADLESS, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sweeps the quanta on the given pool.
+     * @param workload The processes to schedule.
+     * @param quanta The quanta to evaluate.
+     * @param options The options of every run, such as the context switch cost. The runs share the
+     *                trace and progress listener, which must then be thread-safe.
+     * @param pool The pool that runs the simulations.
+     * @return One row per quantum, in the order given.
+     */
+    public static List<Row> run(Workload workload, int[] quanta, RunOptions options, ForkJoinPool pool) {
+        Row[] rows = new Row[quanta.length];
+        pool.invoke(new SweepTask(workload, quanta, options, rows, 0, quanta.length));
+        return Arrays.asList(rows);
+    }
+
+    /**
+     * Formats the rows as a fixed-width text table.
+     */
+    public static String toTable(List<Row> rows) {
+        StringBuilder table = new StringBuilder(String.format("%8s %12s %12s %12s %10s %9s%n",
+                "Quantum", "Avg Waiting", "Avg Turn.", "Avg Resp.", "Switches", "Overhead"));
+        for (Row row : rows) {
+            table.append(String.format("%8d %12.2f %12.2f %12.2f %10d %8.2f%%%n", row.quantumTime(),
+                    row.averageWaitingTime(), row.averageTurnaroundTime(), row.averageResponseTime(),
+                    row.contextSwitches(), row.switchOverhead() * 100));
+        }
+        return table.toString();
+    }
+
+    private static final class SweepTask extends RecursiveAction {
+        private final Workload workload;
+        private final int[] quanta;
+        private final RunOptions options;
+        private final Row[] rows;
+        private final int from;
+        private final int to;
+
+        SweepTask(Workload workload, int[] quanta, RunOptions options, Row[] rows, int from, int to) {
+            this.workload = workload;
+            this.quanta = quanta;
+            this.options = options;
+            this.rows = rows;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                for (int i = from; i < to; i++) {
+                    RoundRobinSchedulingAlgorithm roundRobin = new RoundRobinSchedulingAlgorithm(quanta[i]);
+                    EngineResult result = roundRobin.simulate(workload, options);
+                    rows[i] = new Row(quanta[i], result.averageWaitingTime(), result.averageTurnaroundTime(),
+                            result.averageResponseTime(), result.contextSwitches(), result.switchOverhead());
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SweepTask(workload, quanta, options, rows, from, mid),
+                    new SweepTask(workload, quanta, options, rows, mid, to));
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package cpuscheduler.cache;
+
+import cpuscheduler.algorithms.SchedulingAlgorithm;
+import cpuscheduler.engine.EngineResult;
+import cpuscheduler.engine.RunOptions;
+import cpuscheduler.engine.Workload;
+import cpuscheduler.trace.TraceSink;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Caches simulation results by content, so running the same algorithm configuration on the same
+ * processes again returns at once. Keys are {@link ResultKey}s; results are kept in memory in
+ * least-recently-used order up to a byte budget, and optionally in a directory of files that
+ * outlives the process and can be shared between sessions.
+ *
+ * <p>A result recorded with Gantt slices also answers a request without them. Runs with a trace
+ * are never cached, since the trace needs every event, and neither are runs with I/O bursts,
+ * whose blocked times the cache files do not hold. The cache is safe to use from several
+ * threads; two threads missing on the same key both simulate, and the second result replaces
+ * the first.
+ *
+ * <p>The disk tier is best effort: a file that cannot be read or written counts as a miss.
+ */
+public final class ResultCache {
+    private static final String SUFFIX = ".cpuc";
+    // Three latency histograms of 6,144 int buckets (24 KiB each), plus object headers
+    private static final long FIXED_BYTES = 3L * 24 * 1024 + 256;
+
+    private final long maxMemoryBytes;
+    private final Path directory;
+    private final long maxDiskBytes;
+
+    private final LinkedHashMap<ResultKey, EngineResult> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryBytes;
+    private long hits;
+    private long diskHits;
+    private long misses;
+    private long diskErrors;
+
+    /**
+     * Creates a cache held in memory only.
+     * @param maxMemoryBytes The approximate heap the cached results may use.
+     */
+    public ResultCache(long maxMemoryBytes) {
+        this(maxMemoryBytes, null, 0);
+    }
+
+    /**
+     * Creates a cache with a disk tier.
+     * @param maxMemoryBytes The approximate heap the cached results may use.
+     * @param directory The directory of cached result files, created if missing; null for none.
+     * @param maxDiskBytes The total size of the cached files; the least recently used are deleted beyond it.
+     * @throws java.io.UncheckedIOException If the directory cannot be created.
+     */
+    public ResultCache(long maxMemoryBytes, Path directory, long maxDiskBytes) {
+        if (maxMemoryBytes < 0 || maxDiskBytes < 0) {
+            throw new IllegalArgumentException("Cache sizes cannot be negative.");
+        }
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.directory = directory;
+        this.maxDiskBytes = maxDiskBytes;
+        if (directory != null) {
+            try {
+                Files.createDirectories(directory);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot create cache directory " + directory + ".", e);
+            }
+        }
+    }
+
+    /**
+     * Returns the cached result of a run, simulating and caching it on a miss.
+     * @param algorithm The configured algorithm.
+     * @param workload The processes to schedule.
+     * @param options What to record and report during the run; progress is only reported on a miss.
+     * @return The result. On a hit its workload is the one the result was first computed for,
+     * which has the same content.
+     * @throws java.util.concurrent.CancellationException If the thread is interrupted during the run.
+     */
+    public EngineResult simulate(SchedulingAlgorithm algorithm, Workload workload, RunOptions options) {
+        if (options.trace() != TraceSink.NONE || workload.hasIoBursts()) {
+            return algorithm.simulate(workload, options);
+        }
+        ResultKey key = ResultKey.of(workload, algorithm, options.switchCost(), options.recordGantt());
+        EngineResult result = get(key, workload);
+        if (result == null) {
+            result = algorithm.simulate(workload, options);
+            put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Looks a run up in memory, then on disk.
+     * @param key The key of the run.
+     * @param workload The workload the key was computed from, used to rebuild a result read from disk.
+     * @return The result, or null on a miss.
+     */
+    public EngineResult get(ResultKey key, Workload workload) {
+        synchronized (this) {
+            EngineResult result = entries.get(key);
+            if (result == null && !key.gantt()) {
+                result = entries.get(key.withGantt(true));
+            }
+            if (result != null) {
+                hits++;
+                return result;
+            }
+        }
+        ResultKey found = key;
+        EngineResult result = readFromDisk(key, workload);
+        if (result == null && !key.gantt()) {
+            found = key.withGantt(true);
+            result = readFromDisk(found, workload);
+        }
+        synchronized (this) {
+            if (result == null) {
+                misses++;
+                return null;
+            }
+            diskHits++;
+            putInMemory(found, result);
+            return result;
+        }
+    }
+
+    /**
+     * Adds a result to both tiers, unless its workload has I/O bursts.
+     * @param key The key of the run.
+     * @param result The result of the run.
+     */
+    public void put(ResultKey key, EngineResult result) {
+        if (result.workload().hasIoBursts()) {
+            return;
+        }
+        synchronized (this) {
+            putInMemory(key, result);
+        }
+        writeToDisk(key, result);
+    }
+
+    /**
+     * Drops every result held in memory; files on disk are kept.
+     */
+    public synchronized void clearMemory() {
+        entries.clear();
+        memoryBytes = 0;
+    }
+
+    public synchronized long hitCount() {
+        return hits;
+    }
+
+    public synchronized long diskHitCount() {
+        return diskHits;
+    }
+
+    public synchronized long missCount() {
+        return misses;
+    }
+
+    public synchronized long diskErrorCount() {
+        return diskErrors;
+    }
+
+    public synchronized long memoryBytes() {
+        return memoryBytes;
+    }
+
+    public synchronized int memoryEntries() {
+        return entries.size();
+    }
+
+    /**
+     * Estimates the heap held by a result: its own columns, the workload it references, its
+     * Gantt slices and its histograms.
+     */
+    static long estimatedBytes(EngineResult result) {
+        return 24L * result.size() + 16L * result.size() + 12L * result.gantt().size() + FIXED_BYTES;
+    }
+
+    private void putInMemory(ResultKey key, EngineResult result) {
+        long bytes = estimatedBytes(result);
+        if (bytes > maxMemoryBytes) {
+            return;
+        }
+        EngineResult previous = entries.put(key, result);
+        if (previous != null) {
+            memoryBytes -= estimatedBytes(previous);
+        }
+        memoryBytes += bytes;
+        Iterator<EngineResult> eldest = entries.values().iterator();
+        while (memoryBytes > maxMemoryBytes) {
+            memoryBytes -= estimatedBytes(eldest.next());
+            eldest.remove();
+        }
+    }
+
+    private EngineResult readFromDisk(ResultKey key, Workload workload) {
+        if (directory == null) {
+            return null;
+        }
+        Path path = directory.resolve(key.fileName());
+        try {
+            EngineResult result = ResultCacheFile.read(path, key, workload);
+            if (result != null) {
+                // The modification time orders files for eviction
+                Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+            }
+            return result;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            synchronized (this) {
+                diskErrors++;
+            }
+            return null;
+        }
+    }
+
+    private void writeToDisk(ResultKey key, EngineResult result) {
+        if (directory == null || 16L * result.size() + 12L * result.gantt().size() > maxDiskBytes) {
+            return;
+        }
+        try {
+            ResultCacheFile.write(directory.resolve(key.fileName()), key, result);
+            evictFiles();
+        } catch (IOException e) {
+            synchronized (this) {
+                diskErrors++;
+            }
+        }
+    }
+
+    private synchronized void evictFiles() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> listing = Files.list(directory)) {
+            listing.filter(p -> p.getFileName().toString().endsWith(SUFFIX)).forEach(files::add);
+        }
+        Map<Path, long[]> attributes = new LinkedHashMap<>();
+        long total = 0;
+        for (Path file : files) {
+            try {
+                long size = Files.size(file);
+                attributes.put(file, new long[]{Files.getLastModifiedTime(file).toMillis(), size});
+                total += size;
+            } catch (NoSuchFileException e) {
+                // Deleted by another session meanwhile
+            }
+        }
+        if (total <= maxDiskBytes) {
+            return;
+        }
+        List<Path> oldestFirst = new ArrayList<>(attributes.keySet());
+        oldestFirst.sort(Comparator.comparingLong(p -> attributes.get(p)[0]));
+        for (Path file : oldestFirst) {
+            if (total <= maxDiskBytes) {
+                break;
+            }
+            Files.deleteIfExists(file);
+            total -= attributes.get(file)[1];
+        }
+    }
+}
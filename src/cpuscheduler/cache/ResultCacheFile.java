@@ -0,0 +1,124 @@
+package cpuscheduler.cache;
+
+import cpuscheduler.GanttChart;
+import cpuscheduler.engine.EngineResult;
+import cpuscheduler.engine.Workload;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The on-disk form of a cached result: a header that repeats the full key, then the start,
+ * completion and response columns by row, the completion order and the Gantt slices, all as
+ * little-endian ints. Files are written under a temporary name and moved into place, so a
+ * reader never sees a partial file.
+ */
+final class ResultCacheFile {
+    private static final int MAGIC = 0x43555043; // "CPUC"
+    // 3 since the first dispatch on a core pays no switch latency and warm-up follows an idle CPU or I/O;
+    // 4 since an MLFQ boost also restarts the used time of processes already on the top level
+    private static final int VERSION = 4;
+    // Magic, version, two hash longs, the switch overhead long, five ints; the configuration bytes follow
+    private static final int HEADER_BYTES = 52;
+    private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private ResultCacheFile() {
+    }
+
+    static void write(Path path, ResultKey key, EngineResult result) throws IOException {
+        byte[] configuration = key.configuration().getBytes(StandardCharsets.UTF_8);
+        int n = result.size();
+        GanttChart gantt = result.gantt();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES + configuration.length).order(ORDER);
+        header.putInt(MAGIC).putInt(VERSION).putLong(key.hashHigh()).putLong(key.hashLow())
+                .putLong(result.switchOverheadTime()).putInt(n).putInt(result.contextSwitches()).putInt(result.preemptions()).putInt(gantt.size())
+                .putInt(configuration.length).put(configuration).flip();
+
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, header);
+            ByteBuffer buffer = ByteBuffer.allocate(1 << 20).order(ORDER);
+            for (int column = 0; column < 4; column++) {
+                for (int i = 0; i < n; i++) {
+                    if (!buffer.hasRemaining()) {
+                        writeFully(channel, buffer.flip());
+                        buffer.clear();
+                    }
+                    buffer.putInt(switch (column) {
+                        case 0 -> result.startTime(i);
+                        case 1 -> result.completionTime(i);
+                        case 2 -> result.responseTime(i);
+                        default -> result.completedRow(i);
+                    });
+                }
+            }
+            for (int slice = 0; slice < gantt.size(); slice++) {
+                if (buffer.remaining() < 12) {
+                    writeFully(channel, buffer.flip());
+                    buffer.clear();
+                }
+                buffer.putInt(gantt.processId(slice)).putInt(gantt.start(slice)).putInt(gantt.end(slice));
+            }
+            writeFully(channel, buffer.flip());
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads a cached result back.
+     * @return The result, or null if the file belongs to a different key.
+     */
+    static EngineResult read(Path path, ResultKey key, Workload workload) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            ByteBuffer in = map.order(ORDER);
+            if (in.remaining() < HEADER_BYTES || in.getInt() != MAGIC || in.getInt() != VERSION) {
+                throw new IOException(path + ": not a result cache file.");
+            }
+            long hashHigh = in.getLong();
+            long hashLow = in.getLong();
+            long switchOverheadTime = in.getLong();
+            int n = in.getInt();
+            int contextSwitches = in.getInt();
+            int preemptions = in.getInt();
+            int slices = in.getInt();
+            byte[] configuration = new byte[in.getInt()];
+            in.get(configuration);
+            if (hashHigh != key.hashHigh() || hashLow != key.hashLow() || n != key.size() || n != workload.size()
+                    || !key.configuration().equals(new String(configuration, StandardCharsets.UTF_8))) {
+                return null;
+            }
+            if (in.remaining() != 16L * n + 12L * slices) {
+                throw new IOException(path + ": truncated result cache file.");
+            }
+            IntBuffer ints = in.slice().order(ORDER).asIntBuffer();
+            int[] startTimes = new int[n];
+            int[] completionTimes = new int[n];
+            int[] responseTimes = new int[n];
+            int[] completionOrder = new int[n];
+            ints.get(startTimes).get(completionTimes).get(responseTimes).get(completionOrder);
+            GanttChart gantt = new GanttChart(slices);
+            for (int slice = 0; slice < slices; slice++) {
+                gantt.add(ints.get(), ints.get(), ints.get());
+            }
+            return EngineResult.restore(workload, startTimes, completionTimes, responseTimes, completionOrder,
+                    contextSwitches, preemptions, switchOverheadTime, gantt);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package cpuscheduler.cache;
+
+import cpuscheduler.algorithms.SchedulingAlgorithm;
+import cpuscheduler.engine.ContextSwitchCost;
+import cpuscheduler.engine.Workload;
+
+/**
+ * Identifies a run by its content: a 128-bit hash of the workload columns and I/O bursts, the
+ * workload size, the algorithm configuration with the context switch cost, and whether Gantt
+ * slices were recorded. Equal workloads built separately get equal keys, so a key can also name
+ * a file shared between sessions.
+ */
+public record ResultKey(long hashHigh, long hashLow, int size, String configuration, boolean gantt) {
+    private static final long K1 = 0x9E3779B97F4A7C15L;
+    private static final long K2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long K3 = 0x165667B19E3779F9L;
+    private static final long K4 = 0xFF51AFD7ED558CCDL;
+
+    /**
+     * Computes the key of a run with free context switches.
+     * @param workload The processes to schedule.
+     * @param algorithm The configured algorithm.
+     * @param gantt Whether the run records Gantt slices.
+     * @return The key.
+     */
+    public static ResultKey of(Workload workload, SchedulingAlgorithm algorithm, boolean gantt) {
+        return of(workload, algorithm, ContextSwitchCost.NONE, gantt);
+    }
+
+    /**
+     * Computes the key of a run. Hashing reads every row once, about a millisecond per million processes.
+     * @param workload The processes to schedule.
+     * @param algorithm The configured algorithm.
+     * @param switchCost The cost of a context switch in the run.
+     * @param gantt Whether the run records Gantt slices.
+     * @return The key.
+     */
+    public static ResultKey of(Workload workload, SchedulingAlgorithm algorithm, ContextSwitchCost switchCost,
+                               boolean gantt) {
+        // Two independent lanes over (pid, burst) and (priority, arrival) pairs
+        long h1 = K1;
+        long h2 = K2;
+        int n = workload.size();
+        for (int row = 0; row < n; row++) {
+            long a = ((long) workload.processId(row) << 32) ^ (workload.burstTime(row) & 0xFFFFFFFFL);
+            long b = ((long) workload.priority(row) << 32) ^ (workload.arrivalTime(row) & 0xFFFFFFFFL);
+            h1 = Long.rotateLeft(h1 ^ (a * K3), 29) * K1 + b;
+            h2 = Long.rotateLeft(h2 + (b * K4), 31) * K2 ^ a;
+        }
+        if (workload.hasIoBursts()) {
+            long ioHash = workload.ioBursts().contentHash();
+            h1 = Long.rotateLeft(h1 ^ (ioHash * K3), 29) * K1;
+            h2 = Long.rotateLeft(h2 + (ioHash * K4), 31) * K2;
+        }
+        String configuration = switchCost.isFree()
+                ? algorithm.getConfiguration() : algorithm.getConfiguration() + " " + switchCost.describe();
+        return new ResultKey(mix(h1 ^ n), mix(h2 + n), n, configuration, gantt);
+    }
+
+    /**
+     * Gets the same key for a run with or without Gantt slices.
+     */
+    public ResultKey withGantt(boolean gantt) {
+        return gantt == this.gantt ? this : new ResultKey(hashHigh, hashLow, size, configuration, gantt);
+    }
+
+    /**
+     * Gets a file name that is unique to this key, up to hash collisions.
+     */
+    String fileName() {
+        return String.format("%016x%016x-%08x%s.cpuc", hashHigh, hashLow, configuration.hashCode(), gantt ? "g" : "");
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= K4;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+}
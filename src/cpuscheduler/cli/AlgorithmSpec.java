@@ -0,0 +1,86 @@
+package cpuscheduler.cli;
+
+import cpuscheduler.algorithms.AlgorithmRegistry;
+import cpuscheduler.algorithms.SchedulingAlgorithm;
+import cpuscheduler.engine.ContextSwitchCost;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Parses algorithm specifications of the form {@code name[:key=value]...}, for example
+ * {@code rr:quantum=4} or {@code mlfq:quanta=2/4/8:boost=100}, and context switch costs of the
+ * form {@code key=value[:key=value]...}, for example {@code dispatch=1:warmup=4/50}. Algorithm
+ * names and their parameters come from the {@link AlgorithmRegistry}, so plugins on the class
+ * path are accepted too; the built-in algorithms are created without reflection.
+ */
+final class AlgorithmSpec {
+    static final AlgorithmRegistry REGISTRY = AlgorithmRegistry.load();
+    static final List<String> NAMES = REGISTRY.ids();
+
+    private AlgorithmSpec() {
+    }
+
+    /**
+     * Creates the algorithm a specification describes.
+     * @param spec The specification.
+     * @return The configured algorithm.
+     * @throws IllegalArgumentException If the name, a key or a value is not valid.
+     */
+    static SchedulingAlgorithm parse(String spec) {
+        return REGISTRY.parse(spec);
+    }
+
+    /**
+     * Creates the context switch cost a specification describes. Keys are {@code dispatch} (the
+     * latency of every switch), {@code warmup} (penalty/time until the cache is cold) and
+     * {@code migration}; missing keys cost nothing.
+     * @param spec The specification, such as {@code dispatch=1:warmup=4/50:migration=2}.
+     * @return The cost model.
+     * @throws IllegalArgumentException If a key or a value is not valid.
+     */
+    static ContextSwitchCost parseSwitchCost(String spec) {
+        Map<String, String> parameters = parameters(spec);
+        ContextSwitchCost cost = ContextSwitchCost.dispatch(intParameter(parameters, "dispatch", 0))
+                .withMigration(intParameter(parameters, "migration", 0));
+        String warmup = parameters.remove("warmup");
+        if (warmup != null) {
+            int slash = warmup.indexOf('/');
+            try {
+                cost = cost.withCacheWarmup(Integer.parseInt(warmup.substring(0, slash < 0 ? warmup.length() : slash)),
+                        slash < 0 ? 0 : Integer.parseInt(warmup.substring(slash + 1)));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Parameter warmup must be penalty or penalty/coldAfter, got '"
+                        + warmup + "'.");
+            }
+        }
+        if (!parameters.isEmpty()) {
+            throw new IllegalArgumentException("Unknown parameter(s) " + parameters.keySet() + " for switch cost.");
+        }
+        return cost;
+    }
+
+    private static Map<String, String> parameters(String spec) {
+        String[] parts = spec.trim().split(":");
+        Map<String, String> parameters = new HashMap<>();
+        for (int i = 0; i < parts.length; i++) {
+            int eq = parts[i].indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Expected key=value in '" + spec + "', got '" + parts[i] + "'.");
+            }
+            parameters.put(parts[i].substring(0, eq).toLowerCase(Locale.ROOT), parts[i].substring(eq + 1));
+        }
+        return parameters;
+    }
+
+    private static int intParameter(Map<String, String> parameters, String key, int defaultValue) {
+        String value = parameters.remove(key);
+        try {
+            return value == null ? defaultValue : Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Parameter " + key + " must be an integer, got '" + value + "'.");
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package cpuscheduler.cli;
+
+import cpuscheduler.algorithms.SchedulingAlgorithm;
+import cpuscheduler.cache.ResultCache;
+import cpuscheduler.engine.ContextSwitchCost;
+import cpuscheduler.engine.EngineResult;
+import cpuscheduler.engine.RunOptions;
+import cpuscheduler.engine.Workload;
+import cpuscheduler.io.WorkloadReader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs scenarios on a fixed pool of worker threads and hands their results to a consumer in
+ * scenario order, as soon as every earlier scenario has finished. Each trace is read once, by the
+ * first worker that needs it, shared read-only by its scenarios and released after the last one,
+ * so a batch over many traces only holds the traces currently in use.
+ */
+final class BatchRunner {
+    /**
+     * One run: a trace and an algorithm.
+     */
+    record Scenario(Path trace, SchedulingAlgorithm algorithm) {
+    }
+
+    private final int threads;
+    private final ResultCache cache;
+    private final RunOptions options;
+
+    private final Map<Path, LoadedTrace> traces = new HashMap<>();
+    private ScenarioResult[] finished;
+    private int nextToWrite;
+
+    /**
+     * @param threads The number of worker threads.
+     * @param cache The result cache, or null to always simulate.
+     * @param switchCost The cost of a context switch in every run.
+     */
+    BatchRunner(int threads, ResultCache cache, ContextSwitchCost switchCost) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive.");
+        }
+        this.threads = threads;
+        this.cache = cache;
+        this.options = RunOptions.HEADLESS.withSwitchCost(switchCost);
+    }
+
+    /**
+     * Runs every scenario.
+     * @param scenarios The scenarios, in output order.
+     * @param output Receives every result in scenario order, on a worker thread, one call at a time.
+     * @return The number of scenarios that failed.
+     */
+    int run(List<Scenario> scenarios, Consumer<ScenarioResult> output) {
+        finished = new ScenarioResult[scenarios.size()];
+        nextToWrite = 0;
+        for (Scenario scenario : scenarios) {
+            traces.computeIfAbsent(scenario.trace(), LoadedTrace::new).pending++;
+        }
+        AtomicInteger failures = new AtomicInteger();
+        try (ExecutorService pool = Executors.newFixedThreadPool(threads, BatchRunner::workerThread)) {
+            for (int i = 0; i < scenarios.size(); i++) {
+                int index = i;
+                Scenario scenario = scenarios.get(i);
+                pool.execute(() -> {
+                    ScenarioResult result = runOne(scenario);
+                    if (result.isFailed()) {
+                        failures.incrementAndGet();
+                    }
+                    complete(index, result, output);
+                });
+            }
+        }
+        return failures.get();
+    }
+
+    private ScenarioResult runOne(Scenario scenario) {
+        String trace = scenario.trace().toString();
+        String algorithm = scenario.algorithm().getConfiguration();
+        LoadedTrace loaded = acquire(scenario.trace());
+        try {
+            Workload workload = loaded.get();
+            long start = System.nanoTime();
+            EngineResult result = cache == null
+                    ? scenario.algorithm().simulate(workload, options)
+                    : cache.simulate(scenario.algorithm(), workload, options);
+            return ScenarioResult.of(trace, algorithm, result, (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | RuntimeException e) {
+            return ScenarioResult.failed(trace, algorithm, e.getClass().getSimpleName() + ": " + e.getMessage());
+        } finally {
+            release(scenario.trace());
+        }
+    }
+
+    private synchronized LoadedTrace acquire(Path trace) {
+        return traces.get(trace);
+    }
+
+    private synchronized void release(Path trace) {
+        if (--traces.get(trace).pending == 0) {
+            traces.remove(trace);
+        }
+    }
+
+    private synchronized void complete(int index, ScenarioResult result, Consumer<ScenarioResult> output) {
+        finished[index] = result;
+        while (nextToWrite < finished.length && finished[nextToWrite] != null) {
+            output.accept(finished[nextToWrite]);
+            finished[nextToWrite++] = null;
+        }
+    }
+
+    private static Thread workerThread(Runnable task) {
+        Thread thread = new Thread(task, "scheduler-batch-worker");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * A trace that is read by whichever worker gets to it first; the others wait for that read.
+     */
+    private static final class LoadedTrace {
+        private final FutureTask<Workload> load;
+        private int pending;
+
+        LoadedTrace(Path path) {
+            load = new FutureTask<>(() -> WorkloadReader.read(path));
+        }
+
+        Workload get() throws IOException {
+            load.run(); // Does nothing if another worker already started it
+            try {
+                return load.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while reading the trace.", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException io) {
+                    throw io;
+                }
+                throw new IOException(e.getCause().getMessage(), e.getCause());
+            }
+        }
+    }
+}
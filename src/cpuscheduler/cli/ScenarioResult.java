@@ -0,0 +1,113 @@
+package cpuscheduler.cli;
+
+import cpuscheduler.engine.EngineResult;
+import cpuscheduler.metrics.LatencyHistogram;
+import cpuscheduler.metrics.SchedulingMetrics;
+
+import java.util.Locale;
+
+/**
+ * The summary of one scenario, written as one line of JSON or CSV. A failed scenario keeps its
+ * trace and algorithm and carries the error message instead of metrics.
+ */
+record ScenarioResult(String trace, String algorithm, long processes,
+                      double averageWaitingTime, int p50WaitingTime, int p99WaitingTime, int maxWaitingTime,
+                      double averageTurnaroundTime, int p50TurnaroundTime, int p99TurnaroundTime, int maxTurnaroundTime,
+                      double averageResponseTime, int p50ResponseTime, int p99ResponseTime, int maxResponseTime,
+                      int contextSwitches, int preemptions, long makespan, double throughput, double cpuUtilization,
+                      double switchOverhead, long millis, String error) {
+
+    static final String CSV_HEADER = "trace,algorithm,processes,"
+            + "avg_waiting,p50_waiting,p99_waiting,max_waiting,"
+            + "avg_turnaround,p50_turnaround,p99_turnaround,max_turnaround,"
+            + "avg_response,p50_response,p99_response,max_response,"
+            + "context_switches,preemptions,makespan,throughput,cpu_utilization,switch_overhead,millis,error";
+
+    static ScenarioResult of(String trace, String algorithm, EngineResult result, long millis) {
+        SchedulingMetrics metrics = result.metrics();
+        LatencyHistogram waiting = metrics.waitingTimes();
+        LatencyHistogram turnaround = metrics.turnaroundTimes();
+        LatencyHistogram response = metrics.responseTimes();
+        return new ScenarioResult(trace, algorithm, metrics.processCount(),
+                waiting.mean(), waiting.valueAtPercentile(50), waiting.valueAtPercentile(99), waiting.max(),
+                turnaround.mean(), turnaround.valueAtPercentile(50), turnaround.valueAtPercentile(99), turnaround.max(),
+                response.mean(), response.valueAtPercentile(50), response.valueAtPercentile(99), response.max(),
+                result.contextSwitches(), result.preemptions(), metrics.makespan(), metrics.throughput(),
+                metrics.cpuUtilization(), metrics.switchOverhead(), millis, null);
+    }
+
+    static ScenarioResult failed(String trace, String algorithm, String error) {
+        return new ScenarioResult(trace, algorithm, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+                error == null ? "failed" : error);
+    }
+
+    boolean isFailed() {
+        return error != null;
+    }
+
+    String toJson() {
+        StringBuilder json = new StringBuilder(512);
+        json.append("{\"trace\":");
+        appendJsonString(json, trace);
+        json.append(",\"algorithm\":");
+        appendJsonString(json, algorithm);
+        if (isFailed()) {
+            json.append(",\"error\":");
+            appendJsonString(json, error);
+            return json.append('}').toString();
+        }
+        json.append(String.format(Locale.ROOT, ",\"processes\":%d"
+                        + ",\"averageWaitingTime\":%.4f,\"p50WaitingTime\":%d,\"p99WaitingTime\":%d,\"maxWaitingTime\":%d"
+                        + ",\"averageTurnaroundTime\":%.4f,\"p50TurnaroundTime\":%d,\"p99TurnaroundTime\":%d,\"maxTurnaroundTime\":%d"
+                        + ",\"averageResponseTime\":%.4f,\"p50ResponseTime\":%d,\"p99ResponseTime\":%d,\"maxResponseTime\":%d"
+                        + ",\"contextSwitches\":%d,\"preemptions\":%d,\"makespan\":%d"
+                        + ",\"throughput\":%.6f,\"cpuUtilization\":%.6f,\"switchOverhead\":%.6f,\"millis\":%d}",
+                processes, averageWaitingTime, p50WaitingTime, p99WaitingTime, maxWaitingTime,
+                averageTurnaroundTime, p50TurnaroundTime, p99TurnaroundTime, maxTurnaroundTime,
+                averageResponseTime, p50ResponseTime, p99ResponseTime, maxResponseTime,
+                contextSwitches, preemptions, makespan, throughput, cpuUtilization, switchOverhead, millis));
+        return json.toString();
+    }
+
+    String toCsv() {
+        if (isFailed()) {
+            return csvField(trace) + "," + csvField(algorithm) + ",,,,,,,,,,,,,,,,,,,,," + csvField(error);
+        }
+        return csvField(trace) + "," + csvField(algorithm) + String.format(Locale.ROOT,
+                ",%d,%.4f,%d,%d,%d,%.4f,%d,%d,%d,%.4f,%d,%d,%d,%d,%d,%d,%.6f,%.6f,%.6f,%d,",
+                processes, averageWaitingTime, p50WaitingTime, p99WaitingTime, maxWaitingTime,
+                averageTurnaroundTime, p50TurnaroundTime, p99TurnaroundTime, maxTurnaroundTime,
+                averageResponseTime, p50ResponseTime, p99ResponseTime, maxResponseTime,
+                contextSwitches, preemptions, makespan, throughput, cpuUtilization, switchOverhead, millis);
+    }
+
+    private static void appendJsonString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    }
+                    else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,240 @@
+package cpuscheduler.cli;
+
+import cpuscheduler.cache.ResultCache;
+import cpuscheduler.engine.ContextSwitchCost;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The command-line entry point: runs algorithms over trace files without Swing and writes one
+ * machine-readable line per scenario. Nothing here touches AWT, so it runs on headless nodes.
+ *
+ * <p>Exit status is 0 when every scenario ran, 1 when some failed (their lines carry the error)
+ * and 2 for invalid arguments.
+ */
+public final class SchedulerCli {
+    private static final String USAGE = """
+            Usage: java -cp cpuscheduler.jar cpuscheduler.cli.SchedulerCli [options] [trace...]
+            Runs scheduling algorithms over CSV or binary trace files and writes one result line per
+            scenario (trace x algorithm).
+
+            Options:
+              -a, --algorithms SPECS  Comma-separated algorithms (default: all, default parameters).
+                                      A spec is name[:key=value]..., e.g. rr:quantum=4,
+                                      mlfq:quanta=2/4/8:boost=100, cfs:latency=24:min=3:wakeup=4.
+                                      Names: %s.
+              -b, --batch FILE        Read scenarios from FILE ('-' for standard input): one
+                                      "trace [spec...]" per line; without specs, --algorithms applies.
+                                      Relative traces are resolved against the file's directory.
+              -o, --output FILE       Write results to FILE instead of standard output.
+              -f, --format FORMAT     jsonl (default) or csv.
+              -j, --threads N         Worker threads (default: available processors).
+                  --cache-dir DIR     Reuse results stored in DIR by earlier runs, and add new ones.
+                  --switch-cost SPEC  Charge context switches to the clock, e.g.
+                                      dispatch=1:warmup=4/50 (4 units for a cold cache, less
+                                      for a process that ran within the last 50 units).
+              -h, --help              Show this help.
+            """.formatted(String.join(", ", AlgorithmSpec.NAMES));
+
+    private SchedulerCli() {
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    /**
+     * Runs the command line.
+     * @param args The arguments.
+     * @param out Where results go when no output file is given.
+     * @param err Where usage and errors go.
+     * @return The exit status.
+     */
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        for (String problem : AlgorithmSpec.REGISTRY.problems()) {
+            err.println("warning: skipped algorithm plugin: " + problem);
+        }
+        List<String> traces = new ArrayList<>();
+        List<String> algorithmSpecs = new ArrayList<>(AlgorithmSpec.NAMES);
+        String batch = null;
+        String output = null;
+        boolean csv = false;
+        int threads = Runtime.getRuntime().availableProcessors();
+        String cacheDir = null;
+        ContextSwitchCost switchCost = ContextSwitchCost.NONE;
+
+        List<BatchRunner.Scenario> scenarios = new ArrayList<>();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                switch (arg) {
+                    case "-h", "--help" -> {
+                        out.print(USAGE);
+                        return 0;
+                    }
+                    case "-a", "--algorithms" -> algorithmSpecs = List.of(value(args, ++i, arg).split(","));
+                    case "-b", "--batch" -> batch = value(args, ++i, arg);
+                    case "-o", "--output" -> output = value(args, ++i, arg);
+                    case "-f", "--format" -> {
+                        String format = value(args, ++i, arg);
+                        if (!format.equals("jsonl") && !format.equals("csv")) {
+                            throw new IllegalArgumentException("Unknown format '" + format + "'; expected jsonl or csv.");
+                        }
+                        csv = format.equals("csv");
+                    }
+                    case "-j", "--threads" -> threads = positive(value(args, ++i, arg), arg);
+                    case "--cache-dir" -> cacheDir = value(args, ++i, arg);
+                    case "--switch-cost" -> switchCost = AlgorithmSpec.parseSwitchCost(value(args, ++i, arg));
+                    default -> {
+                        if (arg.startsWith("-") && arg.length() > 1) {
+                            throw new IllegalArgumentException("Unknown option " + arg + ".");
+                        }
+                        traces.add(arg);
+                    }
+                }
+            }
+            for (String trace : traces) {
+                for (String spec : algorithmSpecs) {
+                    scenarios.add(new BatchRunner.Scenario(Path.of(trace), AlgorithmSpec.parse(spec)));
+                }
+            }
+            if (batch != null) {
+                readBatch(batch, algorithmSpecs, scenarios);
+            }
+            if (scenarios.isEmpty()) {
+                throw new IllegalArgumentException("No traces given.");
+            }
+        } catch (IllegalArgumentException e) {
+            err.println("error: " + e.getMessage());
+            err.print(USAGE);
+            return 2;
+        } catch (IOException e) {
+            err.println("error: cannot read batch file: " + e.getMessage());
+            return 2;
+        }
+
+        ResultCache cache = cacheDir == null ? null : new ResultCache(256L << 20, Path.of(cacheDir), 4L << 30);
+        boolean toFile = output != null;
+        Writer writer;
+        try {
+            writer = toFile
+                    ? Files.newBufferedWriter(Path.of(output), StandardCharsets.UTF_8)
+                    : new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            err.println("error: cannot write results: " + e.getMessage());
+            return 1;
+        }
+        try {
+            if (csv) {
+                writer.write(ScenarioResult.CSV_HEADER);
+                writer.write('\n');
+            }
+            boolean csvFormat = csv;
+            // Results are written from the worker threads; the first failed write stops the output
+            AtomicReference<IOException> writeError = new AtomicReference<>();
+            int failures = new BatchRunner(threads, cache, switchCost).run(scenarios, result -> {
+                if (result.isFailed()) {
+                    err.println("error: " + result.trace() + " / " + result.algorithm() + ": " + result.error());
+                }
+                if (writeError.get() != null) {
+                    return;
+                }
+                try {
+                    writer.write(csvFormat ? result.toCsv() : result.toJson());
+                    writer.write('\n');
+                    if (!toFile) {
+                        writer.flush(); // Let a job queue consume results as they complete
+                    }
+                } catch (IOException e) {
+                    writeError.set(e);
+                }
+            });
+            if (writeError.get() != null) {
+                throw writeError.get();
+            }
+            writer.flush();
+            return failures == 0 ? 0 : 1;
+        } catch (IOException e) {
+            err.println("error: cannot write results: " + e.getMessage());
+            return 1;
+        } finally {
+            closeQuietly(writer, toFile);
+        }
+    }
+
+    /**
+     * Closes a results file; standard output is only flushed, since the caller owns it.
+     */
+    private static void closeQuietly(Writer writer, boolean close) {
+        try {
+            if (close) {
+                writer.close();
+            }
+            else {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            // The write that failed has already been reported
+        }
+    }
+
+    private static void readBatch(String batch, List<String> defaultSpecs, List<BatchRunner.Scenario> scenarios)
+            throws IOException {
+        boolean stdin = batch.equals("-");
+        Path base = stdin ? Path.of("") : Path.of(batch).toAbsolutePath().getParent();
+        try (BufferedReader reader = stdin
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Path.of(batch), StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split("\\s+");
+                Path trace = base.resolve(fields[0]);
+                List<String> specs = fields.length > 1 ? List.of(fields).subList(1, fields.length) : defaultSpecs;
+                for (String spec : specs) {
+                    try {
+                        scenarios.add(new BatchRunner.Scenario(trace, AlgorithmSpec.parse(spec)));
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException(batch + ": line " + lineNumber + ": " + e.getMessage());
+                    }
+                }
+            }
+        }
+    }
+
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + option + ".");
+        }
+        return args[index];
+    }
+
+    private static int positive(String value, String option) {
+        try {
+            int number = Integer.parseInt(value);
+            if (number > 0) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException(option + " needs a positive integer, got '" + value + "'.");
+    }
+}
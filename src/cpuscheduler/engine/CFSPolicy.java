@@ -0,0 +1,152 @@
+package cpuscheduler.engine;
+
+import java.util.Arrays;
+
+/**
+ * Completely Fair Scheduler in the style of Linux CFS. Every process accumulates virtual
+ * runtime, its CPU time divided by a weight derived from its priority, and the process with
+ * the smallest virtual runtime runs next, picked from an {@link IndexedMinHeap} in O(log n).
+ *
+ * <ul>
+ *     <li>Priorities are nice values: they are clamped to [-20, 19] and mapped through the
+ *         Linux weight table, where each step is about 25% more or less CPU share.</li>
+ *     <li>A dispatched process runs for its share of the target latency, weight over the total
+ *         weight of runnable processes, but at least the minimum granularity.</li>
+ *     <li>An arriving process starts at the smallest virtual runtime seen so far, and preempts the
+ *         running process if that one is ahead by more than the wakeup granularity. A process
+ *         waking from I/O keeps its virtual runtime unless that has fallen behind the smallest.</li>
+ * </ul>
+ * Virtual runtimes are kept with 1/1024 time-unit resolution at nice 0; equal heap keys are
+ * ordered by workload row.
+ */
+public class CFSPolicy implements SchedulingPolicy {
+    // Linux sched_prio_to_weight, nice -20 to 19
+    private static final int[] WEIGHTS = {
+            88761, 71755, 56483, 46273, 36291,
+            29154, 23254, 18705, 14949, 11916,
+            9548, 7620, 6100, 4904, 3906,
+            3121, 2501, 1991, 1586, 1277,
+            1024, 820, 655, 526, 423,
+            335, 272, 215, 172, 137,
+            110, 87, 70, 56, 45,
+            36, 29, 23, 18, 15,
+    };
+    private static final int NICE_0_WEIGHT = 1024;
+    // Virtual runtime units per time unit at nice 0
+    private static final int VRUNTIME_SCALE = 1024;
+    private static final int BLOCKED = -2;
+
+    private final int targetLatency;
+    private final int minGranularity;
+    private final int wakeupGranularity;
+
+    private Workload workload;
+    private IndexedMinHeap readyQueue;
+    private long[] vruntimes;
+    // Remaining time when the process was last queued; -1 before its arrival, -2 while blocked
+    private int[] queuedRemaining;
+    private long minVruntime;
+    private long runnableWeight;
+    private int rowBits;
+    private long maxKeyVruntime;
+
+    /**
+     * @param targetLatency The period in which every runnable process should run once.
+     * @param minGranularity The shortest slice a process is given.
+     * @param wakeupGranularity How far ahead in virtual runtime the running process must be
+     *                          before an arrival preempts it, in nice-0 time units.
+     */
+    public CFSPolicy(int targetLatency, int minGranularity, int wakeupGranularity) {
+        if (targetLatency <= 0 || minGranularity <= 0) {
+            throw new IllegalArgumentException("Target latency and minimum granularity must be positive.");
+        }
+        if (wakeupGranularity < 0) {
+            throw new IllegalArgumentException("Wakeup granularity cannot be negative.");
+        }
+        this.targetLatency = targetLatency;
+        this.minGranularity = minGranularity;
+        this.wakeupGranularity = wakeupGranularity;
+    }
+
+    @Override
+    public void reset(Workload workload) {
+        int n = workload.size();
+        this.workload = workload;
+        readyQueue = new IndexedMinHeap(n);
+        vruntimes = new long[n];
+        queuedRemaining = new int[n];
+        Arrays.fill(queuedRemaining, -1);
+        minVruntime = 0;
+        runnableWeight = 0;
+        // The row takes the low bits of a heap key, virtual runtime the rest
+        rowBits = Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(n));
+        maxKeyVruntime = (1L << (Long.SIZE - 1 - rowBits)) - 1;
+    }
+
+    private static int weight(int priority) {
+        return WEIGHTS[Math.max(-20, Math.min(19, priority)) + 20];
+    }
+
+    private long vruntimeDelta(int row, int ran) {
+        return (long) ran * VRUNTIME_SCALE * NICE_0_WEIGHT / weight(workload.priorities[row]);
+    }
+
+    @Override
+    public void onReady(int row, int remainingTime) {
+        if (queuedRemaining[row] == BLOCKED) {
+            vruntimes[row] = Math.max(vruntimes[row], minVruntime);
+            runnableWeight += weight(workload.priorities[row]);
+        }
+        else if (queuedRemaining[row] < 0) {
+            vruntimes[row] = minVruntime;
+            runnableWeight += weight(workload.priorities[row]);
+        }
+        else {
+            vruntimes[row] += vruntimeDelta(row, queuedRemaining[row] - remainingTime);
+        }
+        queuedRemaining[row] = remainingTime;
+        long keyVruntime = vruntimes[row] / VRUNTIME_SCALE;
+        if (keyVruntime > maxKeyVruntime) {
+            throw new IllegalStateException("Virtual runtime " + keyVruntime + " does not fit the heap key.");
+        }
+        readyQueue.insert(row, (keyVruntime << rowBits) | row);
+    }
+
+    @Override
+    public int pollNext() {
+        int row = readyQueue.poll();
+        if (row >= 0) {
+            minVruntime = Math.max(minVruntime, vruntimes[row]);
+        }
+        return row;
+    }
+
+    @Override
+    public int timeSlice(int row) {
+        long share = (long) targetLatency * weight(workload.priorities[row]) / Math.max(1, runnableWeight);
+        return (int) Math.max(minGranularity, share);
+    }
+
+    @Override
+    public boolean shouldPreempt(int running, int remainingTime) {
+        int best = readyQueue.peek();
+        if (best < 0) {
+            return false;
+        }
+        long current = vruntimes[running] + vruntimeDelta(running, queuedRemaining[running] - remainingTime);
+        return current - vruntimes[best] > (long) wakeupGranularity * VRUNTIME_SCALE;
+    }
+
+    @Override
+    public void onBlocked(int row) {
+        // The whole remaining burst ran
+        vruntimes[row] += vruntimeDelta(row, queuedRemaining[row]);
+        queuedRemaining[row] = BLOCKED;
+        runnableWeight -= weight(workload.priorities[row]);
+    }
+
+    @Override
+    public void onCompletion(int row) {
+        runnableWeight -= weight(workload.priorities[row]);
+    }
+}
@@ -0,0 +1,109 @@
+package cpuscheduler.engine;
+
+/**
+ * The CPU time lost when a core dispatches a process, charged to the simulation clock before the
+ * process runs.
+ * <ul>
+ *   <li>Dispatch latency: a fixed cost of every context switch, for saving and restoring
+ *       registers and running the scheduler. A switch is a dispatch on a core whose last process
+ *       was a different one, the same dispatches {@link EngineResult#contextSwitches()} counts;
+ *       the first dispatch on a core that has run nothing is not a switch.</li>
+ *   <li>Cache warm-up: the process refills its caches after time off the CPU, whether it was
+ *       switched out, blocked on I/O or waiting while the core idled. The penalty grows linearly
+ *       with the time since the process last ran, up to the full penalty once its cache lines are
+ *       all evicted. A process that never ran pays the full penalty.</li>
+ *   <li>Migration: moving a process to a different core than the one it last ran on. Only
+ *       {@link MultiCoreSimulator} runs have more than one core.</li>
+ * </ul>
+ * Nothing is charged when a process keeps its core, dispatched again at the instant its slice ended.
+ *
+ * @param dispatchLatency The cost of every switch
+ * @param warmupPenalty The cost of refilling a cold cache
+ * @param coldAfter The time off the CPU after which a process's cache is cold; 0 for always cold
+ * @param migrationCost The extra cost of running on a different core than last time
+ */
+public record ContextSwitchCost(int dispatchLatency, int warmupPenalty, int coldAfter, int migrationCost) {
+    /**
+     * Free switches, as in a run without a cost model.
+     */
+    public static final ContextSwitchCost NONE = new ContextSwitchCost(0, 0, 0, 0);
+
+    public ContextSwitchCost {
+        if (dispatchLatency < 0 || warmupPenalty < 0 || coldAfter < 0 || migrationCost < 0) {
+            throw new IllegalArgumentException("Context switch costs cannot be negative.");
+        }
+        // A switch is charged in one dispatch, which must not overflow the clock
+        if ((long) dispatchLatency + warmupPenalty + migrationCost > Integer.MAX_VALUE / 2) {
+            throw new IllegalArgumentException("Context switch costs are too large.");
+        }
+    }
+
+    /**
+     * Charges a fixed latency for every switch and nothing else.
+     */
+    public static ContextSwitchCost dispatch(int dispatchLatency) {
+        return new ContextSwitchCost(dispatchLatency, 0, 0, 0);
+    }
+
+    public ContextSwitchCost withCacheWarmup(int warmupPenalty, int coldAfter) {
+        return new ContextSwitchCost(dispatchLatency, warmupPenalty, coldAfter, migrationCost);
+    }
+
+    public ContextSwitchCost withMigration(int migrationCost) {
+        return new ContextSwitchCost(dispatchLatency, warmupPenalty, coldAfter, migrationCost);
+    }
+
+    /**
+     * Gets whether switches cost nothing, so engines can keep their zero-cost fast paths.
+     */
+    public boolean isFree() {
+        return dispatchLatency == 0 && warmupPenalty == 0 && migrationCost == 0;
+    }
+
+    /**
+     * Gets the cost of dispatching a process.
+     * @param switching Whether the core last ran a different process, so the dispatch is a context switch.
+     * @param sinceLastRun The time since the process last left a CPU, or -1 if it never ran.
+     * @param migrated Whether the process last ran on a different core.
+     */
+    int dispatchCost(boolean switching, int sinceLastRun, boolean migrated) {
+        if (!switching && !migrated && sinceLastRun == 0) {
+            return 0; // The process keeps its core
+        }
+        return (switching ? dispatchLatency : 0) + warmup(sinceLastRun) + (migrated ? migrationCost : 0);
+    }
+
+    private int warmup(int sinceLastRun) {
+        if (warmupPenalty == 0) {
+            return 0;
+        }
+        if (sinceLastRun < 0 || sinceLastRun >= coldAfter) {
+            return warmupPenalty;
+        }
+        // Rounded up, so a process off the CPU for any time pays at least one unit
+        return (int) (((long) warmupPenalty * sinceLastRun + coldAfter - 1) / coldAfter);
+    }
+
+    /**
+     * Describes the non-zero costs, such as {@code switch(dispatch=1, warmup=4/50)}; empty if free.
+     */
+    public String describe() {
+        if (isFree()) {
+            return "";
+        }
+        StringBuilder text = new StringBuilder("switch(");
+        String separator = "";
+        if (dispatchLatency > 0) {
+            text.append("dispatch=").append(dispatchLatency);
+            separator = ", ";
+        }
+        if (warmupPenalty > 0) {
+            text.append(separator).append("warmup=").append(warmupPenalty).append('/').append(coldAfter);
+            separator = ", ";
+        }
+        if (migrationCost > 0) {
+            text.append(separator).append("migration=").append(migrationCost);
+        }
+        return text.append(')').toString();
+    }
+}
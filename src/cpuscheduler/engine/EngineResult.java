@@ -0,0 +1,332 @@
+package cpuscheduler.engine;
+
+import cpuscheduler.GanttChart;
+import cpuscheduler.Process;
+import cpuscheduler.SchedulerResult;
+import cpuscheduler.metrics.LatencyHistogram;
+import cpuscheduler.metrics.SchedulingMetrics;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Per-process metrics produced by {@link EventSimulator}, stored as primitive columns
+ * indexed by workload row, plus the dispatch slices needed for a Gantt chart.
+ */
+public final class EngineResult {
+    private final Workload workload;
+    final int[] startTimes;
+    final int[] completionTimes;
+    final int[] waitingTimes;
+    final int[] turnaroundTimes;
+    final int[] responseTimes;
+    // Rows in the order they terminated
+    final int[] completionOrder;
+    int contextSwitches;
+    int preemptions;
+    // Time each process spent blocked on I/O, in the device queue or being served; null without I/O
+    final int[] blockedTimes;
+    long ioBusyTime;
+    long ioOverlapTime;
+    // CPU time spent switching between processes, charged by the run's ContextSwitchCost
+    long switchOverheadTime;
+
+    // Filled as processes complete, so percentiles never need a sort
+    private final LatencyHistogram waitingHistogram = new LatencyHistogram();
+    private final LatencyHistogram turnaroundHistogram = new LatencyHistogram();
+    private final LatencyHistogram responseHistogram = new LatencyHistogram();
+
+    private final GanttChart gantt = new GanttChart();
+
+    EngineResult(Workload workload) {
+        int n = workload.size();
+        this.workload = workload;
+        this.startTimes = new int[n];
+        this.completionTimes = new int[n];
+        this.waitingTimes = new int[n];
+        this.turnaroundTimes = new int[n];
+        this.responseTimes = new int[n];
+        this.completionOrder = new int[n];
+        this.blockedTimes = workload.ioBursts == null ? null : new int[n];
+    }
+
+    /**
+     * Rebuilds a result that was stored elsewhere, such as in a cache file. Waiting and
+     * turnaround times and the histograms are derived again from the completion times, so the
+     * workload cannot have I/O bursts.
+     * @param workload The processes that were scheduled.
+     * @param startTimes The first dispatch of every row.
+     * @param completionTimes The completion time of every row.
+     * @param responseTimes The response time of every row.
+     * @param completionOrder The rows in the order they terminated.
+     * @param contextSwitches The number of context switches of the run.
+     * @param preemptions The number of preemptions of the run.
+     * @param switchOverheadTime The CPU time the run spent switching between processes.
+     * @param gantt The dispatch slices of the run; may be empty.
+     * @return The result.
+     */
+    public static EngineResult restore(Workload workload, int[] startTimes, int[] completionTimes, int[] responseTimes,
+                                       int[] completionOrder, int contextSwitches, int preemptions, long switchOverheadTime,
+                                       GanttChart gantt) {
+        int n = workload.size();
+        if (workload.ioBursts != null) {
+            throw new IllegalArgumentException("A result with I/O bursts cannot be restored from completion times.");
+        }
+        if (startTimes.length != n || completionTimes.length != n || responseTimes.length != n
+                || completionOrder.length != n) {
+            throw new IllegalArgumentException("Every column must have one value per process.");
+        }
+        EngineResult result = new EngineResult(workload);
+        System.arraycopy(startTimes, 0, result.startTimes, 0, n);
+        System.arraycopy(responseTimes, 0, result.responseTimes, 0, n);
+        System.arraycopy(completionOrder, 0, result.completionOrder, 0, n);
+        for (int row = 0; row < n; row++) {
+            result.recordCompletion(row, completionTimes[row]);
+        }
+        result.contextSwitches = contextSwitches;
+        result.preemptions = preemptions;
+        result.switchOverheadTime = switchOverheadTime;
+        for (int slice = 0; slice < gantt.size(); slice++) {
+            result.gantt.add(gantt.processId(slice), gantt.start(slice), gantt.end(slice));
+        }
+        return result;
+    }
+
+    /**
+     * Records the completion metrics of a process whose response time is already set.
+     * Completion order is kept by the caller.
+     */
+    void recordCompletion(int row, int completionTime) {
+        int turnaround = completionTime - workload.arrivalTimes[row];
+        int waiting = turnaround - workload.burstTimes[row] - (blockedTimes == null ? 0 : blockedTimes[row]);
+        completionTimes[row] = completionTime;
+        turnaroundTimes[row] = turnaround;
+        waitingTimes[row] = waiting;
+        waitingHistogram.record(waiting);
+        turnaroundHistogram.record(turnaround);
+        responseHistogram.record(responseTimes[row]);
+    }
+
+    void addSlice(int row, int start, int end) {
+        gantt.add(workload.processIds[row], start, end);
+    }
+
+    public Workload workload() {
+        return workload;
+    }
+
+    public int size() {
+        return workload.size();
+    }
+
+    public int startTime(int row) {
+        return startTimes[row];
+    }
+
+    public int completionTime(int row) {
+        return completionTimes[row];
+    }
+
+    public int waitingTime(int row) {
+        return waitingTimes[row];
+    }
+
+    public int turnaroundTime(int row) {
+        return turnaroundTimes[row];
+    }
+
+    public int responseTime(int row) {
+        return responseTimes[row];
+    }
+
+    /**
+     * Gets how long a process was blocked on I/O, waiting for the device or being served by it.
+     * Waiting time only counts time in the ready queue, so turnaround is burst plus waiting plus
+     * blocked time.
+     */
+    public int blockedTime(int row) {
+        return blockedTimes == null ? 0 : blockedTimes[row];
+    }
+
+    /**
+     * Gets the workload row that terminated in the given position.
+     * @param position 0 for the first process to terminate, size() - 1 for the last.
+     * @return The workload row.
+     */
+    public int completedRow(int position) {
+        return completionOrder[position];
+    }
+
+    /**
+     * Gets how many times the CPU switched from one process to a different one.
+     */
+    public int contextSwitches() {
+        return contextSwitches;
+    }
+
+    /**
+     * Gets how many times a running process lost the CPU to an arrival.
+     */
+    public int preemptions() {
+        return preemptions;
+    }
+
+    public double averageWaitingTime() {
+        return waitingHistogram.mean();
+    }
+
+    public double averageTurnaroundTime() {
+        return turnaroundHistogram.mean();
+    }
+
+    public double averageResponseTime() {
+        return responseHistogram.mean();
+    }
+
+    /**
+     * Gets a waiting-time percentile by the nearest-rank method, within 0.4% (see {@link LatencyHistogram}).
+     * @param percentile The percentile, between 0 and 100.
+     */
+    public int waitingTimePercentile(double percentile) {
+        return waitingHistogram.valueAtPercentile(percentile);
+    }
+
+    /**
+     * Gets a turnaround-time percentile by the nearest-rank method, within 0.4% (see {@link LatencyHistogram}).
+     * @param percentile The percentile, between 0 and 100.
+     */
+    public int turnaroundTimePercentile(double percentile) {
+        return turnaroundHistogram.valueAtPercentile(percentile);
+    }
+
+    /**
+     * Gets a response-time percentile by the nearest-rank method, within 0.4% (see {@link LatencyHistogram}).
+     * @param percentile The percentile, between 0 and 100.
+     */
+    public int responseTimePercentile(double percentile) {
+        return responseHistogram.valueAtPercentile(percentile);
+    }
+
+    /**
+     * Gets the latency distributions and run counters as one typed object.
+     * @return Metrics over copies of this result's histograms.
+     */
+    public SchedulingMetrics metrics() {
+        return new SchedulingMetrics(waitingHistogram.copy(), turnaroundHistogram.copy(), responseHistogram.copy(),
+                contextSwitches, preemptions, busyTime(), makespan(), ioBusyTime, ioOverlapTime,
+                switchOverheadTime);
+    }
+
+    /**
+     * Gets the time from the first arrival to the last completion.
+     */
+    public long makespan() {
+        if (size() == 0) {
+            return 0;
+        }
+        int firstArrival = Integer.MAX_VALUE;
+        int lastCompletion = Integer.MIN_VALUE;
+        for (int i = 0; i < size(); i++) {
+            firstArrival = Math.min(firstArrival, workload.arrivalTimes[i]);
+            lastCompletion = Math.max(lastCompletion, completionTimes[i]);
+        }
+        return (long) lastCompletion - firstArrival;
+    }
+
+    /**
+     * Gets the completed processes per time unit over the makespan.
+     */
+    public double throughput() {
+        long makespan = makespan();
+        return makespan == 0 ? 0 : (double) size() / makespan;
+    }
+
+    /**
+     * Gets the fraction of the makespan in which the CPU ran a process.
+     */
+    public double cpuUtilization() {
+        long makespan = makespan();
+        return makespan == 0 ? 0 : (double) busyTime() / makespan;
+    }
+
+    /**
+     * Gets the fraction of the makespan in which the I/O device served a process.
+     */
+    public double ioUtilization() {
+        long makespan = makespan();
+        return makespan == 0 ? 0 : (double) ioBusyTime / makespan;
+    }
+
+    /**
+     * Gets the fraction of the makespan in which the CPU and the I/O device were both busy.
+     */
+    public double ioOverlap() {
+        long makespan = makespan();
+        return makespan == 0 ? 0 : (double) ioOverlapTime / makespan;
+    }
+
+    /**
+     * Gets the CPU time spent dispatching processes: switch latency, cache warm-up and migration.
+     * Dispatches are free unless the run had a {@link ContextSwitchCost}; the time counts as
+     * waiting time of the process dispatched.
+     */
+    public long switchOverheadTime() {
+        return switchOverheadTime;
+    }
+
+    /**
+     * Gets the fraction of the makespan the CPU spent switching between processes rather than
+     * running them, the throughput lost to context switches.
+     */
+    public double switchOverhead() {
+        long makespan = makespan();
+        return makespan == 0 ? 0 : (double) switchOverheadTime / makespan;
+    }
+
+    private long busyTime() {
+        long busy = 0;
+        for (int burst : workload.burstTimes) {
+            busy += burst;
+        }
+        return busy;
+    }
+
+    /**
+     * Gets the recorded dispatch slices; empty unless the run was asked to record them.
+     * @return The Gantt chart of the run.
+     */
+    public GanttChart gantt() {
+        return gantt;
+    }
+
+    /**
+     * Exposes this result through the object model the GUI uses. Processes are materialized
+     * lazily, one per {@code get} call, in the order they terminated.
+     * @return A SchedulerResult view over these columns.
+     */
+    public SchedulerResult toSchedulerResult() {
+        return new SchedulerResult(new CompletedProcessView(), gantt,
+                averageWaitingTime(), averageTurnaroundTime(), averageResponseTime(), contextSwitches, metrics());
+    }
+
+    private final class CompletedProcessView extends AbstractList<Process> implements RandomAccess {
+        @Override
+        public Process get(int index) {
+            int row = completionOrder[index];
+            Process p = new Process(workload.processIds[row], workload.burstTimes[row], workload.priorities[row],
+                    workload.arrivalTimes[row]);
+            p.setStartTime(startTimes[row]);
+            p.setCompletionTime(completionTimes[row]);
+            p.setResponseTime(responseTimes[row]);
+            p.setWaitingTime(waitingTimes[row]);
+            p.setTurnaroundTime(turnaroundTimes[row]);
+            p.setState(Process.TERMINATED);
+            return p;
+        }
+
+        @Override
+        public int size() {
+            return completionOrder.length;
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package cpuscheduler.engine;
+
+import cpuscheduler.monitoring.RunMonitor;
+import cpuscheduler.monitoring.SchedulerMonitor;
+import cpuscheduler.trace.TraceSink;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Discrete-event simulation of a single CPU. Time jumps straight from one event to the next
+ * (arrival, dispatch, quantum expiry, completion) instead of ticking, and the policy decides
+ * which ready process is dispatched. Pending events live in an {@link IndexedMinHeap} keyed by
+ * time, so a run over n processes costs O(n log n) plus the work done by the policy.
+ *
+ * <p>A workload with {@link IoBursts} adds one I/O device. A process that finishes a CPU burst
+ * before its last is Blocked: it joins the device's first-come-first-served wait queue, and once
+ * the device has served its I/O burst it becomes ready again with its next CPU burst. The CPU
+ * runs other processes meanwhile; the result reports how long the two overlapped.
+ *
+ * <p>With a {@link ContextSwitchCost} in the run options, a dispatch of a different process than
+ * the last one first spends the switch cost on the CPU, and the process's slice starts after it.
+ * An arrival can preempt a process that is still being switched in; the switch time spent so far
+ * is lost and the process has not run.
+ *
+ * <p>Events that happen at the same instant are handled in this order: arrivals (by arrival time,
+ * then workload row), then the end of an I/O burst, then the completion or quantum expiry of the
+ * running process, then the next dispatch. A process whose quantum expires therefore goes behind
+ * processes that arrive or return from I/O at that same instant.
+ */
+public final class EventSimulator {
+    // Event types; the value is the tie-break rank of events at the same instant
+    static final int ARRIVAL = 0;
+    static final int IO_COMPLETION = 1;
+    static final int COMPLETION = 2;
+    static final int QUANTUM_EXPIRY = 3;
+    static final int DISPATCH = 4;
+    private static final int TYPE_BITS = 3;
+
+    // Heap slots: the next arrival, whatever the CPU does next, and the end of the current I/O
+    private static final int ARRIVALS = 0;
+    private static final int CPU = 1;
+    private static final int DEVICE = 2;
+
+    private final Workload workload;
+    private final SchedulingPolicy policy;
+    private final boolean recordGantt;
+    private final TraceSink trace;
+    private final ProgressListener progress;
+
+    private final EngineResult result;
+    private final IndexedMinHeap events = new IndexedMinHeap(3);
+    // Of the current CPU burst
+    private final int[] remaining;
+    private int[] arrivalOrder;
+    private int nextArrival;
+    private int completed;
+
+    private RunMonitor monitor;
+    private int running = -1;
+    private int sliceStart;
+    private int lastDispatched = -1;
+
+    // The switch cost is charged from dispatchedAt to sliceStart; lastRan is null while switches are free
+    private final ContextSwitchCost switchCost;
+    private int[] lastRan;
+    private int dispatchedAt;
+
+    // Null, and the I/O state unused, when no process does I/O
+    private final IoBursts io;
+    private int[] burstIndex;
+    private int[] blockedSince;
+    private IntRingBuffer deviceQueue;
+    private int onDevice = -1;
+    private int ioStart;
+    private int blocked;
+    private int lastEventTime;
+
+    private EventSimulator(Workload workload, SchedulingPolicy policy, RunOptions options) {
+        this.workload = workload;
+        this.policy = policy;
+        this.recordGantt = options.recordGantt();
+        this.trace = options.trace();
+        this.progress = options.progress();
+        this.result = new EngineResult(workload);
+        this.remaining = workload.burstTimes.clone();
+        this.switchCost = options.switchCost();
+        if (!switchCost.isFree()) {
+            lastRan = new int[workload.size()];
+            Arrays.fill(lastRan, -1);
+        }
+        this.io = workload.ioBursts;
+        if (io != null) {
+            int n = workload.size();
+            burstIndex = new int[n];
+            blockedSince = new int[n];
+            deviceQueue = new IntRingBuffer(16);
+            for (int row = 0; row < n; row++) {
+                if (io.cpuBurstCount(row) > 1) {
+                    remaining[row] = io.cpuBurst(row, 0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Simulates the workload without recording Gantt slices or tracing.
+     * @param workload The processes to schedule.
+     * @param policy The policy that picks the next process.
+     * @return The per-process metrics.
+     */
+    public static EngineResult run(Workload workload, SchedulingPolicy policy) {
+        return run(workload, policy, RunOptions.HEADLESS);
+    }
+
+    /**
+     * Simulates the workload.
+     * @param workload The processes to schedule.
+     * @param policy The policy that picks the next process.
+     * @param options What to record and report during the run.
+     * @return The per-process metrics.
+     * @throws java.util.concurrent.CancellationException If the thread is interrupted during the run.
+     */
+    public static EngineResult run(Workload workload, SchedulingPolicy policy, RunOptions options) {
+        return new EventSimulator(workload, policy, options).simulate();
+    }
+
+    private EngineResult simulate() {
+        int n = workload.size();
+        policy.reset(workload);
+        Arrays.fill(result.startTimes, -1);
+        arrivalOrder = Workload.sortedRows(workload.arrivalTimes);
+        if (n > 0) {
+            schedule(ARRIVALS, ARRIVAL, workload.arrivalTimes[arrivalOrder[0]]);
+        }
+
+        try (RunMonitor runMonitor = SchedulerMonitor.startRun("EventSimulator/" + policy.getClass().getSimpleName(), n)) {
+            monitor = runMonitor;
+            long eventsProcessed = 0;
+            int now = 0;
+            while (!events.isEmpty()) {
+                long key = events.peekKey();
+                events.poll();
+                now = (int) (key >> TYPE_BITS);
+                if ((++eventsProcessed & (ProgressListener.INTERVAL - 1)) == 0) {
+                    reportProgress(eventsProcessed, now);
+                }
+                if (io != null) {
+                    accountDevice(now);
+                }
+                switch ((int) (key & ((1 << TYPE_BITS) - 1))) {
+                    case ARRIVAL -> onArrival(now);
+                    case IO_COMPLETION -> onIoCompletion(now);
+                    case COMPLETION -> onCompletion(now);
+                    case QUANTUM_EXPIRY -> onQuantumExpiry(now);
+                    case DISPATCH -> onDispatch(now);
+                    default -> throw new IllegalStateException("Unknown event type");
+                }
+            }
+            if (completed != n) {
+                throw new IllegalStateException("Policy " + policy.getClass().getSimpleName()
+                        + " left " + (n - completed) + " processes unscheduled.");
+            }
+            runMonitor.finish(eventsProcessed, now, result.contextSwitches, result.preemptions);
+        }
+        return result;
+    }
+
+    private void reportProgress(long eventsProcessed, int now) {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Simulation cancelled at time " + now + ".");
+        }
+        progress.onProgress(eventsProcessed, now, completed);
+        // Arrived, not completed, not blocked and not on the CPU
+        monitor.progress(eventsProcessed, now, nextArrival - completed - blocked - (running >= 0 ? 1 : 0));
+    }
+
+    private void schedule(int slot, int type, int time) {
+        events.insert(slot, ((long) time << TYPE_BITS) | type);
+    }
+
+    private void onArrival(int now) {
+        int row = arrivalOrder[nextArrival++];
+        if (nextArrival < arrivalOrder.length) {
+            schedule(ARRIVALS, ARRIVAL, workload.arrivalTimes[arrivalOrder[nextArrival]]);
+        }
+        makeReady(row, now);
+    }
+
+    /**
+     * Queues an arriving process, or one back from I/O, and lets it take an idle CPU or preempt.
+     */
+    private void makeReady(int row, int now) {
+        policy.onReady(row, remaining[row]);
+        if (running < 0) {
+            if (!events.contains(CPU)) {
+                schedule(CPU, DISPATCH, now);
+            }
+        }
+        else {
+            int runningRemaining = remaining[running] - Math.max(0, now - sliceStart);
+            if (runningRemaining > 0 && policy.shouldPreempt(running, runningRemaining)) {
+                events.remove(CPU);
+                int preempted = endSlice(now);
+                result.preemptions++;
+                monitor.preemption(workload.processIds[preempted], now, remaining[preempted], 0);
+                policy.onReady(preempted, remaining[preempted]);
+                schedule(CPU, DISPATCH, now);
+            }
+        }
+    }
+
+    private void onDispatch(int now) {
+        int row = policy.pollNext();
+        if (row < 0) {
+            return; // Idle until the next arrival
+        }
+        boolean switching = lastDispatched >= 0 && lastDispatched != row;
+        int start = now;
+        if (lastRan != null) {
+            start += switchCost.dispatchCost(switching, lastRan[row] < 0 ? -1 : now - lastRan[row], false);
+        }
+        if (result.startTimes[row] < 0) {
+            result.startTimes[row] = start;
+            result.responseTimes[row] = start - workload.arrivalTimes[row];
+        }
+        if (switching) {
+            result.contextSwitches++;
+        }
+        lastDispatched = row;
+        running = row;
+        dispatchedAt = now;
+        sliceStart = start;
+        monitor.dispatch(workload.processIds[row], now, remaining[row], 0);
+        int slice = policy.timeSlice(row);
+        if (slice >= remaining[row]) {
+            schedule(CPU, COMPLETION, start + remaining[row]);
+        }
+        else {
+            schedule(CPU, QUANTUM_EXPIRY, start + slice);
+        }
+    }
+
+    private void onCompletion(int now) {
+        int row = endSlice(now);
+        if (io != null && burstIndex[row] < io.cpuBurstCount(row) - 1) {
+            block(row, now);
+            schedule(CPU, DISPATCH, now);
+            return;
+        }
+        result.recordCompletion(row, now);
+        result.completionOrder[completed++] = row;
+        policy.onCompletion(row);
+        trace.onCompletion(workload.processIds[row], workload.arrivalTimes[row], workload.burstTimes[row], now,
+                result.responseTimes[row], result.turnaroundTimes[row], result.waitingTimes[row]);
+        schedule(CPU, DISPATCH, now);
+    }
+
+    private void onQuantumExpiry(int now) {
+        int row = endSlice(now);
+        monitor.quantumExpiry(workload.processIds[row], now, remaining[row], 0);
+        policy.onReady(row, remaining[row]);
+        schedule(CPU, DISPATCH, now);
+    }
+
+    /**
+     * Moves a process that finished a CPU burst to the device, or to its wait queue if busy.
+     */
+    private void block(int row, int now) {
+        policy.onBlocked(row);
+        remaining[row] = io.cpuBurst(row, ++burstIndex[row]);
+        blockedSince[row] = now;
+        blocked++;
+        if (onDevice < 0) {
+            startIo(row, now);
+        }
+        else {
+            deviceQueue.add(row);
+        }
+    }
+
+    private void startIo(int row, int now) {
+        onDevice = row;
+        ioStart = now;
+        schedule(DEVICE, IO_COMPLETION, now + io.ioBurst(row, burstIndex[row] - 1));
+    }
+
+    private void onIoCompletion(int now) {
+        int row = onDevice;
+        onDevice = -1;
+        blocked--;
+        result.blockedTimes[row] += now - blockedSince[row];
+        trace.onIo(workload.processIds[row], blockedSince[row], ioStart, now);
+        if (!deviceQueue.isEmpty()) {
+            startIo(deviceQueue.poll(), now);
+        }
+        makeReady(row, now);
+    }
+
+    /**
+     * Adds the time since the previous event to the device's busy time, and to the overlap if the
+     * CPU was busy too. Neither changes between events.
+     */
+    private void accountDevice(int now) {
+        int elapsed = now - lastEventTime;
+        if (onDevice >= 0) {
+            result.ioBusyTime += elapsed;
+            if (running >= 0) {
+                result.ioOverlapTime += elapsed;
+            }
+        }
+        lastEventTime = now;
+    }
+
+    private int endSlice(int now) {
+        int row = running;
+        running = -1;
+        if (sliceStart > dispatchedAt) {
+            result.switchOverheadTime += Math.min(now, sliceStart) - dispatchedAt;
+            if (now <= sliceStart) {
+                // Preempted while being switched in: it has not run, so it has not started either
+                if (result.startTimes[row] == sliceStart) {
+                    result.startTimes[row] = -1;
+                }
+                return row;
+            }
+        }
+        if (lastRan != null) {
+            lastRan[row] = now;
+        }
+        int before = remaining[row];
+        remaining[row] = before - (now - sliceStart);
+        if (recordGantt) {
+            result.addSlice(row, sliceStart, now);
+        }
+        trace.onDispatch(workload.processIds[row], sliceStart, now, before);
+        return row;
+    }
+}
@@ -0,0 +1,23 @@
+package cpuscheduler.engine;
+
+/**
+ * First Come First Serve: ready processes run to completion in the order they became ready.
+ */
+public class FCFSPolicy implements SchedulingPolicy {
+    protected IntRingBuffer readyQueue;
+
+    @Override
+    public void reset(Workload workload) {
+        readyQueue = new IntRingBuffer(Math.min(workload.size(), 1 << 16));
+    }
+
+    @Override
+    public void onReady(int row, int remainingTime) {
+        readyQueue.add(row);
+    }
+
+    @Override
+    public int pollNext() {
+        return readyQueue.poll();
+    }
+}
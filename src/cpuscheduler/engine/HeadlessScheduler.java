@@ -0,0 +1,62 @@
+package cpuscheduler.engine;
+
+/**
+ * Runs the built-in scheduling policies directly over the primitive columns of a {@link Workload}.
+ * Nothing is allocated per process: a run uses a fixed number of int/long arrays sized
+ * to the workload, so it can replay millions of processes without touching Process objects.
+ */
+public final class HeadlessScheduler {
+    public enum Policy {
+        FCFS,
+        SJF,
+        PRIORITY,
+        ROUND_ROBIN;
+
+        /**
+         * Creates a new policy instance for one run.
+         * @param quantumTime The time slice for ROUND_ROBIN; ignored by the other policies.
+         * @return The policy.
+         */
+        public SchedulingPolicy create(int quantumTime) {
+            return switch (this) {
+                case FCFS -> new FCFSPolicy();
+                case SJF -> new SJFPolicy();
+                case PRIORITY -> new PriorityPolicy();
+                case ROUND_ROBIN -> new RoundRobinPolicy(quantumTime);
+            };
+        }
+    }
+
+    private HeadlessScheduler() {
+    }
+
+    /**
+     * Schedules the workload without recording Gantt slices.
+     * @param workload The processes to schedule.
+     * @param policy The scheduling policy.
+     * @param quantumTime The time slice for ROUND_ROBIN; ignored by the other policies.
+     * @return The per-process metrics.
+     */
+    public static EngineResult run(Workload workload, Policy policy, int quantumTime) {
+        return run(workload, policy, quantumTime, false);
+    }
+
+    /**
+     * Schedules the workload.
+     * @param workload The processes to schedule.
+     * @param policy The scheduling policy.
+     * @param quantumTime The time slice for ROUND_ROBIN; ignored by the other policies.
+     * @param recordSlices Whether to keep every dispatch slice for the Gantt chart.
+     * @return The per-process metrics.
+     */
+    public static EngineResult run(Workload workload, Policy policy, int quantumTime, boolean recordSlices) {
+        if (policy == Policy.ROUND_ROBIN) {
+            return RoundRobinEngine.run(workload, quantumTime, options(recordSlices), true);
+        }
+        return EventSimulator.run(workload, policy.create(quantumTime), options(recordSlices));
+    }
+
+    private static RunOptions options(boolean recordSlices) {
+        return recordSlices ? RunOptions.WITH_GANTT : RunOptions.HEADLESS;
+    }
+}
@@ -0,0 +1,409 @@
+package cpuscheduler.engine;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps a non-preemptive FCFS, SJF or Priority schedule up to date while processes are added and
+ * removed, without re-running the whole simulation after every change.
+ *
+ * <p>Two mechanisms are used:
+ * <ul>
+ *     <li>While every process arrives at the same time, the schedule is just the processes sorted
+ *     by the policy's key, run back to back. They are kept in an {@link OrderStatisticTree}, so an
+ *     insert or delete costs O(log n), the average waiting, turnaround and response times are O(1),
+ *     and the waiting time of one process is an O(log n) prefix sum.</li>
+ *     <li>Otherwise the schedule is simulated, recording a checkpoint every few dispatches. Before a
+ *     non-preemptive dispatch the CPU is free, so a checkpoint is only the time and the number of
+ *     processes completed so far: the ready queue is every process that has arrived by then and is
+ *     not among them. A change to a process arriving at time t cannot affect any dispatch before t,
+ *     so the next simulation copies the completions up to the last checkpoint before t and resumes
+ *     from there. A checkpoint at t itself is not used: zero bursts can complete at t, and the
+ *     dispatches that ran them depend on what arrives at t.</li>
+ * </ul>
+ *
+ * <p>Rows follow the order processes were added in, like a {@link Workload}; removing a process
+ * shifts the rows after it down by one. The result matches {@link EventSimulator} over the same
+ * workload.
+ */
+public final class IncrementalScheduler {
+    /**
+     * Dispatches between checkpoints when none is given.
+     */
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 4096;
+
+    private final HeadlessScheduler.Policy policy;
+    private final int checkpointInterval;
+    private final boolean recordSlices;
+
+    // The workload columns, plus the insertion sequence number that orders rows
+    private int size;
+    private int[] processIds = new int[16];
+    private int[] burstTimes = new int[16];
+    private int[] priorities = new int[16];
+    private int[] arrivalTimes = new int[16];
+    private int[] sequence = new int[16];
+    private int[] treeNode = new int[16];
+    private int nextSequence;
+
+    private final OrderStatisticTree tree = new OrderStatisticTree(16);
+    private final Map<Integer, Integer> arrivalCounts = new HashMap<>();
+    // (arrivalTime << 32 | row), sorted: the order the simulator admits processes in
+    private long[] byArrival = new long[16];
+
+    // The last simulation, by row, kept in step with inserts and removals
+    private int[] simulatedOrder = new int[0];
+    private int[] simulatedStart = new int[16];
+    private int[] simulatedCompletion = new int[16];
+    private int[] checkpointTimes = new int[16];
+    private int[] checkpointCompleted = new int[16];
+    private int checkpointCount;
+    // Earliest arrival time touched since the last simulation
+    private int dirtyFrom;
+    private boolean dirty = true;
+
+    private EngineResult cached;
+    private long resumedDispatches;
+
+    /**
+     * Creates an empty scheduler that checkpoints every {@link #DEFAULT_CHECKPOINT_INTERVAL} dispatches.
+     * @param policy FCFS, SJF or PRIORITY.
+     */
+    public IncrementalScheduler(HeadlessScheduler.Policy policy) {
+        this(policy, DEFAULT_CHECKPOINT_INTERVAL, false);
+    }
+
+    /**
+     * Creates an empty scheduler.
+     * @param policy FCFS, SJF or PRIORITY.
+     * @param checkpointInterval The number of dispatches between checkpoints.
+     * @param recordSlices Whether results include the Gantt slices.
+     */
+    public IncrementalScheduler(HeadlessScheduler.Policy policy, int checkpointInterval, boolean recordSlices) {
+        if (policy == HeadlessScheduler.Policy.ROUND_ROBIN) {
+            throw new IllegalArgumentException("Incremental scheduling needs a non-preemptive policy.");
+        }
+        if (checkpointInterval <= 0) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive.");
+        }
+        this.policy = policy;
+        this.checkpointInterval = checkpointInterval;
+        this.recordSlices = recordSlices;
+    }
+
+    /**
+     * Creates a scheduler holding the processes of a workload.
+     * @param policy FCFS, SJF or PRIORITY.
+     * @param workload The initial processes, in row order.
+     * @return The scheduler.
+     */
+    public static IncrementalScheduler of(HeadlessScheduler.Policy policy, Workload workload) {
+        if (workload.ioBursts != null) {
+            throw new IllegalArgumentException("Incremental rescheduling does not support I/O bursts.");
+        }
+        IncrementalScheduler scheduler = new IncrementalScheduler(policy);
+        for (int row = 0; row < workload.size(); row++) {
+            scheduler.add(workload.processIds[row], workload.burstTimes[row], workload.priorities[row],
+                    workload.arrivalTimes[row]);
+        }
+        return scheduler;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds a process after the existing ones.
+     * @return The row of the new process.
+     */
+    public int add(int processId, int burstTime, int priority, int arrivalTime) {
+        if (burstTime < 0) {
+            throw new IllegalArgumentException("Burst Time cannot be negative.");
+        }
+        if (arrivalTime < 0) {
+            throw new IllegalArgumentException("Arrival Time cannot be negative.");
+        }
+        if (size == processIds.length) {
+            grow();
+        }
+        int row = size++;
+        processIds[row] = processId;
+        burstTimes[row] = burstTime;
+        priorities[row] = priority;
+        arrivalTimes[row] = arrivalTime;
+        sequence[row] = nextSequence++;
+        treeNode[row] = tree.insert(treeKey(row), burstTime);
+        arrivalCounts.merge(arrivalTime, 1, Integer::sum);
+
+        long packed = ((long) arrivalTime << 32) | row;
+        int position = -Arrays.binarySearch(byArrival, 0, row, packed) - 1;
+        System.arraycopy(byArrival, position, byArrival, position + 1, row - position);
+        byArrival[position] = packed;
+        simulatedStart[row] = -1;
+        invalidate(arrivalTime);
+        return row;
+    }
+
+    /**
+     * Removes a process; the rows after it move down by one.
+     * @param row The row of the process.
+     */
+    public void remove(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of " + size + ".");
+        }
+        int arrivalTime = arrivalTimes[row];
+        tree.delete(treeNode[row]);
+        arrivalCounts.compute(arrivalTime, (_, count) -> count == 1 ? null : count - 1);
+
+        long packed = ((long) arrivalTime << 32) | row;
+        int position = Arrays.binarySearch(byArrival, 0, size, packed);
+        System.arraycopy(byArrival, position + 1, byArrival, position, size - position - 1);
+        for (int i = 0; i < size - 1; i++) {
+            if ((int) byArrival[i] > row) {
+                byArrival[i]--;
+            }
+        }
+        // The removed process cannot be before any checkpoint the next simulation resumes from
+        for (int i = 0; i < simulatedOrder.length; i++) {
+            if (simulatedOrder[i] > row) {
+                simulatedOrder[i]--;
+            }
+        }
+
+        int tail = size - row - 1;
+        for (int[] column : new int[][] {processIds, burstTimes, priorities, arrivalTimes, sequence, treeNode,
+                simulatedStart, simulatedCompletion}) {
+            System.arraycopy(column, row + 1, column, row, tail);
+        }
+        size--;
+        invalidate(arrivalTime);
+    }
+
+    /**
+     * Gets the current processes as a workload.
+     */
+    public Workload workload() {
+        return new Workload(Arrays.copyOf(processIds, size), Arrays.copyOf(burstTimes, size),
+                Arrays.copyOf(priorities, size), Arrays.copyOf(arrivalTimes, size), null, true);
+    }
+
+    /**
+     * Whether every process arrives at the same time, so updates and averages are O(log n).
+     */
+    public boolean isOrderStatistic() {
+        return arrivalCounts.size() <= 1;
+    }
+
+    public double averageWaitingTime() {
+        if (!isOrderStatistic()) {
+            return result().averageWaitingTime();
+        }
+        return size == 0 ? 0 : (double) tree.totalWaiting() / size;
+    }
+
+    public double averageTurnaroundTime() {
+        if (!isOrderStatistic()) {
+            return result().averageTurnaroundTime();
+        }
+        return size == 0 ? 0 : (double) (tree.totalWaiting() + tree.totalBurst()) / size;
+    }
+
+    public double averageResponseTime() {
+        // Non-preemptive: a process first runs when it runs to completion
+        if (!isOrderStatistic()) {
+            return result().averageResponseTime();
+        }
+        return averageWaitingTime();
+    }
+
+    /**
+     * Gets the waiting time of one process.
+     * @param row The row of the process.
+     * @return The time it spends in the ready queue.
+     */
+    public int waitingTime(int row) {
+        if (!isOrderStatistic()) {
+            return result().waitingTime(row);
+        }
+        return (int) tree.burstBefore(treeKey(row));
+    }
+
+    /**
+     * Gets the completion time of one process.
+     * @param row The row of the process.
+     * @return The time it terminates.
+     */
+    public int completionTime(int row) {
+        return arrivalTimes[row] + waitingTime(row) + burstTimes[row];
+    }
+
+    /**
+     * Gets the number of dispatches simulated by the last call that had to simulate, counting only
+     * those after the checkpoint it resumed from.
+     */
+    public long resumedDispatches() {
+        return resumedDispatches;
+    }
+
+    /**
+     * Gets the full per-process result, computing only what changed since the last call.
+     * @return The result, over the rows of {@link #workload()}.
+     */
+    public EngineResult result() {
+        if (cached == null) {
+            cached = isOrderStatistic() ? materialize() : simulate();
+        }
+        return cached;
+    }
+
+    private long treeKey(int row) {
+        long order = switch (policy) {
+            case SJF -> burstTimes[row];
+            case PRIORITY -> priorities[row];
+            default -> 0;
+        };
+        return (order << 32) | sequence[row];
+    }
+
+    private void invalidate(int arrivalTime) {
+        dirtyFrom = dirty ? Math.min(dirtyFrom, arrivalTime) : arrivalTime;
+        dirty = true;
+        cached = null;
+    }
+
+    /**
+     * Builds the result from the tree: all processes arrive together and run in key order.
+     */
+    private EngineResult materialize() {
+        Workload workload = workload();
+        EngineResult result = new EngineResult(workload);
+        int arrival = size == 0 ? 0 : arrivalTimes[0];
+        int[] completed = {0};
+        long[] clock = {arrival};
+        tree.forEachInOrder((key, burst) -> {
+            // Rows are in sequence order, so the row of a sequence number is its rank
+            int row = Arrays.binarySearch(sequence, 0, size, (int) key);
+            dispatch(result, row, (int) clock[0]);
+            clock[0] += burst;
+            complete(result, row, (int) clock[0], completed[0]++);
+        });
+        result.contextSwitches = Math.max(0, size - 1);
+        return result;
+    }
+
+    /**
+     * Simulates the schedule from the last checkpoint not affected by the changes.
+     */
+    private EngineResult simulate() {
+        Workload workload = workload();
+        EngineResult result = new EngineResult(workload);
+        Arrays.fill(result.startTimes, -1);
+        int n = size;
+
+        // Last checkpoint before the earliest change; only valid if a simulation ran
+        int checkpoint = -1;
+        if (simulatedOrder.length > 0) {
+            for (int i = checkpointCount - 1; i >= 0; i--) {
+                if (checkpointTimes[i] < dirtyFrom) {
+                    checkpoint = i;
+                    break;
+                }
+            }
+        }
+        int completed = 0;
+        int now = n == 0 ? 0 : (int) (byArrival[0] >>> 32);
+        if (checkpoint >= 0) {
+            now = checkpointTimes[checkpoint];
+            for (; completed < checkpointCompleted[checkpoint]; completed++) {
+                int row = simulatedOrder[completed];
+                dispatch(result, row, simulatedStart[row]);
+                complete(result, row, simulatedCompletion[row], completed);
+            }
+        }
+        checkpointCount = checkpoint + 1;
+
+        SchedulingPolicy queue = policy.create(0);
+        queue.reset(workload);
+        int nextArrival = 0;
+        // Rebuild the ready queue as it was at the checkpoint, in admission order
+        while (nextArrival < n && (int) (byArrival[nextArrival] >>> 32) <= now) {
+            int row = (int) byArrival[nextArrival++];
+            if (result.startTimes[row] < 0) {
+                queue.onReady(row, burstTimes[row]);
+            }
+        }
+
+        long dispatches = 0;
+        while (completed < n) {
+            int row = queue.pollNext();
+            if (row < 0) {
+                // Idle until the next arrival
+                now = Math.max(now, (int) (byArrival[nextArrival] >>> 32));
+                nextArrival = admit(queue, nextArrival, now);
+                continue;
+            }
+            if (completed % checkpointInterval == 0 && (checkpoint < 0 || completed > checkpointCompleted[checkpoint])) {
+                addCheckpoint(now, completed);
+            }
+            dispatch(result, row, now);
+            now += burstTimes[row];
+            complete(result, row, now, completed++);
+            nextArrival = admit(queue, nextArrival, now);
+            dispatches++;
+        }
+        result.contextSwitches = Math.max(0, n - 1);
+
+        simulatedOrder = Arrays.copyOf(result.completionOrder, n);
+        System.arraycopy(result.startTimes, 0, simulatedStart, 0, n);
+        System.arraycopy(result.completionTimes, 0, simulatedCompletion, 0, n);
+        resumedDispatches = dispatches;
+        dirty = false;
+        return result;
+    }
+
+    private int admit(SchedulingPolicy queue, int nextArrival, int upTo) {
+        while (nextArrival < size && (int) (byArrival[nextArrival] >>> 32) <= upTo) {
+            int row = (int) byArrival[nextArrival++];
+            queue.onReady(row, burstTimes[row]);
+        }
+        return nextArrival;
+    }
+
+    private void dispatch(EngineResult result, int row, int start) {
+        result.startTimes[row] = start;
+        result.responseTimes[row] = start - arrivalTimes[row];
+    }
+
+    private void complete(EngineResult result, int row, int completionTime, int position) {
+        result.recordCompletion(row, completionTime);
+        result.completionOrder[position] = row;
+        if (recordSlices) {
+            result.addSlice(row, result.startTimes[row], completionTime);
+        }
+    }
+
+    private void addCheckpoint(int time, int completed) {
+        if (checkpointCount == checkpointTimes.length) {
+            checkpointTimes = Arrays.copyOf(checkpointTimes, checkpointCount * 2);
+            checkpointCompleted = Arrays.copyOf(checkpointCompleted, checkpointCount * 2);
+        }
+        checkpointTimes[checkpointCount] = time;
+        checkpointCompleted[checkpointCount++] = completed;
+    }
+
+    private void grow() {
+        int capacity = processIds.length * 2;
+        processIds = Arrays.copyOf(processIds, capacity);
+        burstTimes = Arrays.copyOf(burstTimes, capacity);
+        priorities = Arrays.copyOf(priorities, capacity);
+        arrivalTimes = Arrays.copyOf(arrivalTimes, capacity);
+        sequence = Arrays.copyOf(sequence, capacity);
+        treeNode = Arrays.copyOf(treeNode, capacity);
+        byArrival = Arrays.copyOf(byArrival, capacity);
+        simulatedStart = Arrays.copyOf(simulatedStart, capacity);
+        simulatedCompletion = Arrays.copyOf(simulatedCompletion, capacity);
+    }
+}
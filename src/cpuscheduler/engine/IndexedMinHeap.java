@@ -0,0 +1,189 @@
+package cpuscheduler.engine;
+
+import java.util.Arrays;
+
+/**
+ * A binary min-heap of int ids in [0, capacity) ordered by primitive long keys.
+ * The position of every id is tracked, so an entry can be removed or re-keyed in O(log n)
+ * without searching and without boxing.
+ */
+public final class IndexedMinHeap {
+    private final int[] heap;
+    private final int[] positions;
+    private final long[] keys;
+    private int size;
+
+    public IndexedMinHeap(int capacity) {
+        heap = new int[capacity];
+        positions = new int[capacity];
+        keys = new long[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int id) {
+        return positions[id] >= 0;
+    }
+
+    /**
+     * Gets the key of an id currently in the heap.
+     */
+    public long keyOf(int id) {
+        return keys[id];
+    }
+
+    /**
+     * Adds an id that is not already in the heap.
+     * @param id The id to add.
+     * @param key The ordering key; smaller keys are polled first.
+     */
+    public void insert(int id, long key) {
+        if (positions[id] >= 0) {
+            throw new IllegalStateException("Id " + id + " is already in the heap.");
+        }
+        keys[id] = key;
+        heap[size] = id;
+        positions[id] = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Lowers the key of an id already in the heap.
+     * @param id The id to update.
+     * @param key The new key, which must not be larger than the current one.
+     */
+    public void decreaseKey(int id, long key) {
+        if (key > keys[id]) {
+            throw new IllegalArgumentException("New key is larger than the current key.");
+        }
+        keys[id] = key;
+        siftUp(positions[id]);
+    }
+
+    /**
+     * Sets the key of an id already in the heap, moving it up or down as needed.
+     * @param id The id to update.
+     * @param key The new key.
+     */
+    public void changeKey(int id, long key) {
+        long old = keys[id];
+        keys[id] = key;
+        if (key < old) {
+            siftUp(positions[id]);
+        }
+        else {
+            siftDown(positions[id]);
+        }
+    }
+
+    /**
+     * Gets the id with the smallest key without removing it.
+     * @return The id, or -1 if the heap is empty.
+     */
+    public int peek() {
+        return size == 0 ? -1 : heap[0];
+    }
+
+    /**
+     * Gets the smallest key. Only valid when the heap is not empty.
+     */
+    public long peekKey() {
+        return keys[heap[0]];
+    }
+
+    /**
+     * Removes the id with the smallest key.
+     * @return The id, or -1 if the heap is empty.
+     */
+    public int poll() {
+        if (size == 0) {
+            return -1;
+        }
+        int top = heap[0];
+        removeAt(0);
+        return top;
+    }
+
+    /**
+     * Removes an id if it is in the heap.
+     * @param id The id to remove.
+     * @return Whether the id was present.
+     */
+    public boolean remove(int id) {
+        int position = positions[id];
+        if (position < 0) {
+            return false;
+        }
+        removeAt(position);
+        return true;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void removeAt(int position) {
+        int id = heap[position];
+        positions[id] = -1;
+        size--;
+        if (position == size) {
+            return;
+        }
+        int last = heap[size];
+        heap[position] = last;
+        positions[last] = position;
+        siftDown(position);
+        if (heap[position] == last) {
+            siftUp(position);
+        }
+    }
+
+    private void siftUp(int position) {
+        int id = heap[position];
+        long key = keys[id];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            int parentId = heap[parent];
+            if (keys[parentId] <= key) {
+                break;
+            }
+            heap[position] = parentId;
+            positions[parentId] = position;
+            position = parent;
+        }
+        heap[position] = id;
+        positions[id] = position;
+    }
+
+    private void siftDown(int position) {
+        int id = heap[position];
+        long key = keys[id];
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < size && keys[heap[right]] < keys[heap[child]]) {
+                child = right;
+            }
+            int childId = heap[child];
+            if (key <= keys[childId]) {
+                break;
+            }
+            heap[position] = childId;
+            positions[childId] = position;
+            position = child;
+        }
+        heap[position] = id;
+        positions[id] = position;
+    }
+}
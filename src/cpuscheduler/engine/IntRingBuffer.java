@@ -0,0 +1,63 @@
+package cpuscheduler.engine;
+
+/**
+ * A growable FIFO queue of ints backed by a circular array.
+ */
+public final class IntRingBuffer {
+    private int[] elements;
+    // Index of the head; the tail is (head + size) masked to the capacity
+    private int head;
+    private int size;
+
+    public IntRingBuffer(int initialCapacity) {
+        elements = new int[Integer.highestOneBit(Math.max(2, initialCapacity - 1)) << 1];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void add(int value) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[(head + size) & (elements.length - 1)] = value;
+        size++;
+    }
+
+    /**
+     * Removes the value at the head of the queue.
+     * @return The value, or -1 if the queue is empty.
+     */
+    public int poll() {
+        if (size == 0) {
+            return -1;
+        }
+        int value = elements[head];
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        return value;
+    }
+
+    public int peek() {
+        return size == 0 ? -1 : elements[head];
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    private void grow() {
+        int[] larger = new int[elements.length << 1];
+        int firstPart = elements.length - head;
+        System.arraycopy(elements, head, larger, 0, firstPart);
+        System.arraycopy(elements, 0, larger, firstPart, head);
+        elements = larger;
+        head = 0;
+    }
+}
@@ -0,0 +1,205 @@
+package cpuscheduler.engine;
+
+import java.util.Arrays;
+
+/**
+ * The CPU and I/O bursts of every process in a workload, for processes that alternate between
+ * computing and waiting on a device. A sequence starts and ends with a CPU burst:
+ * {@code cpu, io, cpu, io, ..., cpu}.
+ *
+ * <p>All sequences are packed into one int array, indexed by one offset per row, so a million
+ * processes cost 4 bytes each plus 4 bytes per burst instead of an array object each. A process
+ * with a single CPU burst stores nothing but its offset; its burst is the workload's burst time.
+ */
+public final class IoBursts {
+    private static final int MAX_BURSTS = Integer.MAX_VALUE - 8;
+
+    // Row r's sequence is bursts[offsets[r]] to bursts[offsets[r + 1] - 1]; empty for a single CPU burst
+    private final int[] offsets;
+    private final int[] bursts;
+
+    private IoBursts(int[] offsets, int[] bursts) {
+        this.offsets = offsets;
+        this.bursts = bursts;
+    }
+
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * Gets the number of CPU bursts of a process.
+     */
+    public int cpuBurstCount(int row) {
+        int length = offsets[row + 1] - offsets[row];
+        return length == 0 ? 1 : (length + 1) / 2;
+    }
+
+    /**
+     * Gets one CPU burst of a process that has I/O.
+     * @param row The workload row.
+     * @param index The burst, from 0 to {@link #cpuBurstCount(int)} - 1.
+     * @return The burst, or -1 if the process has a single CPU burst, which is its workload burst time.
+     */
+    public int cpuBurst(int row, int index) {
+        int start = offsets[row];
+        return start == offsets[row + 1] ? -1 : bursts[start + 2 * index];
+    }
+
+    /**
+     * Gets the I/O burst that follows a CPU burst.
+     * @param row The workload row.
+     * @param index The CPU burst it follows, from 0 to {@link #cpuBurstCount(int)} - 2.
+     */
+    public int ioBurst(int row, int index) {
+        return bursts[offsets[row] + 2 * index + 1];
+    }
+
+    /**
+     * Gets the total device time a process needs.
+     */
+    public long ioTime(int row) {
+        long total = 0;
+        for (int i = offsets[row] + 1; i < offsets[row + 1]; i += 2) {
+            total += bursts[i];
+        }
+        return total;
+    }
+
+    /**
+     * Gets the total CPU time a process needs, or -1 if it has a single CPU burst.
+     */
+    long cpuTime(int row) {
+        int start = offsets[row];
+        int end = offsets[row + 1];
+        if (start == end) {
+            return -1;
+        }
+        long total = 0;
+        for (int i = start; i < end; i += 2) {
+            total += bursts[i];
+        }
+        return total;
+    }
+
+    /**
+     * Gets the packed bursts of the given rows, in the given order.
+     */
+    IoBursts select(int[] rows) {
+        int[] selectedOffsets = new int[rows.length + 1];
+        for (int i = 0; i < rows.length; i++) {
+            selectedOffsets[i + 1] = selectedOffsets[i] + offsets[rows[i] + 1] - offsets[rows[i]];
+        }
+        int[] selected = new int[selectedOffsets[rows.length]];
+        for (int i = 0; i < rows.length; i++) {
+            int row = rows[i];
+            System.arraycopy(bursts, offsets[row], selected, selectedOffsets[i], offsets[row + 1] - offsets[row]);
+        }
+        return new IoBursts(selectedOffsets, selected);
+    }
+
+    /**
+     * Joins the sequences of consecutive parts of a workload, such as chunks generated in parallel.
+     * @param parts The parts, in row order.
+     * @return The sequences of every row of every part.
+     */
+    public static IoBursts concat(IoBursts... parts) {
+        int rows = 0;
+        long total = 0;
+        for (IoBursts part : parts) {
+            rows += part.size();
+            total += part.bursts.length;
+        }
+        if (total > MAX_BURSTS) {
+            throw new OutOfMemoryError("Burst sequences exceed the maximum array size.");
+        }
+        int[] offsets = new int[rows + 1];
+        int[] bursts = new int[(int) total];
+        int row = 0;
+        int base = 0;
+        for (IoBursts part : parts) {
+            for (int i = 1; i <= part.size(); i++) {
+                offsets[row + i] = base + part.offsets[i];
+            }
+            System.arraycopy(part.bursts, 0, bursts, base, part.bursts.length);
+            row += part.size();
+            base += part.bursts.length;
+        }
+        return new IoBursts(offsets, bursts);
+    }
+
+    /**
+     * Hashes the packed sequences, so result caches can tell workloads with different I/O apart.
+     */
+    public long contentHash() {
+        return 31L * Arrays.hashCode(offsets) + Arrays.hashCode(bursts);
+    }
+
+    /**
+     * Collects burst sequences row by row.
+     */
+    public static final class Builder {
+        private int[] offsets;
+        private int[] bursts;
+        private int size;
+
+        public Builder() {
+            this(16);
+        }
+
+        public Builder(int initialCapacity) {
+            offsets = new int[Math.max(1, initialCapacity) + 1];
+            bursts = new int[Math.max(16, initialCapacity)];
+        }
+
+        /**
+         * Appends the bursts of the next row.
+         * @param sequence CPU and I/O bursts alternating, starting and ending with CPU; a single
+         *                 value is a process without I/O.
+         * @return The total CPU time of the sequence, the burst time of the process's workload row.
+         */
+        public int add(int... sequence) {
+            if (sequence.length % 2 == 0) {
+                throw new IllegalArgumentException("A burst sequence must start and end with a CPU burst.");
+            }
+            long cpuTime = 0;
+            for (int i = 0; i < sequence.length; i++) {
+                if (sequence[i] <= 0) {
+                    throw new IllegalArgumentException("Every CPU and I/O burst must be positive.");
+                }
+                if (i % 2 == 0) {
+                    cpuTime += sequence[i];
+                }
+            }
+            if (cpuTime > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("The total CPU time of a process must fit an int.");
+            }
+            if (size + 1 == offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length + (offsets.length >> 1) + 16);
+            }
+            int start = offsets[size];
+            int length = sequence.length == 1 ? 0 : sequence.length;
+            long needed = (long) start + length;
+            if (needed > bursts.length) {
+                if (needed > MAX_BURSTS) {
+                    throw new OutOfMemoryError("Burst sequences exceed the maximum array size.");
+                }
+                bursts = Arrays.copyOf(bursts, (int) Math.min(MAX_BURSTS, Math.max(needed, bursts.length * 3L / 2)));
+            }
+            System.arraycopy(sequence, 0, bursts, start, length);
+            offsets[++size] = start + length;
+            return (int) cpuTime;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Copies the rows added so far; the builder stays usable.
+         */
+        public IoBursts build() {
+            return new IoBursts(Arrays.copyOf(offsets, size + 1), Arrays.copyOf(bursts, offsets[size]));
+        }
+    }
+}
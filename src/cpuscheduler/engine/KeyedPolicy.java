@@ -0,0 +1,41 @@
+package cpuscheduler.engine;
+
+/**
+ * Non-preemptive policy that always dispatches the ready process with the smallest key,
+ * breaking ties by workload row (the order processes were added in).
+ */
+public abstract class KeyedPolicy implements SchedulingPolicy {
+    protected Workload workload;
+    protected IndexedMinHeap readyQueue;
+
+    /**
+     * Gets the ordering key of a ready process; smaller runs first.
+     * @param row The workload row.
+     * @param remainingTime The burst time the process still needs.
+     * @return The key.
+     */
+    protected abstract int key(int row, int remainingTime);
+
+    @Override
+    public void reset(Workload workload) {
+        this.workload = workload;
+        readyQueue = new IndexedMinHeap(workload.size());
+    }
+
+    @Override
+    public void onReady(int row, int remainingTime) {
+        readyQueue.insert(row, packedKey(row, remainingTime));
+    }
+
+    /**
+     * Packs the key and the row into one heap key so equal keys are ordered by row.
+     */
+    protected final long packedKey(int row, int remainingTime) {
+        return ((long) key(row, remainingTime) << 32) | row;
+    }
+
+    @Override
+    public int pollNext() {
+        return readyQueue.poll();
+    }
+}
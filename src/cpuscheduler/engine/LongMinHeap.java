@@ -0,0 +1,63 @@
+package cpuscheduler.engine;
+
+import java.util.Arrays;
+
+/**
+ * A growable binary min-heap of primitive longs. Unlike {@link IndexedMinHeap} it needs no
+ * array sized to the id range, so thousands of small per-core queues stay small.
+ */
+final class LongMinHeap {
+    private long[] heap;
+    private int size;
+
+    LongMinHeap(int initialCapacity) {
+        heap = new long[Math.max(2, initialCapacity)];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void add(long value) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        int position = size++;
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (heap[parent] <= value) {
+                break;
+            }
+            heap[position] = heap[parent];
+            position = parent;
+        }
+        heap[position] = value;
+    }
+
+    /**
+     * Removes the smallest value. Only valid when the heap is not empty.
+     */
+    long poll() {
+        long top = heap[0];
+        long last = heap[--size];
+        int position = 0;
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (last <= heap[child]) {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = last;
+        return top;
+    }
+}
@@ -0,0 +1,178 @@
+package cpuscheduler.engine;
+
+import java.util.Arrays;
+
+/**
+ * Multilevel Feedback Queue. Every level is a Round Robin queue with its own quantum, and the
+ * highest non-empty level always runs first:
+ * <ul>
+ *     <li>An arriving process enters the top level and preempts a process from a lower level.</li>
+ *     <li>A process that has used its level's quantum, in one slice or across several preempted
+ *         ones, moves down one level; the bottom level is plain Round Robin. A process that blocks
+ *         on I/O keeps its level and the time it has used there, and preempts a process from a
+ *         lower level when it wakes.</li>
+ *     <li>Every {@code boostPeriod} units of CPU time, every process moves back to the top level,
+ *         so long jobs cannot starve.</li>
+ * </ul>
+ * The policy is not told the clock, so the boost period counts CPU time handed out; the two only
+ * differ while the CPU is idle, when there is nothing to boost.
+ */
+public class MLFQPolicy implements SchedulingPolicy {
+    /**
+     * The most levels a policy may have; non-empty levels are tracked as bits of a long.
+     */
+    public static final int MAX_LEVELS = Long.SIZE;
+    private static final int ARRIVING = -1;
+    private static final int BLOCKED = -2;
+
+    private final int[] quanta;
+    private final long boostPeriod;
+
+    private IntRingBuffer[] levels;
+    private long nonEmptyLevels;
+    private int[] levelOf;
+    private int[] usedAtLevel;
+    // Remaining time when the process was last queued; -1 before its arrival, -2 while blocked
+    private int[] queuedRemaining;
+    private int[] boostSeen;
+    private int boosts;
+    private long cpuTime;
+    private long nextBoost;
+    private int lastReadyLevel;
+
+    /**
+     * @param quanta The quantum of every level, top level first.
+     * @param boostPeriod The CPU time between priority boosts, or 0 for no boost.
+     */
+    public MLFQPolicy(int[] quanta, long boostPeriod) {
+        if (quanta.length == 0 || quanta.length > MAX_LEVELS) {
+            throw new IllegalArgumentException("MLFQ needs between 1 and " + MAX_LEVELS + " levels.");
+        }
+        for (int quantum : quanta) {
+            if (quantum <= 0) {
+                throw new IllegalArgumentException("Quantum Time must be positive.");
+            }
+        }
+        if (boostPeriod < 0) {
+            throw new IllegalArgumentException("Boost period cannot be negative.");
+        }
+        this.quanta = quanta.clone();
+        this.boostPeriod = boostPeriod;
+    }
+
+    @Override
+    public void reset(Workload workload) {
+        int n = workload.size();
+        levels = new IntRingBuffer[quanta.length];
+        for (int level = 0; level < levels.length; level++) {
+            levels[level] = new IntRingBuffer(level == 0 ? Math.min(n, 1 << 16) : 16);
+        }
+        nonEmptyLevels = 0;
+        levelOf = new int[n];
+        usedAtLevel = new int[n];
+        queuedRemaining = new int[n];
+        Arrays.fill(queuedRemaining, ARRIVING);
+        boostSeen = new int[n];
+        boosts = 0;
+        cpuTime = 0;
+        nextBoost = boostPeriod == 0 ? Long.MAX_VALUE : boostPeriod;
+    }
+
+    @Override
+    public void onReady(int row, int remainingTime) {
+        int queued = queuedRemaining[row];
+        if (queued == ARRIVING || boostSeen[row] != boosts) {
+            if (queued >= 0) {
+                cpuTime += queued - remainingTime;
+            }
+            levelOf[row] = 0;
+            usedAtLevel[row] = 0;
+            boostSeen[row] = boosts;
+        }
+        else if (queued != BLOCKED) { // Back from I/O, a process keeps its level, counted in onBlocked
+            int ran = queued - remainingTime;
+            cpuTime += ran;
+            usedAtLevel[row] += ran;
+            if (usedAtLevel[row] >= quanta[levelOf[row]]) {
+                levelOf[row] = Math.min(levelOf[row] + 1, quanta.length - 1);
+                usedAtLevel[row] = 0;
+            }
+        }
+        queuedRemaining[row] = remainingTime;
+        lastReadyLevel = levelOf[row];
+        enqueue(row);
+    }
+
+    private void enqueue(int row) {
+        int level = levelOf[row];
+        levels[level].add(row);
+        nonEmptyLevels |= 1L << level;
+    }
+
+    @Override
+    public int pollNext() {
+        if (cpuTime >= nextBoost) {
+            boost();
+        }
+        if (nonEmptyLevels == 0) {
+            return -1;
+        }
+        int level = Long.numberOfTrailingZeros(nonEmptyLevels);
+        int row = levels[level].poll();
+        if (levels[level].isEmpty()) {
+            nonEmptyLevels &= ~(1L << level);
+        }
+        return row;
+    }
+
+    private void boost() {
+        boosts++;
+        while (nextBoost <= cpuTime) {
+            nextBoost += boostPeriod;
+        }
+        // Lower levels join the top level in level order, keeping their queue order. Processes
+        // already at the top are cycled through too, so their used time restarts with the boost;
+        // only blocked processes are left to be reset in onReady
+        for (int level = 0; level < levels.length; level++) {
+            IntRingBuffer queue = levels[level];
+            for (int count = queue.size(); count > 0; count--) {
+                int row = queue.poll();
+                levelOf[row] = 0;
+                usedAtLevel[row] = 0;
+                boostSeen[row] = boosts;
+                levels[0].add(row);
+            }
+        }
+        nonEmptyLevels = levels[0].isEmpty() ? 0 : 1;
+    }
+
+    @Override
+    public int timeSlice(int row) {
+        return quanta[levelOf[row]] - usedAtLevel[row];
+    }
+
+    @Override
+    public boolean shouldPreempt(int running, int remainingTime) {
+        // The process that just became ready was queued last
+        return lastReadyLevel < levelOf[running];
+    }
+
+    @Override
+    public void onBlocked(int row) {
+        int ran = queuedRemaining[row];
+        cpuTime += ran;
+        if (boostSeen[row] == boosts) {
+            usedAtLevel[row] += ran;
+            if (usedAtLevel[row] >= quanta[levelOf[row]]) {
+                levelOf[row] = Math.min(levelOf[row] + 1, quanta.length - 1);
+                usedAtLevel[row] = 0;
+            }
+        }
+        queuedRemaining[row] = BLOCKED;
+    }
+
+    @Override
+    public void onCompletion(int row) {
+        cpuTime += queuedRemaining[row];
+    }
+}
@@ -0,0 +1,45 @@
+package cpuscheduler.engine;
+
+/**
+ * How a {@link MultiCoreSimulator} run spreads processes over its cores.
+ *
+ * @param cores The number of simulated cores, at least 1
+ * @param mode Whether the cores share one run queue or each own one
+ * @param workStealing Whether an idle core takes work from the most loaded other core;
+ *                     only meaningful for {@link Mode#PARTITIONED}
+ */
+public record MultiCoreConfig(int cores, Mode mode, boolean workStealing) {
+    /**
+     * The largest supported core count; core numbers share the event key with the time.
+     */
+    public static final int MAX_CORES = 1 << 20;
+
+    public enum Mode {
+        /**
+         * One run queue shared by every core: an idle core always takes the globally next process.
+         */
+        GLOBAL,
+        /**
+         * Every core owns a run queue; an arriving process joins the least loaded core and stays
+         * there unless it is stolen.
+         */
+        PARTITIONED
+    }
+
+    public MultiCoreConfig {
+        if (cores < 1 || cores > MAX_CORES) {
+            throw new IllegalArgumentException("Core count must be between 1 and " + MAX_CORES + ".");
+        }
+        if (mode == null) {
+            throw new IllegalArgumentException("Mode must not be null.");
+        }
+    }
+
+    public static MultiCoreConfig global(int cores) {
+        return new MultiCoreConfig(cores, Mode.GLOBAL, false);
+    }
+
+    public static MultiCoreConfig partitioned(int cores, boolean workStealing) {
+        return new MultiCoreConfig(cores, Mode.PARTITIONED, workStealing);
+    }
+}
@@ -0,0 +1,119 @@
+package cpuscheduler.engine;
+
+import cpuscheduler.GanttChart;
+
+/**
+ * The outcome of a {@link MultiCoreSimulator} run: the per-process metrics, in the same form as
+ * a single-CPU run, plus what every core did.
+ */
+public final class MultiCoreResult {
+    private final EngineResult processes;
+    final long[] busyTimes;
+    final int[] dispatches;
+    final GanttChart[] gantts;
+    long steals;
+    long migrations;
+
+    MultiCoreResult(EngineResult processes, int cores, boolean recordGantt) {
+        this.processes = processes;
+        this.busyTimes = new long[cores];
+        this.dispatches = new int[cores];
+        this.gantts = new GanttChart[recordGantt ? cores : 0];
+        for (int core = 0; core < gantts.length; core++) {
+            gantts[core] = new GanttChart();
+        }
+    }
+
+    /**
+     * Gets the per-process metrics. Its context-switch count and switch overhead time are sums
+     * over all cores, and its CPU utilisation and switch overhead fraction are relative to one
+     * core; use {@link #utilization()} for the utilisation of the whole machine.
+     */
+    public EngineResult processes() {
+        return processes;
+    }
+
+    public int cores() {
+        return busyTimes.length;
+    }
+
+    /**
+     * Gets how long a core ran processes.
+     * @param core The core number, from 0.
+     */
+    public long busyTime(int core) {
+        return busyTimes[core];
+    }
+
+    /**
+     * Gets how many slices a core ran.
+     * @param core The core number, from 0.
+     */
+    public int dispatches(int core) {
+        return dispatches[core];
+    }
+
+    /**
+     * Gets the fraction of the makespan in which a core ran a process.
+     * @param core The core number, from 0.
+     */
+    public double utilization(int core) {
+        long makespan = processes.makespan();
+        return makespan == 0 ? 0 : (double) busyTimes[core] / makespan;
+    }
+
+    /**
+     * Gets the fraction of the total core time over the makespan in which cores ran processes.
+     */
+    public double utilization() {
+        long makespan = processes.makespan();
+        return makespan == 0 ? 0 : (double) totalBusyTime() / ((double) makespan * cores());
+    }
+
+    /**
+     * Gets the load imbalance: how far the busiest core is above the mean busy time, as a
+     * fraction of the mean. 0 means every core did the same amount of work.
+     */
+    public double loadImbalance() {
+        long total = totalBusyTime();
+        if (total == 0) {
+            return 0;
+        }
+        long max = 0;
+        for (long busy : busyTimes) {
+            max = Math.max(max, busy);
+        }
+        double mean = (double) total / cores();
+        return max / mean - 1;
+    }
+
+    private long totalBusyTime() {
+        long total = 0;
+        for (long busy : busyTimes) {
+            total += busy;
+        }
+        return total;
+    }
+
+    /**
+     * Gets how many processes an idle core took from another core's run queue.
+     */
+    public long steals() {
+        return steals;
+    }
+
+    /**
+     * Gets how many dispatches ran a process on a different core than its previous slice.
+     */
+    public long migrations() {
+        return migrations;
+    }
+
+    /**
+     * Gets the slices a core ran; empty unless the run was asked to record them.
+     * @param core The core number, from 0.
+     */
+    public GanttChart gantt(int core) {
+        return gantts.length == 0 ? new GanttChart() : gantts[core];
+    }
+}
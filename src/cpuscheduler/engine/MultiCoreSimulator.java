@@ -0,0 +1,402 @@
+package cpuscheduler.engine;
+
+import cpuscheduler.monitoring.RunMonitor;
+import cpuscheduler.monitoring.SchedulerMonitor;
+import cpuscheduler.trace.TraceSink;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Discrete-event simulation of several identical cores. It follows the same event rules as
+ * {@link EventSimulator} (arrivals, then completions and quantum expiries, then dispatches at
+ * any one instant; ties between cores go to the lower core number), so a one-core run gives
+ * the same schedule as the single-CPU engine.
+ *
+ * <p>In {@link MultiCoreConfig.Mode#GLOBAL} mode all cores poll one run queue. In
+ * {@link MultiCoreConfig.Mode#PARTITIONED} mode every core owns a run queue, an arriving process
+ * joins the core with the fewest unfinished processes, and a process whose quantum expires goes
+ * back to the queue of the core it ran on. With work stealing, a core that finds its own queue
+ * empty takes the next process from the core with the longest queue.
+ *
+ * <p>With a {@link ContextSwitchCost} in the run options, a core spends the dispatch cost before
+ * the slice starts: the switch latency if it last ran a different process, the cache warm-up for
+ * the process's time off the CPU, and the migration cost if the process last ran on another core.
+ * Processes are never preempted, so every switch runs to the end.
+ *
+ * <p>Pending events, idle cores, core loads and queue lengths each live in an indexed heap over
+ * the cores, so one event costs O(log cores) plus the run-queue operation, and a run over
+ * thousands of cores stays O(events log cores). Run queues grow on demand, so idle cores cost
+ * a few words each.
+ */
+public final class MultiCoreSimulator {
+    private static final int ARRIVAL = 0;
+    private static final int COMPLETION = 1;
+    private static final int QUANTUM_EXPIRY = 2;
+    private static final int DISPATCH = 3;
+
+    // Event key: time, then event type, then core; the arrival slot is heap id 0, core c is c + 1
+    private static final int CORE_BITS = 20;
+    private static final int TIME_SHIFT = CORE_BITS + 2;
+
+    private final Workload workload;
+    private final HeadlessScheduler.Policy policy;
+    private final int quantumTime;
+    private final MultiCoreConfig config;
+    private final TraceSink trace;
+    private final ProgressListener progress;
+
+    private final EngineResult result;
+    private final MultiCoreResult cores;
+    private final IndexedMinHeap events;
+    private final int[] remaining;
+    private final int[] lastCore;
+    // When each process last left a core; null while switches are free
+    private final ContextSwitchCost switchCost;
+    private final int[] lastRan;
+    private int[] arrivalOrder;
+    private int nextArrival;
+    private int completed;
+    private RunMonitor monitor;
+
+    private final RunQueue[] queues;
+    private final int[] running;
+    private final int[] sliceStarts;
+    private final int[] lastDispatched;
+    // Unfinished processes per core (queued or running) and queue lengths, for placement and stealing
+    private final int[] loads;
+    private final IndexedMinHeap leastLoaded;
+    private final IndexedMinHeap longestQueue;
+    private final IndexedMinHeap idleCores;
+
+    private MultiCoreSimulator(Workload workload, HeadlessScheduler.Policy policy, int quantumTime,
+                               MultiCoreConfig config, RunOptions options) {
+        int coreCount = config.cores();
+        this.workload = workload;
+        this.policy = policy;
+        this.quantumTime = quantumTime;
+        this.config = config;
+        this.trace = options.trace();
+        this.progress = options.progress();
+        this.result = new EngineResult(workload);
+        this.cores = new MultiCoreResult(result, coreCount, options.recordGantt());
+        this.events = new IndexedMinHeap(coreCount + 1);
+        this.remaining = workload.burstTimes.clone();
+        this.lastCore = new int[workload.size()];
+        Arrays.fill(lastCore, -1);
+        this.switchCost = options.switchCost();
+        this.lastRan = switchCost.isFree() ? null : new int[workload.size()];
+        if (lastRan != null) {
+            Arrays.fill(lastRan, -1);
+        }
+
+        boolean partitioned = config.mode() == MultiCoreConfig.Mode.PARTITIONED;
+        this.queues = new RunQueue[partitioned ? coreCount : 1];
+        for (int i = 0; i < queues.length; i++) {
+            queues[i] = policy == HeadlessScheduler.Policy.FCFS || policy == HeadlessScheduler.Policy.ROUND_ROBIN
+                    ? new FifoQueue() : new KeyedQueue();
+        }
+        this.running = new int[coreCount];
+        Arrays.fill(running, -1);
+        this.sliceStarts = new int[coreCount];
+        this.lastDispatched = new int[coreCount];
+        Arrays.fill(lastDispatched, -1);
+        this.loads = new int[coreCount];
+        this.idleCores = new IndexedMinHeap(coreCount);
+        this.leastLoaded = partitioned ? new IndexedMinHeap(coreCount) : null;
+        this.longestQueue = partitioned && config.workStealing() ? new IndexedMinHeap(coreCount) : null;
+        for (int core = 0; core < coreCount; core++) {
+            idleCores.insert(core, core);
+            if (leastLoaded != null) {
+                leastLoaded.insert(core, core);
+            }
+            if (longestQueue != null) {
+                longestQueue.insert(core, core);
+            }
+        }
+    }
+
+    /**
+     * Simulates the workload on several cores.
+     * @param workload The processes to schedule.
+     * @param policy The scheduling policy every run queue uses.
+     * @param quantumTime The time slice for ROUND_ROBIN; ignored by the other policies.
+     * @param config The core count and how processes are spread over the cores.
+     * @param options What to record and report during the run; Gantt slices are kept per core.
+     * @return The per-process and per-core metrics.
+     * @throws java.util.concurrent.CancellationException If the thread is interrupted during the run.
+     */
+    public static MultiCoreResult run(Workload workload, HeadlessScheduler.Policy policy, int quantumTime,
+                                      MultiCoreConfig config, RunOptions options) {
+        if (policy == HeadlessScheduler.Policy.ROUND_ROBIN && quantumTime <= 0) {
+            throw new IllegalArgumentException("Quantum time must be positive.");
+        }
+        if (workload.ioBursts != null) {
+            throw new IllegalArgumentException("I/O bursts are only simulated on a single CPU.");
+        }
+        return new MultiCoreSimulator(workload, policy, quantumTime, config, options).simulate();
+    }
+
+    private MultiCoreResult simulate() {
+        int n = workload.size();
+        Arrays.fill(result.startTimes, -1);
+        arrivalOrder = Workload.sortedRows(workload.arrivalTimes);
+        if (n > 0) {
+            events.insert(0, (long) workload.arrivalTimes[arrivalOrder[0]] << TIME_SHIFT);
+        }
+
+        String engine = "MultiCoreSimulator/" + policy + "/" + running.length + " cores";
+        try (RunMonitor runMonitor = SchedulerMonitor.startRun(engine, n)) {
+            monitor = runMonitor;
+            long eventsProcessed = 0;
+            int now = 0;
+            while (!events.isEmpty()) {
+                long key = events.peekKey();
+                events.poll();
+                now = (int) (key >>> TIME_SHIFT);
+                int core = (int) (key & ((1 << CORE_BITS) - 1));
+                if ((++eventsProcessed & (ProgressListener.INTERVAL - 1)) == 0) {
+                    reportProgress(eventsProcessed, now);
+                }
+                switch ((int) (key >>> CORE_BITS) & 3) {
+                    case ARRIVAL -> onArrival(now);
+                    case COMPLETION -> onCompletion(core, now);
+                    case QUANTUM_EXPIRY -> onQuantumExpiry(core, now);
+                    case DISPATCH -> onDispatch(core, now);
+                    default -> throw new IllegalStateException("Unknown event type");
+                }
+            }
+            if (completed != n) {
+                throw new IllegalStateException("Left " + (n - completed) + " processes unscheduled.");
+            }
+            runMonitor.finish(eventsProcessed, now, result.contextSwitches, 0);
+        }
+        return cores;
+    }
+
+    private void reportProgress(long eventsProcessed, int now) {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Simulation cancelled at time " + now + ".");
+        }
+        progress.onProgress(eventsProcessed, now, completed);
+        // Arrived and not completed, less the cores that are not idle; approximate while cores are waking
+        monitor.progress(eventsProcessed, now, Math.max(0, nextArrival - completed - (running.length - idleCores.size())));
+    }
+
+    private void schedule(int core, int type, int time) {
+        events.insert(core + 1, ((long) time << TIME_SHIFT) | ((long) type << CORE_BITS) | core);
+    }
+
+    private void onArrival(int now) {
+        int row = arrivalOrder[nextArrival++];
+        if (nextArrival < arrivalOrder.length) {
+            events.insert(0, (long) workload.arrivalTimes[arrivalOrder[nextArrival]] << TIME_SHIFT);
+        }
+        int core = 0;
+        if (leastLoaded != null) {
+            core = leastLoaded.peek();
+            changeLoad(core, 1);
+        }
+        enqueue(core, row, now);
+    }
+
+    /**
+     * Adds a ready process to a run queue and wakes a core that can run it.
+     * @param queue The queue's core, or 0 in global mode.
+     */
+    private void enqueue(int queue, int row, int now) {
+        queues[queue].add(row);
+        if (leastLoaded == null) {
+            wakeIdleCore(idleCores.peek(), now);
+            return;
+        }
+        changeQueued(queue);
+        if (idleCores.contains(queue)) {
+            wakeIdleCore(queue, now);
+        }
+        else if (longestQueue != null) {
+            wakeIdleCore(idleCores.peek(), now); // It will steal the process
+        }
+    }
+
+    private void wakeIdleCore(int core, int now) {
+        if (core >= 0) {
+            idleCores.remove(core);
+            schedule(core, DISPATCH, now);
+        }
+    }
+
+    private void onDispatch(int core, int now) {
+        int row;
+        if (leastLoaded == null) {
+            row = queues[0].poll();
+        }
+        else {
+            row = queues[core].poll();
+            if (row >= 0) {
+                changeQueued(core);
+            }
+            else if (longestQueue != null) {
+                row = steal(core);
+            }
+        }
+        if (row < 0) {
+            idleCores.insert(core, core);
+            return;
+        }
+        boolean switching = lastDispatched[core] >= 0 && lastDispatched[core] != row;
+        boolean migrated = lastCore[row] >= 0 && lastCore[row] != core;
+        int start = now;
+        if (lastRan != null) {
+            start += switchCost.dispatchCost(switching, lastRan[row] < 0 ? -1 : now - lastRan[row], migrated);
+            result.switchOverheadTime += start - now;
+        }
+        if (result.startTimes[row] < 0) {
+            result.startTimes[row] = start;
+            result.responseTimes[row] = start - workload.arrivalTimes[row];
+        }
+        if (switching) {
+            result.contextSwitches++;
+        }
+        if (migrated) {
+            cores.migrations++;
+        }
+        lastDispatched[core] = row;
+        lastCore[row] = core;
+        running[core] = row;
+        sliceStarts[core] = start;
+        monitor.dispatch(workload.processIds[row], now, remaining[row], core);
+        cores.dispatches[core]++;
+        if (policy != HeadlessScheduler.Policy.ROUND_ROBIN || quantumTime >= remaining[row]) {
+            schedule(core, COMPLETION, start + remaining[row]);
+        }
+        else {
+            schedule(core, QUANTUM_EXPIRY, start + quantumTime);
+        }
+    }
+
+    private int steal(int thief) {
+        int victim = longestQueue.peek();
+        if (victim < 0 || queues[victim].size() == 0) {
+            return -1;
+        }
+        int row = queues[victim].poll();
+        changeQueued(victim);
+        changeLoad(victim, -1);
+        changeLoad(thief, 1);
+        cores.steals++;
+        return row;
+    }
+
+    private void onCompletion(int core, int now) {
+        int row = endSlice(core, now);
+        result.recordCompletion(row, now);
+        result.completionOrder[completed++] = row;
+        if (leastLoaded != null) {
+            changeLoad(core, -1);
+        }
+        trace.onCompletion(workload.processIds[row], workload.arrivalTimes[row], workload.burstTimes[row], now,
+                result.responseTimes[row], result.turnaroundTimes[row], result.waitingTimes[row]);
+        schedule(core, DISPATCH, now);
+    }
+
+    private void onQuantumExpiry(int core, int now) {
+        int row = endSlice(core, now);
+        monitor.quantumExpiry(workload.processIds[row], now, remaining[row], core);
+        // The core dispatches at this instant anyway, so it is not woken by the enqueue
+        int queue = leastLoaded == null ? 0 : core;
+        queues[queue].add(row);
+        if (leastLoaded != null) {
+            changeQueued(queue);
+        }
+        schedule(core, DISPATCH, now);
+    }
+
+    private int endSlice(int core, int now) {
+        int row = running[core];
+        int start = sliceStarts[core];
+        int before = remaining[row];
+        remaining[row] = before - (now - start);
+        running[core] = -1;
+        if (lastRan != null) {
+            lastRan[row] = now;
+        }
+        cores.busyTimes[core] += now - start;
+        if (cores.gantts.length > 0) {
+            cores.gantts[core].add(workload.processIds[row], start, now);
+        }
+        trace.onDispatch(workload.processIds[row], start, now, before);
+        return row;
+    }
+
+    private void changeLoad(int core, int delta) {
+        loads[core] += delta;
+        leastLoaded.changeKey(core, ((long) loads[core] << 32) | core);
+    }
+
+    private void changeQueued(int core) {
+        if (longestQueue != null) {
+            // Longest first, then lowest core number
+            longestQueue.changeKey(core, ((long) -queues[core].size() << 32) | core);
+        }
+    }
+
+    /**
+     * A run queue owned by one core, or shared by all cores in global mode.
+     */
+    private interface RunQueue {
+        void add(int row);
+
+        /**
+         * @return The next row, or -1 if the queue is empty.
+         */
+        int poll();
+
+        int size();
+    }
+
+    /**
+     * First come first serve order, for FCFS and Round Robin.
+     */
+    private static final class FifoQueue implements RunQueue {
+        private final IntRingBuffer rows = new IntRingBuffer(4);
+
+        @Override
+        public void add(int row) {
+            rows.add(row);
+        }
+
+        @Override
+        public int poll() {
+            return rows.poll();
+        }
+
+        @Override
+        public int size() {
+            return rows.size();
+        }
+    }
+
+    /**
+     * Smallest burst (SJF) or priority (PRIORITY) first, then lowest row, like {@link KeyedPolicy}.
+     */
+    private final class KeyedQueue implements RunQueue {
+        private final LongMinHeap rows = new LongMinHeap(4);
+
+        @Override
+        public void add(int row) {
+            int key = policy == HeadlessScheduler.Policy.SJF ? workload.burstTimes[row] : workload.priorities[row];
+            rows.add(((long) key << 32) | row);
+        }
+
+        @Override
+        public int poll() {
+            return rows.isEmpty() ? -1 : (int) rows.poll();
+        }
+
+        @Override
+        public int size() {
+            return rows.size();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package cpuscheduler.engine;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * A treap of processes ordered by a long key, where every subtree also knows its size, its
+ * total burst time and the total waiting time of its processes if they ran back to back in key
+ * order. That last sum combines in O(1) from the children, so inserting or deleting a process
+ * and reading the total waiting time of the whole order are all O(log n), and the waiting time
+ * of one process (the bursts ahead of it) is an O(log n) prefix sum.
+ *
+ * <p>Nodes live in parallel primitive arrays; deleted nodes are reused.
+ */
+final class OrderStatisticTree {
+    private long[] keys;
+    private int[] bursts;
+    private int[] priorities;
+    private int[] left;
+    private int[] right;
+    private int[] counts;
+    private long[] burstSums;
+    private long[] waitingSums;
+    private int[] free;
+    private int freeCount;
+    private int allocated;
+    private int root = -1;
+    // Fixed seed: the shape of the tree, and so the run time, does not vary between runs
+    private final SplittableRandom random = new SplittableRandom(0x5EED);
+
+    // Results of split(); children of the last split
+    private int splitLeft;
+    private int splitRight;
+
+    OrderStatisticTree(int initialCapacity) {
+        int capacity = Math.max(4, initialCapacity);
+        keys = new long[capacity];
+        bursts = new int[capacity];
+        priorities = new int[capacity];
+        left = new int[capacity];
+        right = new int[capacity];
+        counts = new int[capacity];
+        burstSums = new long[capacity];
+        waitingSums = new long[capacity];
+        free = new int[capacity];
+    }
+
+    int size() {
+        return root < 0 ? 0 : counts[root];
+    }
+
+    long totalBurst() {
+        return root < 0 ? 0 : burstSums[root];
+    }
+
+    /**
+     * Gets the sum over all processes of the bursts that run before each of them.
+     */
+    long totalWaiting() {
+        return root < 0 ? 0 : waitingSums[root];
+    }
+
+    /**
+     * Adds a process.
+     * @param key The ordering key, unique among the processes in the tree.
+     * @param burst The burst time of the process.
+     * @return The node of the process, to delete it later.
+     */
+    int insert(long key, int burst) {
+        int node = allocate();
+        keys[node] = key;
+        bursts[node] = burst;
+        priorities[node] = random.nextInt();
+        left[node] = -1;
+        right[node] = -1;
+        pull(node);
+        split(root, key);
+        root = merge(merge(splitLeft, node), splitRight);
+        return node;
+    }
+
+    /**
+     * Removes a process.
+     * @param node The node returned by {@link #insert(long, int)}.
+     */
+    void delete(int node) {
+        root = delete(root, keys[node]);
+        free[freeCount++] = node;
+    }
+
+    private int delete(int t, long key) {
+        if (keys[t] == key) {
+            return merge(left[t], right[t]);
+        }
+        if (key < keys[t]) {
+            left[t] = delete(left[t], key);
+        }
+        else {
+            right[t] = delete(right[t], key);
+        }
+        pull(t);
+        return t;
+    }
+
+    /**
+     * Gets the total burst of the processes ordered before a key.
+     */
+    long burstBefore(long key) {
+        long sum = 0;
+        int t = root;
+        while (t >= 0) {
+            if (keys[t] < key) {
+                sum += burstSum(left[t]) + bursts[t];
+                t = right[t];
+            }
+            else {
+                t = left[t];
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Visits every process in key order.
+     */
+    void forEachInOrder(NodeVisitor visitor) {
+        // Iterative in-order walk; the stack is as deep as the tree
+        int[] stack = new int[64];
+        int depth = 0;
+        int t = root;
+        while (t >= 0 || depth > 0) {
+            while (t >= 0) {
+                if (depth == stack.length) {
+                    stack = Arrays.copyOf(stack, depth * 2);
+                }
+                stack[depth++] = t;
+                t = left[t];
+            }
+            t = stack[--depth];
+            visitor.visit(keys[t], bursts[t]);
+            t = right[t];
+        }
+    }
+
+    @FunctionalInterface
+    interface NodeVisitor {
+        void visit(long key, int burst);
+    }
+
+    private int allocate() {
+        if (freeCount > 0) {
+            return free[--freeCount];
+        }
+        if (allocated == keys.length) {
+            int capacity = keys.length * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            bursts = Arrays.copyOf(bursts, capacity);
+            priorities = Arrays.copyOf(priorities, capacity);
+            left = Arrays.copyOf(left, capacity);
+            right = Arrays.copyOf(right, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+            burstSums = Arrays.copyOf(burstSums, capacity);
+            waitingSums = Arrays.copyOf(waitingSums, capacity);
+            free = Arrays.copyOf(free, capacity);
+        }
+        return allocated++;
+    }
+
+    private long burstSum(int t) {
+        return t < 0 ? 0 : burstSums[t];
+    }
+
+    private void pull(int t) {
+        int l = left[t];
+        int r = right[t];
+        long leftBurst = burstSum(l);
+        int rightCount = r < 0 ? 0 : counts[r];
+        counts[t] = 1 + (l < 0 ? 0 : counts[l]) + rightCount;
+        burstSums[t] = leftBurst + bursts[t] + burstSum(r);
+        // Everything in the right subtree waits for the left subtree and this node
+        waitingSums[t] = (l < 0 ? 0 : waitingSums[l]) + leftBurst
+                + (r < 0 ? 0 : waitingSums[r]) + rightCount * (leftBurst + bursts[t]);
+    }
+
+    /**
+     * Splits a subtree into keys below the given one (splitLeft) and the rest (splitRight).
+     */
+    private void split(int t, long key) {
+        if (t < 0) {
+            splitLeft = -1;
+            splitRight = -1;
+            return;
+        }
+        if (keys[t] < key) {
+            split(right[t], key);
+            right[t] = splitLeft;
+            pull(t);
+            splitLeft = t;
+        }
+        else {
+            split(left[t], key);
+            left[t] = splitRight;
+            pull(t);
+            splitRight = t;
+        }
+    }
+
+    private int merge(int a, int b) {
+        if (a < 0) {
+            return b;
+        }
+        if (b < 0) {
+            return a;
+        }
+        if (priorities[a] > priorities[b]) {
+            right[a] = merge(right[a], b);
+            pull(a);
+            return a;
+        }
+        left[b] = merge(a, left[b]);
+        pull(b);
+        return b;
+    }
+}
@@ -0,0 +1,43 @@
+package cpuscheduler.engine;
+
+/**
+ * Preemptive policy that always runs the unfinished process with the smallest key.
+ * The running process stays in the addressable heap with its key kept current, so deciding
+ * whether an arrival preempts it is a decrease-key plus a peek: O(log n) instead of a re-sort.
+ * Ties are broken by workload row; a process with an equal key never preempts.
+ */
+public abstract class PreemptiveKeyedPolicy extends KeyedPolicy {
+    @Override
+    public void onReady(int row, int remainingTime) {
+        long key = packedKey(row, remainingTime);
+        if (readyQueue.contains(row)) {
+            readyQueue.changeKey(row, key);
+        }
+        else {
+            readyQueue.insert(row, key);
+        }
+    }
+
+    @Override
+    public int pollNext() {
+        return readyQueue.peek();
+    }
+
+    @Override
+    public boolean shouldPreempt(int running, int remainingTime) {
+        // Keys only shrink while a process runs
+        readyQueue.decreaseKey(running, packedKey(running, remainingTime));
+        int best = readyQueue.peek();
+        return best != running && (readyQueue.keyOf(best) >> 32) < (readyQueue.keyOf(running) >> 32);
+    }
+
+    @Override
+    public void onBlocked(int row) {
+        readyQueue.remove(row);
+    }
+
+    @Override
+    public void onCompletion(int row) {
+        readyQueue.remove(row);
+    }
+}
@@ -0,0 +1,12 @@
+package cpuscheduler.engine;
+
+/**
+ * Priority (preemptive): an arrival with a lower priority number than the running process
+ * takes the CPU.
+ */
+public class PreemptivePriorityPolicy extends PreemptiveKeyedPolicy {
+    @Override
+    protected int key(int row, int remainingTime) {
+        return workload.priorities[row];
+    }
+}
@@ -0,0 +1,11 @@
+package cpuscheduler.engine;
+
+/**
+ * Priority (non-preemptive): the ready process with the lowest priority number runs next.
+ */
+public class PriorityPolicy extends KeyedPolicy {
+    @Override
+    protected int key(int row, int remainingTime) {
+        return workload.priorities[row];
+    }
+}
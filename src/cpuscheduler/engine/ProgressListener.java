@@ -0,0 +1,23 @@
+package cpuscheduler.engine;
+
+/**
+ * Receives periodic progress reports from a running simulation. Reports are made from the
+ * simulating thread every {@link #INTERVAL} events, so implementations should be cheap.
+ */
+@FunctionalInterface
+public interface ProgressListener {
+    /**
+     * The number of events between two reports.
+     */
+    int INTERVAL = 1 << 14;
+
+    ProgressListener NONE = (eventsProcessed, simulatedTime, completedProcesses) -> {
+    };
+
+    /**
+     * @param eventsProcessed The number of events handled so far.
+     * @param simulatedTime The current simulation clock.
+     * @param completedProcesses The number of processes that have terminated.
+     */
+    void onProgress(long eventsProcessed, long simulatedTime, int completedProcesses);
+}
@@ -0,0 +1,318 @@
+package cpuscheduler.engine;
+
+import cpuscheduler.monitoring.RunMonitor;
+import cpuscheduler.monitoring.SchedulerMonitor;
+import cpuscheduler.trace.TraceSink;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+
+/**
+ * A dedicated Round Robin engine. The ready queue is an {@link IntRingBuffer} of workload rows and
+ * the remaining bursts are an int[] indexed by row, so a quantum costs a few array accesses and
+ * no event-heap operations. It follows the same rules as {@link RoundRobinPolicy} in the
+ * {@link EventSimulator}: a process whose quantum expires goes behind the processes that arrived
+ * up to and including that instant.
+ *
+ * <p>In fast-forward mode the run switches to a closed form once every process has arrived and
+ * every zero burst, which completes the instant it is dispatched, is done.
+ * With no more arrivals the queue order never changes, so a process needing k more quanta
+ * completes after every other process has had min(remaining, (k - 1) * quantum) of CPU time,
+ * plus the last-round slices of the processes ahead of it that are still active in round k.
+ * Grouping processes by k and counting the active ones ahead with a Fenwick tree gives every
+ * completion time in O(n log n), however small the quantum.
+ */
+public final class RoundRobinEngine {
+    private final Workload workload;
+    private final int quantumTime;
+    private final boolean recordGantt;
+    private final TraceSink trace;
+    private final ProgressListener progress;
+
+    private final EngineResult result;
+    private final int[] remaining;
+    private final IntRingBuffer readyQueue;
+    private int[] arrivalOrder;
+    private int nextArrival;
+    private int completed;
+    private int lastDispatched = -1;
+    // A zero burst completes when it is dispatched, which the closed form does not model
+    private int zeroBurstsLeft;
+
+    private RoundRobinEngine(Workload workload, int quantumTime, RunOptions options) {
+        if (quantumTime <= 0) {
+            throw new IllegalArgumentException("Quantum Time must be positive.");
+        }
+        this.workload = workload;
+        this.quantumTime = quantumTime;
+        this.recordGantt = options.recordGantt();
+        this.trace = options.trace();
+        this.progress = options.progress();
+        this.result = new EngineResult(workload);
+        this.remaining = workload.burstTimes.clone();
+        this.readyQueue = new IntRingBuffer(Math.min(workload.size(), 1 << 16));
+        for (int burst : remaining) {
+            if (burst == 0) {
+                zeroBurstsLeft++;
+            }
+        }
+    }
+
+    /**
+     * Runs Round Robin over the workload.
+     * @param workload The processes to schedule.
+     * @param quantumTime The time slice.
+     * @param options What to record and report during the run.
+     * @param fastForward Whether to compute the rest of the run analytically once every process
+     *                    has arrived. Ignored when Gantt slices or a trace are requested, since
+     *                    those need every individual quantum.
+     * @return The per-process metrics. A workload with I/O bursts, or a run whose context switches
+     * cost time, is handed to the {@link EventSimulator}, which models the device and the switches.
+     * @throws java.util.concurrent.CancellationException If the thread is interrupted during the run.
+     */
+    public static EngineResult run(Workload workload, int quantumTime, RunOptions options, boolean fastForward) {
+        if (workload.ioBursts != null || !options.switchCost().isFree()) {
+            return EventSimulator.run(workload, new RoundRobinPolicy(quantumTime), options);
+        }
+        boolean analyticTail = fastForward && !options.recordGantt() && options.trace() == TraceSink.NONE;
+        RoundRobinEngine engine = new RoundRobinEngine(workload, quantumTime, options);
+        try (RunMonitor monitor = SchedulerMonitor.startRun("RoundRobinEngine", workload.size())) {
+            return engine.simulate(analyticTail, monitor);
+        }
+    }
+
+    /**
+     * Runs the simulation; the monitor counts dispatches as events.
+     */
+    private EngineResult simulate(boolean analyticTail, RunMonitor monitor) {
+        int n = workload.size();
+        Arrays.fill(result.startTimes, -1);
+        arrivalOrder = Workload.sortedRows(workload.arrivalTimes);
+        int currentTime = 0;
+        long dispatches = 0;
+
+        while (completed < n) {
+            if (readyQueue.isEmpty()) {
+                // Idle: jump to the next arrival
+                currentTime = Math.max(currentTime, workload.arrivalTimes[arrivalOrder[nextArrival]]);
+                admitArrivals(currentTime);
+            }
+            // Zero bursts are stepped through first, which takes at most one pass over the queue
+            if (analyticTail && nextArrival == n && zeroBurstsLeft == 0) {
+                fastForward(currentTime);
+                monitor.finish(dispatches, result.completionTimes[result.completionOrder[n - 1]], result.contextSwitches, 0);
+                return result;
+            }
+
+            if ((++dispatches & (ProgressListener.INTERVAL - 1)) == 0) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new CancellationException("Simulation cancelled at time " + currentTime + ".");
+                }
+                progress.onProgress(dispatches, currentTime, completed);
+                monitor.progress(dispatches, currentTime, readyQueue.size());
+            }
+
+            int row = readyQueue.poll();
+            if (result.startTimes[row] < 0) {
+                result.startTimes[row] = currentTime;
+                result.responseTimes[row] = currentTime - workload.arrivalTimes[row];
+            }
+            if (lastDispatched >= 0 && lastDispatched != row) {
+                result.contextSwitches++;
+            }
+            lastDispatched = row;
+
+            int before = remaining[row];
+            monitor.dispatch(workload.processIds[row], currentTime, before, 0);
+            int sliceEnd = currentTime + Math.min(before, quantumTime);
+            admitArrivals(sliceEnd);
+            if (recordGantt) {
+                result.addSlice(row, currentTime, sliceEnd);
+            }
+            trace.onDispatch(workload.processIds[row], currentTime, sliceEnd, before);
+            remaining[row] = before - (sliceEnd - currentTime);
+            currentTime = sliceEnd;
+
+            if (remaining[row] > 0) {
+                monitor.quantumExpiry(workload.processIds[row], currentTime, remaining[row], 0);
+                readyQueue.add(row);
+            }
+            else {
+                complete(row, currentTime);
+            }
+        }
+        monitor.finish(dispatches, currentTime, result.contextSwitches, 0);
+        return result;
+    }
+
+    private void admitArrivals(int upTo) {
+        while (nextArrival < arrivalOrder.length && workload.arrivalTimes[arrivalOrder[nextArrival]] <= upTo) {
+            readyQueue.add(arrivalOrder[nextArrival++]);
+        }
+    }
+
+    private void complete(int row, int time) {
+        if (workload.burstTimes[row] == 0) {
+            zeroBurstsLeft--;
+        }
+        result.recordCompletion(row, time);
+        result.completionOrder[completed++] = row;
+        trace.onCompletion(workload.processIds[row], workload.arrivalTimes[row], workload.burstTimes[row], time,
+                result.responseTimes[row], result.turnaroundTimes[row], result.waitingTimes[row]);
+    }
+
+    /**
+     * Completes every process left in the ready queue without simulating individual quanta.
+     * @param start The time the first remaining process is dispatched.
+     */
+    private void fastForward(int start) {
+        int m = readyQueue.size();
+        int[] rows = new int[m];
+        for (int i = 0; i < m; i++) {
+            rows[i] = readyQueue.poll();
+        }
+        long q = quantumTime;
+
+        // First dispatch of processes that never ran: everyone ahead of them runs one slice first
+        long elapsed = start;
+        for (int row : rows) {
+            if (result.startTimes[row] < 0) {
+                result.startTimes[row] = (int) elapsed;
+                result.responseTimes[row] = (int) (elapsed - workload.arrivalTimes[row]);
+            }
+            elapsed += Math.min(remaining[row], q);
+        }
+
+        // Remaining bursts sorted, with prefix sums, to get sum(min(r, limit)) by binary search
+        long[] sortedRemaining = new long[m];
+        for (int i = 0; i < m; i++) {
+            sortedRemaining[i] = remaining[rows[i]];
+        }
+        Arrays.sort(sortedRemaining);
+        long[] prefix = new long[m + 1];
+        for (int i = 0; i < m; i++) {
+            prefix[i + 1] = prefix[i] + sortedRemaining[i];
+        }
+
+        // Queue positions grouped by the number of quanta each process still needs
+        long[] byRounds = new long[m];
+        for (int pos = 0; pos < m; pos++) {
+            long rounds = (remaining[rows[pos]] + q - 1) / q;
+            byRounds[pos] = (rounds << 32) | pos;
+        }
+        Arrays.sort(byRounds);
+
+        // Fenwick tree over queue positions of the processes that are still active
+        int[] fenwick = new int[m + 1];
+        for (int i = 1; i <= m; i++) {
+            fenwick[i]++;
+            int parent = i + (i & -i);
+            if (parent <= m) {
+                fenwick[parent] += fenwick[i];
+            }
+        }
+
+        long[] completions = new long[m];
+        int groupStart = 0;
+        while (groupStart < m) {
+            long rounds = byRounds[groupStart] >>> 32;
+            int groupEnd = groupStart;
+            while (groupEnd < m && (byRounds[groupEnd] >>> 32) == rounds) {
+                fenwickAdd(fenwick, (int) byRounds[groupEnd], -1);
+                groupEnd++;
+            }
+
+            long fullRounds = (rounds - 1) * q;
+            long before = start + sumOfMin(sortedRemaining, prefix, fullRounds);
+            long groupAhead = 0;
+            for (int i = groupStart; i < groupEnd; i++) {
+                int pos = (int) byRounds[i];
+                int row = rows[pos];
+                long lastSlice = remaining[row] - fullRounds;
+                long completion = before + q * fenwickCount(fenwick, pos) + groupAhead + lastSlice;
+                groupAhead += lastSlice;
+
+                result.recordCompletion(row, (int) completion);
+                remaining[row] = 0;
+                completions[pos] = (completion << 32) | row;
+            }
+            groupStart = groupEnd;
+        }
+
+        result.contextSwitches += tailContextSwitches(rows, byRounds);
+        Arrays.sort(completions);
+        for (long packed : completions) {
+            result.completionOrder[completed++] = (int) packed;
+        }
+    }
+
+    /**
+     * Counts the dispatches of the analytic tail that switch to a different process. Consecutive
+     * slices of the same process only happen once a single process is left.
+     */
+    private int tailContextSwitches(int[] rows, long[] byRounds) {
+        int m = rows.length;
+        long slices = 0;
+        for (long packed : byRounds) {
+            slices += packed >>> 32;
+        }
+        long repeats = 0;
+        long maxRounds = byRounds[m - 1] >>> 32;
+        int maxPos = (int) byRounds[m - 1];
+        if (m == 1) {
+            repeats = maxRounds - 1;
+        }
+        else {
+            long secondRounds = byRounds[m - 2] >>> 32;
+            if (maxRounds > secondRounds) {
+                repeats = maxRounds - secondRounds - 1;
+                // The round before it runs alone ends with it if it is last in queue order
+                boolean lastInRound = true;
+                for (int i = m - 2; i >= 0 && (byRounds[i] >>> 32) >= secondRounds; i--) {
+                    if ((int) byRounds[i] > maxPos) {
+                        lastInRound = false;
+                        break;
+                    }
+                }
+                if (lastInRound) {
+                    repeats++;
+                }
+            }
+        }
+        long switches = slices - 1 - repeats;
+        if (lastDispatched >= 0 && lastDispatched != rows[0]) {
+            switches++;
+        }
+        return (int) switches;
+    }
+
+    private static long sumOfMin(long[] sorted, long[] prefix, long limit) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] <= limit) {
+                lo = mid + 1;
+            }
+            else {
+                hi = mid;
+            }
+        }
+        return prefix[lo] + limit * (sorted.length - lo);
+    }
+
+    private static void fenwickAdd(int[] tree, int pos, int delta) {
+        for (int i = pos + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    // Number of active positions strictly before pos
+    private static int fenwickCount(int[] tree, int pos) {
+        int count = 0;
+        for (int i = pos; i > 0; i -= i & -i) {
+            count += tree[i];
+        }
+        return count;
+    }
+}
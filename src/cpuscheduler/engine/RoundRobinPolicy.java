@@ -0,0 +1,25 @@
+package cpuscheduler.engine;
+
+/**
+ * Round Robin: First Come First Serve order, but each dispatch runs for at most one quantum
+ * before the process goes to the back of the ready queue.
+ */
+public class RoundRobinPolicy extends FCFSPolicy {
+    private final int quantumTime;
+
+    public RoundRobinPolicy(int quantumTime) {
+        if (quantumTime <= 0) {
+            throw new IllegalArgumentException("Quantum Time must be positive.");
+        }
+        this.quantumTime = quantumTime;
+    }
+
+    public int getQuantumTime() {
+        return quantumTime;
+    }
+
+    @Override
+    public int timeSlice(int row) {
+        return quantumTime;
+    }
+}
@@ -0,0 +1,46 @@
+package cpuscheduler.engine;
+
+import cpuscheduler.trace.TraceSink;
+
+/**
+ * What a simulation run records and reports besides the per-process metrics, and what a context
+ * switch costs. A run is cancelled by interrupting the thread it runs on; the engine then throws
+ * {@link java.util.concurrent.CancellationException}.
+ *
+ * @param recordGantt Whether to keep every dispatch slice for the Gantt chart
+ * @param trace The sink that receives every dispatch and completion
+ * @param progress The listener that receives periodic progress reports
+ * @param switchCost The CPU time charged for switching to a different process
+ */
+public record RunOptions(boolean recordGantt, TraceSink trace, ProgressListener progress,
+                         ContextSwitchCost switchCost) {
+    /**
+     * Metrics only: no Gantt slices, no trace, no progress reports, free context switches.
+     */
+    public static final RunOptions HEADLESS = new RunOptions(false, TraceSink.NONE, ProgressListener.NONE,
+            ContextSwitchCost.NONE);
+
+    /**
+     * Metrics and Gantt slices, as shown by the GUI.
+     */
+    public static final RunOptions WITH_GANTT = new RunOptions(true, TraceSink.NONE, ProgressListener.NONE,
+            ContextSwitchCost.NONE);
+
+    public RunOptions {
+        if (switchCost == null) {
+            throw new IllegalArgumentException("Switch cost must not be null; use ContextSwitchCost.NONE.");
+        }
+    }
+
+    public RunOptions withTrace(TraceSink trace) {
+        return new RunOptions(recordGantt, trace, progress, switchCost);
+    }
+
+    public RunOptions withProgress(ProgressListener progress) {
+        return new RunOptions(recordGantt, trace, progress, switchCost);
+    }
+
+    public RunOptions withSwitchCost(ContextSwitchCost switchCost) {
+        return new RunOptions(recordGantt, trace, progress, switchCost);
+    }
+}
@@ -0,0 +1,11 @@
+package cpuscheduler.engine;
+
+/**
+ * Shortest Job First (non-preemptive): the ready process with the smallest burst time runs next.
+ */
+public class SJFPolicy extends KeyedPolicy {
+    @Override
+    protected int key(int row, int remainingTime) {
+        return workload.burstTimes[row];
+    }
+}
@@ -0,0 +1,12 @@
+package cpuscheduler.engine;
+
+/**
+ * Shortest Remaining Time First: preemptive SJF. An arrival whose burst is shorter than what the
+ * running process still needs takes the CPU.
+ */
+public class SRTFPolicy extends PreemptiveKeyedPolicy {
+    @Override
+    protected int key(int row, int remainingTime) {
+        return remainingTime;
+    }
+}
@@ -0,0 +1,74 @@
+package cpuscheduler.engine;
+
+/**
+ * Decides which ready process the {@link EventSimulator} dispatches next.
+ * A policy owns the ready queue; the simulator owns the clock and every per-process metric.
+ * Processes are identified by their workload row. A policy instance serves one run at a time.
+ *
+ * <p>These methods are the only calls the simulator makes into an algorithm, and they take and
+ * return ints, so an algorithm from a plugin jar runs in the same event loop as the built-in ones.
+ * A JVM that runs one policy class sees a single receiver at every call site and inlines it; one
+ * that runs many, as a comparison does, pays an interface call per event.
+ */
+public interface SchedulingPolicy {
+    /**
+     * Returned by {@link #timeSlice(int)} when a process keeps the CPU until it completes.
+     */
+    int RUN_TO_COMPLETION = Integer.MAX_VALUE;
+
+    /**
+     * Prepares the policy for a run, discarding any state from a previous one.
+     * @param workload The workload being simulated.
+     */
+    void reset(Workload workload);
+
+    /**
+     * Adds a process to the ready queue on arrival, after its time slice expired or after it
+     * was preempted.
+     * @param row The workload row of the process.
+     * @param remainingTime The burst time the process still needs.
+     */
+    void onReady(int row, int remainingTime);
+
+    /**
+     * Picks the process that should run next. Policies that keep the running process in their
+     * queue (to compare it with new arrivals) release it in {@link #onCompletion(int)}.
+     * @return Its workload row, or -1 if no process is ready.
+     */
+    int pollNext();
+
+    /**
+     * Called after a process became ready while another one holds the CPU.
+     * @param running The workload row of the running process.
+     * @param remainingTime The burst time the running process still needs as of now.
+     * @return Whether the running process should give up the CPU immediately.
+     */
+    default boolean shouldPreempt(int running, int remainingTime) {
+        return false;
+    }
+
+    /**
+     * Called when a process has finished a CPU burst and blocks on the I/O device. When its I/O
+     * is done it becomes ready again through {@link #onReady(int, int)}, with the length of its
+     * next CPU burst as the remaining time.
+     * @param row The workload row of the process.
+     */
+    default void onBlocked(int row) {
+    }
+
+    /**
+     * Called when a process has finished its whole burst.
+     * @param row The workload row of the process.
+     */
+    default void onCompletion(int row) {
+    }
+
+    /**
+     * Gets how long a just-dispatched process may run before it is put back in the ready queue.
+     * @param row The workload row of the dispatched process.
+     * @return The slice length, or {@link #RUN_TO_COMPLETION}.
+     */
+    default int timeSlice(int row) {
+        return RUN_TO_COMPLETION;
+    }
+}
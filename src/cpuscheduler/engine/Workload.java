@@ -0,0 +1,174 @@
+package cpuscheduler.engine;
+
+import cpuscheduler.Process;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An immutable set of processes held as primitive columns.
+ * Row {@code i} describes one process; every column has the same length.
+ * The public constructors copy the caller's arrays, so changing them later cannot change a
+ * workload that a run or a cache key has already seen; the copies are then shared read-only by
+ * every run over this workload.
+ */
+public final class Workload {
+    final int[] processIds;
+    final int[] burstTimes;
+    final int[] priorities;
+    final int[] arrivalTimes;
+    // Null when every process is a single CPU burst
+    final IoBursts ioBursts;
+
+    public Workload(int[] processIds, int[] burstTimes, int[] priorities, int[] arrivalTimes) {
+        this(processIds, burstTimes, priorities, arrivalTimes, null);
+    }
+
+    /**
+     * Creates a workload of processes that alternate CPU and I/O bursts.
+     * @param processIds The process ids.
+     * @param burstTimes The total CPU time of every process, the sum of its CPU bursts.
+     * @param priorities The priorities; smaller runs first.
+     * @param arrivalTimes The arrival times.
+     * @param ioBursts The burst sequence of every row, or null if no process does I/O.
+     */
+    public Workload(int[] processIds, int[] burstTimes, int[] priorities, int[] arrivalTimes, IoBursts ioBursts) {
+        this(processIds.clone(), burstTimes.clone(), priorities.clone(), arrivalTimes.clone(), ioBursts, true);
+    }
+
+    /**
+     * Creates a workload that takes ownership of its arrays, for callers in this package that
+     * have just filled them and never touch them again.
+     * @param owned Marks this constructor apart from the copying one; always true.
+     */
+    Workload(int[] processIds, int[] burstTimes, int[] priorities, int[] arrivalTimes, IoBursts ioBursts,
+             boolean owned) {
+        int n = processIds.length;
+        if (burstTimes.length != n || priorities.length != n || arrivalTimes.length != n) {
+            throw new IllegalArgumentException("All workload columns must have the same length.");
+        }
+        if (ioBursts != null) {
+            if (ioBursts.size() != n) {
+                throw new IllegalArgumentException("There must be one burst sequence per process.");
+            }
+            for (int row = 0; row < n; row++) {
+                long cpuTime = ioBursts.cpuTime(row);
+                if (cpuTime >= 0 && cpuTime != burstTimes[row]) {
+                    throw new IllegalArgumentException("The burst time of process " + processIds[row]
+                            + " is not the sum of its CPU bursts.");
+                }
+            }
+        }
+        this.processIds = processIds;
+        this.burstTimes = burstTimes;
+        this.priorities = priorities;
+        this.arrivalTimes = arrivalTimes;
+        this.ioBursts = ioBursts;
+    }
+
+    /**
+     * Copies a list of processes into primitive columns, keeping the list order.
+     * @param processes The processes to copy.
+     * @return A new Workload with one row per process.
+     */
+    public static Workload of(List<Process> processes) {
+        int n = processes.size();
+        int[] ids = new int[n];
+        int[] bursts = new int[n];
+        int[] priorities = new int[n];
+        int[] arrivals = new int[n];
+        int i = 0;
+        for (Process p : processes) {
+            ids[i] = p.getProcessId();
+            bursts[i] = p.getBurstTime();
+            priorities[i] = p.getPriority();
+            arrivals[i] = p.getArrivalTime();
+            i++;
+        }
+        return new Workload(ids, bursts, priorities, arrivals, null, true);
+    }
+
+    public int size() {
+        return processIds.length;
+    }
+
+    public int processId(int row) {
+        return processIds[row];
+    }
+
+    public int burstTime(int row) {
+        return burstTimes[row];
+    }
+
+    public int priority(int row) {
+        return priorities[row];
+    }
+
+    public int arrivalTime(int row) {
+        return arrivalTimes[row];
+    }
+
+    /**
+     * Tells whether any process alternates CPU and I/O bursts.
+     */
+    public boolean hasIoBursts() {
+        return ioBursts != null;
+    }
+
+    /**
+     * Gets the CPU and I/O burst sequences.
+     * @return The sequences, or null if every process is a single CPU burst.
+     */
+    public IoBursts ioBursts() {
+        return ioBursts;
+    }
+
+    /**
+     * Gets the processes that arrive first, as a smaller workload for a quick partial run.
+     * Processes keep their relative row order, so ties are broken as in the full workload.
+     * @param count The number of processes to keep.
+     * @return A workload of the count earliest arrivals, or this workload if it has no more.
+     */
+    public Workload earliestArrivals(int count) {
+        int n = size();
+        if (count >= n) {
+            return this;
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("Process count cannot be negative.");
+        }
+        int[] rows = Arrays.copyOf(sortedRows(arrivalTimes), count);
+        Arrays.sort(rows);
+        int[] ids = new int[count];
+        int[] bursts = new int[count];
+        int[] prios = new int[count];
+        int[] arrivals = new int[count];
+        for (int i = 0; i < count; i++) {
+            int row = rows[i];
+            ids[i] = processIds[row];
+            bursts[i] = burstTimes[row];
+            prios[i] = priorities[row];
+            arrivals[i] = arrivalTimes[row];
+        }
+        return new Workload(ids, bursts, prios, arrivals, ioBursts == null ? null : ioBursts.select(rows), true);
+    }
+
+    /**
+     * Orders rows by ascending key, keeping row order for equal keys (the same result as
+     * a stable List.sort). Each (key, row) pair is packed into one long so a primitive sort
+     * can be used.
+     */
+    static int[] sortedRows(int[] keys) {
+        int n = keys.length;
+        long[] packed = new long[n];
+        for (int i = 0; i < n; i++) {
+            packed[i] = ((long) keys[i] << 32) | i;
+        }
+        Arrays.sort(packed);
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = (int) packed[i];
+        }
+        return order;
+    }
+}
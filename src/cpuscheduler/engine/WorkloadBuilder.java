@@ -0,0 +1,91 @@
+package cpuscheduler.engine;
+
+import java.util.Arrays;
+
+/**
+ * Collects processes into growable primitive columns, for callers that do not know the
+ * process count up front (the GUI queue, trace loaders). Costs 16 bytes per process
+ * plus the spare capacity, instead of one object per process.
+ */
+public final class WorkloadBuilder {
+    private int[] processIds;
+    private int[] burstTimes;
+    private int[] priorities;
+    private int[] arrivalTimes;
+    private int size;
+
+    public WorkloadBuilder() {
+        this(16);
+    }
+
+    public WorkloadBuilder(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        processIds = new int[capacity];
+        burstTimes = new int[capacity];
+        priorities = new int[capacity];
+        arrivalTimes = new int[capacity];
+    }
+
+    /**
+     * Appends a process as the next row.
+     * @param processId The process id.
+     * @param burstTime The CPU time the process needs.
+     * @param priority The priority; smaller runs first.
+     * @param arrivalTime The time the process becomes ready.
+     */
+    public void add(int processId, int burstTime, int priority, int arrivalTime) {
+        if (size == processIds.length) {
+            grow();
+        }
+        processIds[size] = processId;
+        burstTimes[size] = burstTime;
+        priorities[size] = priority;
+        arrivalTimes[size] = arrivalTime;
+        size++;
+    }
+
+    private void grow() {
+        // Grow by half rather than doubling so a huge trace does not overshoot the heap
+        int capacity = processIds.length + Math.max(16, processIds.length >> 1);
+        if (capacity < 0) {
+            throw new OutOfMemoryError("Workload exceeds the maximum array size.");
+        }
+        processIds = Arrays.copyOf(processIds, capacity);
+        burstTimes = Arrays.copyOf(burstTimes, capacity);
+        priorities = Arrays.copyOf(priorities, capacity);
+        arrivalTimes = Arrays.copyOf(arrivalTimes, capacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int processId(int row) {
+        return processIds[row];
+    }
+
+    public int burstTime(int row) {
+        return burstTimes[row];
+    }
+
+    public int priority(int row) {
+        return priorities[row];
+    }
+
+    public int arrivalTime(int row) {
+        return arrivalTimes[row];
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Copies the rows added so far into an immutable workload; the builder stays usable.
+     * @return A new Workload with one row per added process.
+     */
+    public Workload build() {
+        return new Workload(Arrays.copyOf(processIds, size), Arrays.copyOf(burstTimes, size),
+                Arrays.copyOf(priorities, size), Arrays.copyOf(arrivalTimes, size), null, true);
+    }
+}
@@ -0,0 +1,117 @@
+package cpuscheduler.generator;
+
+import cpuscheduler.engine.Workload;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * A random process of arrivals, described by the gaps between consecutive arrivals in time units.
+ * {@link WorkloadGenerator} draws the arrivals in independent stretches, one per chunk of
+ * processes, so that chunks can be generated in parallel.
+ */
+@FunctionalInterface
+public interface ArrivalProcess {
+    /**
+     * Starts an independent stretch of arrivals.
+     * @param random The stream of the stretch; only the returned supplier may use it.
+     * @return A supplier of consecutive gaps, each zero or more.
+     */
+    DoubleSupplier stretch(SplittableRandom random);
+
+    /**
+     * Arrivals at a constant rate with exponential gaps.
+     * @param rate The mean number of arrivals per time unit.
+     */
+    static ArrivalProcess poisson(double rate) {
+        if (!(rate > 0) || Double.isInfinite(rate)) {
+            throw new IllegalArgumentException("Arrival rate must be positive.");
+        }
+        return random -> () -> exponential(random, 1 / rate);
+    }
+
+    /**
+     * Bursty arrivals from a Markov-modulated Poisson process: the process stays in a state for an
+     * exponential time, arriving at that state's rate, then moves to one of the other states at
+     * random. A stretch starts in a state drawn with the probability an arrival sees it in, so
+     * each stretch is a representative sample, though consecutive stretches are independent.
+     * @param rates The arrival rate of each state; zero for an idle state.
+     * @param meanDwellTimes The mean time spent in each state per visit.
+     */
+    static ArrivalProcess mmpp(double[] rates, double[] meanDwellTimes) {
+        int states = rates.length;
+        if (states < 2 || meanDwellTimes.length != states) {
+            throw new IllegalArgumentException("An MMPP needs at least two states, each with a rate and a dwell time.");
+        }
+        double[] rateCopy = rates.clone();
+        double[] dwellCopy = meanDwellTimes.clone();
+        // Time in a state is proportional to its dwell time, arrivals to dwell time times rate
+        double[] entryWeights = new double[states];
+        double total = 0;
+        for (int i = 0; i < states; i++) {
+            if (!(rateCopy[i] >= 0) || !(dwellCopy[i] > 0) || Double.isInfinite(rateCopy[i] * dwellCopy[i])) {
+                throw new IllegalArgumentException("MMPP rates must be non-negative and dwell times positive.");
+            }
+            total += rateCopy[i] * dwellCopy[i];
+            entryWeights[i] = total;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("At least one MMPP state must have a positive rate.");
+        }
+        return random -> new DoubleSupplier() {
+            private int state = entryState(entryWeights, random.nextDouble() * entryWeights[states - 1]);
+            private double dwellLeft = exponential(random, dwellCopy[state]);
+
+            @Override
+            public double getAsDouble() {
+                double gap = 0;
+                while (true) {
+                    double next = rateCopy[state] == 0 ? Double.POSITIVE_INFINITY : exponential(random, 1 / rateCopy[state]);
+                    if (next < dwellLeft) {
+                        dwellLeft -= next;
+                        return gap + next;
+                    }
+                    // Gaps are memoryless, so the rest of this one is redrawn in the next state
+                    gap += dwellLeft;
+                    int other = random.nextInt(states - 1);
+                    state = other >= state ? other + 1 : other;
+                    dwellLeft = exponential(random, dwellCopy[state]);
+                }
+            }
+        };
+    }
+
+    /**
+     * Arrivals whose gaps are resampled from the gaps between consecutive arrivals of a trace.
+     * @param trace The recorded processes; at least two.
+     */
+    static ArrivalProcess empirical(Workload trace) {
+        int n = trace.size();
+        if (n < 2) {
+            throw new IllegalArgumentException("An empirical arrival process needs at least two arrivals.");
+        }
+        int[] arrivals = new int[n];
+        for (int row = 0; row < n; row++) {
+            arrivals[row] = trace.arrivalTime(row);
+        }
+        Arrays.sort(arrivals);
+        int[] gaps = new int[n - 1];
+        for (int i = 1; i < n; i++) {
+            gaps[i - 1] = arrivals[i] - arrivals[i - 1];
+        }
+        return random -> () -> gaps[random.nextInt(gaps.length)];
+    }
+
+    private static int entryState(double[] cumulativeWeights, double target) {
+        int state = 0;
+        while (state < cumulativeWeights.length - 1 && cumulativeWeights[state] <= target) {
+            state++;
+        }
+        return state;
+    }
+
+    private static double exponential(SplittableRandom random, double mean) {
+        return -Math.log(1 - random.nextDouble()) * mean;
+    }
+}
@@ -0,0 +1,90 @@
+package cpuscheduler.generator;
+
+import cpuscheduler.engine.Workload;
+
+import java.util.SplittableRandom;
+
+/**
+ * A random distribution of CPU burst times, in whole time units of at least one.
+ */
+@FunctionalInterface
+public interface BurstDistribution {
+    /**
+     * Draws one burst time.
+     * @param random The stream to draw from.
+     * @return A burst time of at least 1.
+     */
+    int sample(SplittableRandom random);
+
+    /**
+     * Burst times that are all the same.
+     */
+    static BurstDistribution fixed(int burstTime) {
+        if (burstTime <= 0) {
+            throw new IllegalArgumentException("Burst time must be positive.");
+        }
+        return _ -> burstTime;
+    }
+
+    /**
+     * Burst times drawn uniformly from a range.
+     * @param min The shortest burst, at least 1.
+     * @param max The longest burst, inclusive.
+     */
+    static BurstDistribution uniform(int min, int max) {
+        if (min <= 0 || max < min) {
+            throw new IllegalArgumentException("Burst range must be positive and increasing.");
+        }
+        return random -> min + (int) random.nextLong(max - min + 1L);
+    }
+
+    /**
+     * Exponential burst times, rounded up to whole time units.
+     * @param mean The mean before rounding.
+     */
+    static BurstDistribution exponential(double mean) {
+        if (!(mean > 0) || mean >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Mean burst time must be positive.");
+        }
+        return random -> clamp(Math.ceil(-Math.log(1 - random.nextDouble()) * mean), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Heavy-tailed Pareto burst times: most bursts are near the minimum, a few are very long. The
+     * tail is cut at a maximum so that one process cannot outlast the simulation clock.
+     * @param shape The tail index; 1 to 2 gives the heavy tails seen in real CPU bursts.
+     * @param min The shortest burst, at least 1.
+     * @param max The longest burst.
+     */
+    static BurstDistribution pareto(double shape, int min, int max) {
+        if (!(shape > 0) || min <= 0 || max < min) {
+            throw new IllegalArgumentException("Pareto shape must be positive and its range positive and increasing.");
+        }
+        // Inverse transform of the Pareto distribution truncated to [min, max]
+        double tailAtMax = Math.pow((double) min / max, shape);
+        return random -> {
+            double u = random.nextDouble() * (1 - tailAtMax);
+            return clamp(Math.floor(min / Math.pow(1 - u, 1 / shape)), max);
+        };
+    }
+
+    /**
+     * Burst times resampled from those of a trace.
+     * @param trace The recorded processes; at least one.
+     */
+    static BurstDistribution empirical(Workload trace) {
+        int n = trace.size();
+        if (n == 0) {
+            throw new IllegalArgumentException("An empirical burst distribution needs at least one process.");
+        }
+        int[] bursts = new int[n];
+        for (int row = 0; row < n; row++) {
+            bursts[row] = Math.max(1, trace.burstTime(row));
+        }
+        return random -> bursts[random.nextInt(n)];
+    }
+
+    private static int clamp(double value, int max) {
+        return (int) Math.max(1, Math.min(value, max));
+    }
+}
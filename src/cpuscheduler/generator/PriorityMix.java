@@ -0,0 +1,90 @@
+package cpuscheduler.generator;
+
+import java.util.SplittableRandom;
+
+/**
+ * A discrete distribution of process priorities, such as a few interactive processes at a high
+ * priority among many batch ones. Smaller priorities run first, as everywhere in the simulator.
+ */
+public final class PriorityMix {
+    private final int[] priorities;
+    // Cumulative weights, so a draw is a binary search
+    private final double[] cumulativeWeights;
+
+    private PriorityMix(int[] priorities, double[] cumulativeWeights) {
+        this.priorities = priorities;
+        this.cumulativeWeights = cumulativeWeights;
+    }
+
+    /**
+     * Gives every process the same priority.
+     */
+    public static PriorityMix constant(int priority) {
+        return new PriorityMix(new int[]{priority}, new double[]{1});
+    }
+
+    /**
+     * Draws priorities uniformly from a range.
+     * @param lowest The smallest priority.
+     * @param highest The largest priority, inclusive.
+     */
+    public static PriorityMix uniform(int lowest, int highest) {
+        if (highest < lowest || (long) highest - lowest >= 1 << 20) {
+            throw new IllegalArgumentException("Priority range must be increasing and span at most 2^20 values.");
+        }
+        int[] priorities = new int[highest - lowest + 1];
+        double[] weights = new double[priorities.length];
+        for (int i = 0; i < priorities.length; i++) {
+            priorities[i] = lowest + i;
+            weights[i] = 1;
+        }
+        return weighted(priorities, weights);
+    }
+
+    /**
+     * Draws each priority with a probability proportional to its weight.
+     * @param priorities The priorities.
+     * @param weights One non-negative weight per priority, not all zero.
+     */
+    public static PriorityMix weighted(int[] priorities, double[] weights) {
+        if (priorities.length == 0 || weights.length != priorities.length) {
+            throw new IllegalArgumentException("Every priority needs a weight.");
+        }
+        double[] cumulative = new double[weights.length];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (!(weights[i] >= 0) || Double.isInfinite(weights[i])) {
+                throw new IllegalArgumentException("Priority weights must be finite and non-negative.");
+            }
+            total += weights[i];
+            cumulative[i] = total;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("At least one priority weight must be positive.");
+        }
+        return new PriorityMix(priorities.clone(), cumulative);
+    }
+
+    /**
+     * Draws one priority.
+     */
+    public int sample(SplittableRandom random) {
+        if (priorities.length == 1) {
+            return priorities[0];
+        }
+        double target = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        // The first priority whose cumulative weight exceeds the target; zero weights are never chosen
+        int low = 0;
+        int high = priorities.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulativeWeights[mid] > target) {
+                high = mid;
+            }
+            else {
+                low = mid + 1;
+            }
+        }
+        return priorities[low];
+    }
+}
@@ -0,0 +1,256 @@
+package cpuscheduler.generator;
+
+import cpuscheduler.engine.IoBursts;
+import cpuscheduler.engine.Workload;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Generates synthetic workloads for stress tests: arrivals from an {@link ArrivalProcess}, burst
+ * times from a {@link BurstDistribution} and priorities from a {@link PriorityMix}. Process ids run
+ * from 1 and the first process arrives at time 0. With {@link #withIo(int, BurstDistribution)},
+ * processes alternate CPU bursts from the burst distribution with I/O bursts.
+ *
+ * <p>Processes are generated in parallel, straight into the workload columns, in fixed chunks of
+ * {@link #CHUNK_SIZE} rows. Every chunk has its own random streams, split from the seed in chunk
+ * order, so a seed gives the same workload on any pool and any number of threads. Arrival times
+ * take two passes: the first sums the gaps of every chunk, the second replays the chunk's arrival
+ * stream from the offset of the chunks before it.
+ *
+ * <p>A generator is immutable and can be shared between threads.
+ */
+public final class WorkloadGenerator {
+    /**
+     * The number of processes generated from one set of random streams.
+     */
+    public static final int CHUNK_SIZE = 1 << 16;
+
+    private static final int PROCESS_ID = 0;
+    private static final int BURST = 1;
+    private static final int PRIORITY = 2;
+    private static final int ARRIVAL = 3;
+
+    private final ArrivalProcess arrivals;
+    private final BurstDistribution bursts;
+    private final PriorityMix priorities;
+    // At most this many CPU bursts per process, separated by I/O bursts; 1 for no I/O
+    private final int maxCpuBursts;
+    private final BurstDistribution ioBursts;
+
+    /**
+     * @param arrivals The arrival process.
+     * @param bursts The burst time distribution.
+     * @param priorities The priority mix.
+     */
+    public WorkloadGenerator(ArrivalProcess arrivals, BurstDistribution bursts, PriorityMix priorities) {
+        this(arrivals, bursts, priorities, 1, null);
+    }
+
+    private WorkloadGenerator(ArrivalProcess arrivals, BurstDistribution bursts, PriorityMix priorities,
+                              int maxCpuBursts, BurstDistribution ioBursts) {
+        this.arrivals = arrivals;
+        this.bursts = bursts;
+        this.priorities = priorities;
+        this.maxCpuBursts = maxCpuBursts;
+        this.ioBursts = ioBursts;
+    }
+
+    public WorkloadGenerator withArrivals(ArrivalProcess arrivals) {
+        return new WorkloadGenerator(arrivals, bursts, priorities, maxCpuBursts, ioBursts);
+    }
+
+    public WorkloadGenerator withBursts(BurstDistribution bursts) {
+        return new WorkloadGenerator(arrivals, bursts, priorities, maxCpuBursts, ioBursts);
+    }
+
+    public WorkloadGenerator withPriorities(PriorityMix priorities) {
+        return new WorkloadGenerator(arrivals, bursts, priorities, maxCpuBursts, ioBursts);
+    }
+
+    /**
+     * Returns a generator whose processes alternate CPU and I/O bursts. Each process gets between
+     * 1 and maxCpuBursts CPU bursts, uniformly, with an I/O burst between every two.
+     * @param maxCpuBursts The most CPU bursts of one process; 1 turns I/O off.
+     * @param ioBursts The distribution of I/O burst times.
+     * @return A generator with this I/O model.
+     */
+    public WorkloadGenerator withIo(int maxCpuBursts, BurstDistribution ioBursts) {
+        if (maxCpuBursts <= 0) {
+            throw new IllegalArgumentException("A process needs at least one CPU burst.");
+        }
+        if (maxCpuBursts > 1 && ioBursts == null) {
+            throw new IllegalArgumentException("I/O bursts need a distribution.");
+        }
+        return new WorkloadGenerator(arrivals, bursts, priorities, maxCpuBursts, maxCpuBursts == 1 ? null : ioBursts);
+    }
+
+    /**
+     * Generates a workload on the common fork-join pool, which uses every core.
+     * @param count The number of processes.
+     * @param seed The seed; the same seed gives the same workload.
+     * @return The workload, in arrival order.
+     * @throws IllegalArgumentException If the arrivals run past the largest time an int can hold.
+     */
+    public Workload generate(int count, long seed) {
+        return generate(count, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Generates a workload on the given pool.
+     * @param count The number of processes.
+     * @param seed The seed; the same seed gives the same workload.
+     * @param pool The pool that generates the chunks.
+     * @return The workload, in arrival order.
+     * @throws IllegalArgumentException If the arrivals run past the largest time an int can hold.
+     */
+    public Workload generate(int count, long seed, ForkJoinPool pool) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Process count cannot be negative.");
+        }
+        int chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        // Split sequentially, so chunk c always gets the same streams
+        SplittableRandom root = new SplittableRandom(seed);
+        long[] arrivalSeeds = new long[chunks];
+        long[] attributeSeeds = new long[chunks];
+        for (int c = 0; c < chunks; c++) {
+            SplittableRandom chunk = root.split();
+            arrivalSeeds[c] = chunk.nextLong();
+            attributeSeeds[c] = chunk.nextLong();
+        }
+
+        double[] offsets = new double[chunks];
+        pool.invoke(new SpanTask(arrivalSeeds, offsets, count, 0, chunks));
+        double time = 0;
+        for (int c = 0; c < chunks; c++) {
+            double span = offsets[c];
+            offsets[c] = time;
+            time += span;
+        }
+
+        int[][] columns = new int[4][count];
+        IoBursts[] ioParts = ioBursts == null ? null : new IoBursts[chunks];
+        pool.invoke(new FillTask(arrivalSeeds, attributeSeeds, offsets, columns, ioParts, count, 0, chunks));
+        if (count > 0 && columns[ARRIVAL][count - 1] < 0) {
+            throw new IllegalArgumentException(
+                    "Arrivals run past the largest simulation time; generate fewer processes or raise the arrival rate.");
+        }
+        return new Workload(columns[PROCESS_ID], columns[BURST], columns[PRIORITY], columns[ARRIVAL],
+                ioParts == null ? null : IoBursts.concat(ioParts));
+    }
+
+    private static int chunkLength(int chunk, int count) {
+        return Math.min(CHUNK_SIZE, count - chunk * CHUNK_SIZE);
+    }
+
+    /**
+     * Sums the gaps of each chunk's arrivals, the time the chunk spans.
+     */
+    private final class SpanTask extends RecursiveAction {
+        private final long[] arrivalSeeds;
+        private final double[] spans;
+        private final int count;
+        private final int from;
+        private final int to;
+
+        SpanTask(long[] arrivalSeeds, double[] spans, int count, int from, int to) {
+            this.arrivalSeeds = arrivalSeeds;
+            this.spans = spans;
+            this.count = count;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                for (int c = from; c < to; c++) {
+                    DoubleSupplier gaps = arrivals.stretch(new SplittableRandom(arrivalSeeds[c]));
+                    double span = 0;
+                    for (int i = chunkLength(c, count); i > 0; i--) {
+                        span += gaps.getAsDouble();
+                    }
+                    spans[c] = span;
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SpanTask(arrivalSeeds, spans, count, from, mid),
+                    new SpanTask(arrivalSeeds, spans, count, mid, to));
+        }
+    }
+
+    /**
+     * Writes the rows of each chunk, replaying its arrival stream from the chunk's offset.
+     */
+    private final class FillTask extends RecursiveAction {
+        private final long[] arrivalSeeds;
+        private final long[] attributeSeeds;
+        private final double[] offsets;
+        private final int[][] columns;
+        // One part per chunk, joined once every chunk is done; null without I/O
+        private final IoBursts[] ioParts;
+        private final int count;
+        private final int from;
+        private final int to;
+
+        FillTask(long[] arrivalSeeds, long[] attributeSeeds, double[] offsets, int[][] columns,
+                 IoBursts[] ioParts, int count, int from, int to) {
+            this.arrivalSeeds = arrivalSeeds;
+            this.attributeSeeds = attributeSeeds;
+            this.offsets = offsets;
+            this.columns = columns;
+            this.ioParts = ioParts;
+            this.count = count;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                for (int c = from; c < to; c++) {
+                    fill(c);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new FillTask(arrivalSeeds, attributeSeeds, offsets, columns, ioParts, count, from, mid),
+                    new FillTask(arrivalSeeds, attributeSeeds, offsets, columns, ioParts, count, mid, to));
+        }
+
+        private void fill(int chunk) {
+            int[] processIds = columns[PROCESS_ID];
+            int[] burstTimes = columns[BURST];
+            int[] priorityColumn = columns[PRIORITY];
+            int[] arrivalTimes = columns[ARRIVAL];
+            DoubleSupplier gaps = arrivals.stretch(new SplittableRandom(arrivalSeeds[chunk]));
+            SplittableRandom random = new SplittableRandom(attributeSeeds[chunk]);
+            double time = offsets[chunk];
+            int start = chunk * CHUNK_SIZE;
+            int end = start + chunkLength(chunk, count);
+            IoBursts.Builder sequences = ioParts == null ? null : new IoBursts.Builder(end - start);
+            for (int row = start; row < end; row++) {
+                // Past the int range the arrival is marked negative for generate() to report
+                arrivalTimes[row] = time < Integer.MAX_VALUE ? (int) time : -1;
+                time += gaps.getAsDouble();
+                processIds[row] = row + 1;
+                burstTimes[row] = sequences == null ? bursts.sample(random) : sequences.add(sequence(random));
+                priorityColumn[row] = priorities.sample(random);
+            }
+            if (sequences != null) {
+                ioParts[chunk] = sequences.build();
+            }
+        }
+
+        private int[] sequence(SplittableRandom random) {
+            int[] sequence = new int[2 * (1 + random.nextInt(maxCpuBursts)) - 1];
+            for (int i = 0; i < sequence.length; i++) {
+                sequence[i] = (i % 2 == 0 ? bursts : ioBursts).sample(random);
+            }
+            return sequence;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package cpuscheduler.gui;
+
+import cpuscheduler.GanttChart;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+
+/**
+ * Draws a {@link GanttChart} for the visible time window only. Every pixel column is resolved
+ * to the slice running at that instant with a binary search, and neighbouring columns showing
+ * the same slice are merged into one bar, so painting costs O(width * log slices) whatever the
+ * workload size. When zoomed out, slices narrower than a pixel are represented by the slice
+ * sampled at that column (level of detail), and labels are only drawn on bars wide enough to hold them.
+ *
+ * <p>Mouse wheel zooms around the cursor, dragging pans, double-click fits the whole chart.
+ */
+public class GanttCanvas extends JComponent {
+    private static final int BAR_TOP = 8;
+    private static final int BAR_HEIGHT = 28;
+    private static final int AXIS_HEIGHT = 20;
+    private static final int MIN_LABEL_WIDTH = 36;
+    private static final Color IDLE_COLOR = new Color(235, 235, 235);
+
+    private GanttChart gantt;
+    // Visible window: the time at x = 0 and how much time one pixel covers
+    private double viewStart;
+    private double timePerPixel = 1;
+    private int dragX;
+
+    public GanttCanvas() {
+        setPreferredSize(new Dimension(700, BAR_TOP + BAR_HEIGHT + AXIS_HEIGHT + 8));
+        setOpaque(true);
+        setBackground(Color.WHITE);
+        setToolTipText("");
+
+        MouseAdapter mouse = new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                dragX = e.getX();
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                viewStart -= (e.getX() - dragX) * timePerPixel;
+                dragX = e.getX();
+                clampView();
+                repaint();
+            }
+
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                double anchor = viewStart + e.getX() * timePerPixel;
+                timePerPixel *= Math.pow(1.25, e.getPreciseWheelRotation());
+                timePerPixel = Math.max(timePerPixel, 1.0 / 64);
+                viewStart = anchor - e.getX() * timePerPixel;
+                clampView();
+                repaint();
+            }
+
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2) {
+                    fitAll();
+                }
+            }
+        };
+        addMouseListener(mouse);
+        addMouseMotionListener(mouse);
+        addMouseWheelListener(mouse);
+    }
+
+    /**
+     * Shows a chart, zoomed to fit.
+     * @param gantt The chart to draw, or null to clear.
+     */
+    public void setGantt(GanttChart gantt) {
+        this.gantt = gantt;
+        fitAll();
+    }
+
+    /**
+     * Zooms out so the whole chart fits the current width.
+     */
+    public void fitAll() {
+        viewStart = 0;
+        int width = Math.max(1, getWidth());
+        timePerPixel = gantt == null || gantt.size() == 0 ? 1 : Math.max(1.0 / 64, (double) endTime() / width);
+        repaint();
+    }
+
+    private int endTime() {
+        return gantt.end(gantt.size() - 1);
+    }
+
+    private void clampView() {
+        if (gantt == null || gantt.size() == 0) {
+            viewStart = 0;
+            return;
+        }
+        viewStart = Math.max(0, Math.min(viewStart, endTime() - timePerPixel));
+    }
+
+    /**
+     * Gets the slice running at a time, or -1 if the CPU was idle.
+     */
+    private int sliceAt(double time) {
+        int index = gantt.firstSliceEndingAfter(time);
+        return index < gantt.size() && gantt.start(index) <= time ? index : -1;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        g.setColor(getBackground());
+        g.fillRect(0, 0, getWidth(), getHeight());
+        if (gantt == null || gantt.size() == 0) {
+            return;
+        }
+        Graphics2D g2 = (Graphics2D) g;
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        FontMetrics metrics = g2.getFontMetrics();
+        int width = getWidth();
+        int end = endTime();
+
+        int runStart = 0;
+        int runSlice = Integer.MIN_VALUE;
+        for (int x = 0; x <= width; x++) {
+            double time = viewStart + (x + 0.5) * timePerPixel;
+            int slice = x == width || time >= end ? Integer.MAX_VALUE : sliceAt(time);
+            if (slice != runSlice) {
+                if (runSlice != Integer.MIN_VALUE && runSlice != Integer.MAX_VALUE) {
+                    paintBar(g2, metrics, runSlice, runStart, x - runStart);
+                }
+                runSlice = slice;
+                runStart = x;
+            }
+        }
+        paintAxis(g2, metrics, width);
+    }
+
+    private void paintBar(Graphics2D g2, FontMetrics metrics, int slice, int x, int width) {
+        if (slice < 0) {
+            g2.setColor(IDLE_COLOR);
+            g2.fillRect(x, BAR_TOP, width, BAR_HEIGHT);
+            return;
+        }
+        int processId = gantt.processId(slice);
+        g2.setColor(colorOf(processId));
+        g2.fillRect(x, BAR_TOP, width, BAR_HEIGHT);
+        if (width >= 4) {
+            g2.setColor(Color.DARK_GRAY);
+            g2.drawRect(x, BAR_TOP, width - 1, BAR_HEIGHT - 1);
+        }
+        if (width >= MIN_LABEL_WIDTH) {
+            String label = "P" + processId;
+            if (metrics.stringWidth(label) + 4 <= width) {
+                g2.setColor(Color.BLACK);
+                g2.drawString(label, x + (width - metrics.stringWidth(label)) / 2,
+                        BAR_TOP + (BAR_HEIGHT + metrics.getAscent()) / 2 - 2);
+            }
+        }
+    }
+
+    private void paintAxis(Graphics2D g2, FontMetrics metrics, int width) {
+        int y = BAR_TOP + BAR_HEIGHT;
+        g2.setColor(Color.GRAY);
+        g2.drawLine(0, y, width, y);
+        // A tick roughly every 80 pixels, on a 1/2/5 step
+        double rawStep = 80 * timePerPixel;
+        double magnitude = Math.pow(10, Math.floor(Math.log10(Math.max(rawStep, 1))));
+        double step = rawStep <= magnitude ? magnitude : rawStep <= 2 * magnitude ? 2 * magnitude
+                : rawStep <= 5 * magnitude ? 5 * magnitude : 10 * magnitude;
+        step = Math.max(1, step);
+        double first = Math.ceil(viewStart / step) * step;
+        for (double t = first; t <= viewStart + width * timePerPixel; t += step) {
+            int x = (int) ((t - viewStart) / timePerPixel);
+            g2.drawLine(x, y, x, y + 4);
+            g2.drawString(Long.toString((long) t), x + 2, y + 4 + metrics.getAscent());
+        }
+    }
+
+    @Override
+    public String getToolTipText(MouseEvent e) {
+        if (gantt == null || gantt.size() == 0) {
+            return null;
+        }
+        int slice = sliceAt(viewStart + (e.getX() + 0.5) * timePerPixel);
+        if (slice < 0) {
+            return "Idle";
+        }
+        return "P" + gantt.processId(slice) + ": " + gantt.start(slice) + " - " + gantt.end(slice);
+    }
+
+    private static Color colorOf(int processId) {
+        // Golden-ratio hue spacing keeps neighbouring ids visually distinct
+        float hue = (float) ((processId * 0.618033988749895) % 1.0);
+        return Color.getHSBColor(hue, 0.45f, 0.95f);
+    }
+}
@@ -0,0 +1,67 @@
+package cpuscheduler.gui;
+
+import cpuscheduler.Process;
+import cpuscheduler.engine.EngineResult;
+import cpuscheduler.engine.Workload;
+
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * A table model that reads cells straight from the columns of an {@link EngineResult}.
+ * No row objects are created: the JTable only asks for the cells it is painting, and each
+ * one is a couple of array reads. Rows are listed in completion order.
+ */
+public class ResultTableModel extends AbstractTableModel {
+    private static final String[] COLUMN_NAMES = {
+            "P.ID", "Priority", "Burst", "Arrival", "Start", "Completion", "Response", "Waiting", "Turnaround", "State"
+    };
+
+    private EngineResult result;
+
+    /**
+     * Shows a new result. Every row is visible at once: the table only reads the rows it paints.
+     * @param result The result to show, or null to clear the table.
+     */
+    public void setResult(EngineResult result) {
+        this.result = result;
+        fireTableDataChanged();
+    }
+
+    @Override
+    public int getRowCount() {
+        return result == null ? 0 : result.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMN_NAMES.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMN_NAMES[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return column == COLUMN_NAMES.length - 1 ? String.class : Integer.class;
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        int row = result.completedRow(rowIndex);
+        Workload workload = result.workload();
+        return switch (columnIndex) {
+            case 0 -> workload.processId(row);
+            case 1 -> workload.priority(row);
+            case 2 -> workload.burstTime(row);
+            case 3 -> workload.arrivalTime(row);
+            case 4 -> result.startTime(row);
+            case 5 -> result.completionTime(row);
+            case 6 -> result.responseTime(row);
+            case 7 -> result.waitingTime(row);
+            case 8 -> result.turnaroundTime(row);
+            default -> Process.TERMINATED;
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package cpuscheduler.gui;
+
+import cpuscheduler.engine.WorkloadBuilder;
+
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * A table model over the columns of a {@link WorkloadBuilder}, so a queue loaded from a trace
+ * with millions of processes costs no more to show than the rows on screen.
+ */
+public class WorkloadTableModel extends AbstractTableModel {
+    private static final String[] COLUMN_NAMES = {"ID", "Burst Time", "Priority", "Arrival Time"};
+
+    private WorkloadBuilder processes;
+
+    public WorkloadTableModel(WorkloadBuilder processes) {
+        this.processes = processes;
+    }
+
+    /**
+     * Shows a different set of processes.
+     * @param processes The processes to show.
+     */
+    public void setProcesses(WorkloadBuilder processes) {
+        this.processes = processes;
+        fireTableDataChanged();
+    }
+
+    /**
+     * Tells the table that a process was appended to the builder.
+     */
+    public void processAdded() {
+        int row = processes.size() - 1;
+        fireTableRowsInserted(row, row);
+    }
+
+    @Override
+    public int getRowCount() {
+        return processes.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMN_NAMES.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMN_NAMES[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return Integer.class;
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        return switch (columnIndex) {
+            case 0 -> processes.processId(rowIndex);
+            case 1 -> processes.burstTime(rowIndex);
+            case 2 -> processes.priority(rowIndex);
+            default -> processes.arrivalTime(rowIndex);
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package cpuscheduler.io;
+
+import java.nio.ByteOrder;
+
+/**
+ * Layout of the binary trace format: a 16-byte header (magic, version, record count) followed
+ * by fixed 16-byte records of pid, arrival, burst and priority, all little-endian ints.
+ * Fixed-size records let a reader map any window of the file and index it directly.
+ */
+final class BinaryTraceFormat {
+    // "CPUT" read as a little-endian int
+    static final int MAGIC = 0x54555043;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int RECORD_BYTES = 16;
+    static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private BinaryTraceFormat() {
+    }
+}
@@ -0,0 +1,16 @@
+package cpuscheduler.io;
+
+/**
+ * Receives process records one at a time as a trace file is read, without boxing them.
+ */
+@FunctionalInterface
+public interface ProcessRecordSink {
+    /**
+     * Accepts the next record of the trace, in file order.
+     * @param processId The process id.
+     * @param arrivalTime The time the process becomes ready.
+     * @param burstTime The CPU time the process needs.
+     * @param priority The priority; smaller runs first.
+     */
+    void accept(int processId, int arrivalTime, int burstTime, int priority);
+}
@@ -0,0 +1,75 @@
+package cpuscheduler.io;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Layout of the result file written by {@link ResultFileWriter}.
+ *
+ * <pre>
+ * header   magic, version, 8 reserved bytes
+ * blocks   completion and slice blocks, interleaved in the order they filled up
+ * footer   run name, averages, counts and the offset and length of every block
+ * trailer  footer offset (long), magic
+ * </pre>
+ *
+ * A block holds up to {@link #BLOCK_RECORDS} records stored column by column. Each column is
+ * delta-encoded against the previous record and written as zigzag varints, so the mostly
+ * increasing times of a run take one or two bytes each.
+ *
+ * <p>The waiting time is stored rather than derived from turnaround and burst, since it leaves
+ * out the time a process spent blocked on I/O.
+ */
+final class ResultFileFormat {
+    // "CPUR" read as a little-endian int
+    static final int MAGIC = 0x52555043;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int TRAILER_BYTES = 12;
+    static final int BLOCK_RECORDS = 1 << 16;
+    static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    // Completion columns: pid, arrival, burst, completion, response, waiting
+    static final int COMPLETION_COLUMNS = 6;
+    // Slice columns: pid, start, length
+    static final int SLICE_COLUMNS = 3;
+
+    private ResultFileFormat() {
+    }
+
+    /**
+     * Writes a column of a block as zigzag varints of the differences between neighbours.
+     */
+    static void putDeltas(ByteBuffer out, int[] column, int count) {
+        int previous = 0;
+        for (int i = 0; i < count; i++) {
+            int delta = column[i] - previous;
+            previous = column[i];
+            int zigzag = (delta << 1) ^ (delta >> 31);
+            while ((zigzag & ~0x7F) != 0) {
+                out.put((byte) ((zigzag & 0x7F) | 0x80));
+                zigzag >>>= 7;
+            }
+            out.put((byte) zigzag);
+        }
+    }
+
+    /**
+     * Reads a column written by {@link #putDeltas}.
+     */
+    static void getDeltas(ByteBuffer in, int[] column, int count) {
+        int previous = 0;
+        for (int i = 0; i < count; i++) {
+            int zigzag = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = in.get();
+                zigzag |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            previous += (zigzag >>> 1) ^ -(zigzag & 1);
+            column[i] = previous;
+        }
+    }
+}
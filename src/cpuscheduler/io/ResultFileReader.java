@@ -0,0 +1,264 @@
+package cpuscheduler.io;
+
+import cpuscheduler.GanttChart;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Re-opens a file written by {@link ResultFileWriter} without re-running the simulation.
+ * Only the footer is read up front; a block is memory-mapped and decoded the first time one
+ * of its records is asked for, and the most recently decoded block of each kind is kept, so
+ * scanning in order decodes every block once.
+ *
+ * <p>Processes are indexed in the order they terminated and slices in the order they ran.
+ * A reader is not thread-safe.
+ */
+public final class ResultFileReader implements AutoCloseable {
+    private final Path path;
+    private final FileChannel channel;
+
+    private final String algorithmName;
+    private final double averageWaitingTime;
+    private final double averageTurnaroundTime;
+    private final double averageResponseTime;
+    private final long contextSwitches;
+    private final long processCount;
+    private final long sliceCount;
+
+    private final Blocks completions;
+    private final Blocks slices;
+
+    private ResultFileReader(Path path) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < ResultFileFormat.HEADER_BYTES + ResultFileFormat.TRAILER_BYTES) {
+                throw new IOException(path + " is too short to be a result file.");
+            }
+            ByteBuffer trailer = readFully(size - ResultFileFormat.TRAILER_BYTES, ResultFileFormat.TRAILER_BYTES);
+            ByteBuffer header = readFully(0, ResultFileFormat.HEADER_BYTES);
+            if (trailer.getInt(8) != ResultFileFormat.MAGIC || header.getInt(0) != ResultFileFormat.MAGIC) {
+                throw new IOException(path + " is not a result file, or it was not closed.");
+            }
+            if (header.getInt(4) != ResultFileFormat.VERSION) {
+                throw new IOException(path + ": unsupported result file version " + header.getInt(4) + ".");
+            }
+            long footerOffset = trailer.getLong(0);
+            ByteBuffer footer = channel.map(FileChannel.MapMode.READ_ONLY, footerOffset,
+                    size - ResultFileFormat.TRAILER_BYTES - footerOffset).order(ResultFileFormat.ORDER);
+            byte[] name = new byte[footer.getInt()];
+            footer.get(name);
+            algorithmName = new String(name, StandardCharsets.UTF_8);
+            averageWaitingTime = footer.getDouble();
+            averageTurnaroundTime = footer.getDouble();
+            averageResponseTime = footer.getDouble();
+            contextSwitches = footer.getLong();
+            processCount = footer.getLong();
+            sliceCount = footer.getLong();
+            completions = new Blocks(footer, ResultFileFormat.COMPLETION_COLUMNS, processCount);
+            slices = new Blocks(footer, ResultFileFormat.SLICE_COLUMNS, sliceCount);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a result file.
+     * @param path A file written by {@link ResultFileWriter}.
+     * @return A reader that must be closed.
+     * @throws IOException If the file cannot be read or is not a complete result file.
+     */
+    public static ResultFileReader open(Path path) throws IOException {
+        return new ResultFileReader(path);
+    }
+
+    private ByteBuffer readFully(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ResultFileFormat.ORDER);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException(path + " ended unexpectedly.");
+            }
+        }
+        return buffer;
+    }
+
+    public String algorithmName() {
+        return algorithmName;
+    }
+
+    public double averageWaitingTime() {
+        return averageWaitingTime;
+    }
+
+    public double averageTurnaroundTime() {
+        return averageTurnaroundTime;
+    }
+
+    public double averageResponseTime() {
+        return averageResponseTime;
+    }
+
+    public long contextSwitches() {
+        return contextSwitches;
+    }
+
+    /**
+     * Gets the number of processes that terminated.
+     */
+    public long processCount() {
+        return processCount;
+    }
+
+    /**
+     * Gets the number of Gantt slices; 0 if the run did not trace dispatches.
+     */
+    public long sliceCount() {
+        return sliceCount;
+    }
+
+    public int processId(long position) {
+        return completions.get(0, position);
+    }
+
+    public int arrivalTime(long position) {
+        return completions.get(1, position);
+    }
+
+    public int burstTime(long position) {
+        return completions.get(2, position);
+    }
+
+    public int completionTime(long position) {
+        return completions.get(3, position);
+    }
+
+    public int responseTime(long position) {
+        return completions.get(4, position);
+    }
+
+    public int turnaroundTime(long position) {
+        return completionTime(position) - arrivalTime(position);
+    }
+
+    /**
+     * Gets the time a process spent ready but not running; time blocked on I/O is not waiting.
+     */
+    public int waitingTime(long position) {
+        return completions.get(5, position);
+    }
+
+    public int sliceProcessId(long slice) {
+        return slices.get(0, slice);
+    }
+
+    public int sliceStart(long slice) {
+        return slices.get(1, slice);
+    }
+
+    public int sliceEnd(long slice) {
+        return slices.get(1, slice) + slices.get(2, slice);
+    }
+
+    /**
+     * Loads every slice into a Gantt chart, e.g. for the GUI canvas.
+     * @return A new chart with all slices of the run.
+     */
+    public GanttChart gantt() {
+        GanttChart gantt = new GanttChart((int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, sliceCount)));
+        for (long slice = 0; slice < sliceCount; slice++) {
+            gantt.add(sliceProcessId(slice), sliceStart(slice), sliceEnd(slice));
+        }
+        return gantt;
+    }
+
+    /**
+     * Writes the per-process metrics as CSV, one line per process in completion order.
+     * @param csv The file to write, replaced if it exists.
+     * @throws IOException If the file cannot be written.
+     */
+    public void exportCsv(Path csv) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+            out.write("pid,arrival,burst,completion,response,turnaround,waiting\n");
+            StringBuilder line = new StringBuilder(64);
+            for (long position = 0; position < processCount; position++) {
+                line.setLength(0);
+                line.append(processId(position)).append(',')
+                        .append(arrivalTime(position)).append(',')
+                        .append(burstTime(position)).append(',')
+                        .append(completionTime(position)).append(',')
+                        .append(responseTime(position)).append(',')
+                        .append(turnaroundTime(position)).append(',')
+                        .append(waitingTime(position)).append('\n');
+                out.append(line);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * The blocks of one record kind, with the last decoded block cached.
+     */
+    private final class Blocks {
+        private final long[] offsets;
+        private final int[] lengths;
+        private final long recordCount;
+        private final int[][] decoded;
+        private int decodedBlock = -1;
+
+        Blocks(ByteBuffer footer, int columns, long recordCount) throws IOException {
+            int count = footer.getInt();
+            if (count != (recordCount + ResultFileFormat.BLOCK_RECORDS - 1) / ResultFileFormat.BLOCK_RECORDS) {
+                throw new IOException(path + ": block index does not match the record count.");
+            }
+            offsets = new long[count];
+            lengths = new int[count];
+            for (int i = 0; i < count; i++) {
+                offsets[i] = footer.getLong();
+                lengths[i] = footer.getInt();
+            }
+            this.recordCount = recordCount;
+            this.decoded = new int[columns][ResultFileFormat.BLOCK_RECORDS];
+        }
+
+        int get(int column, long record) {
+            if (record < 0 || record >= recordCount) {
+                throw new IndexOutOfBoundsException("Record " + record + " of " + recordCount + ".");
+            }
+            int block = (int) (record / ResultFileFormat.BLOCK_RECORDS);
+            if (block != decodedBlock) {
+                decode(block);
+            }
+            return decoded[column][(int) (record % ResultFileFormat.BLOCK_RECORDS)];
+        }
+
+        private void decode(int block) {
+            int count = (int) Math.min(ResultFileFormat.BLOCK_RECORDS,
+                    recordCount - (long) block * ResultFileFormat.BLOCK_RECORDS);
+            MappedByteBuffer data;
+            try {
+                data = channel.map(FileChannel.MapMode.READ_ONLY, offsets[block], lengths[block]);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            for (int[] column : decoded) {
+                ResultFileFormat.getDeltas(data, column, count);
+            }
+            decodedBlock = block;
+        }
+    }
+}
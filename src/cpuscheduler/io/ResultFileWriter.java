@@ -0,0 +1,233 @@
+package cpuscheduler.io;
+
+import cpuscheduler.GanttChart;
+import cpuscheduler.engine.EngineResult;
+import cpuscheduler.engine.Workload;
+import cpuscheduler.trace.TraceSink;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * A trace sink that streams a run's per-process metrics and Gantt slices to a compact
+ * columnar file while the run progresses. Only the block being filled is held in memory,
+ * so pairing it with a headless run keeps a 10M-process run's results off the heap.
+ * Read the file back with {@link ResultFileReader}.
+ */
+public final class ResultFileWriter implements TraceSink {
+    private final FileChannel channel;
+    private final ByteBuffer blockBuffer;
+
+    private final int[][] completions = new int[ResultFileFormat.COMPLETION_COLUMNS][ResultFileFormat.BLOCK_RECORDS];
+    private int pendingCompletions;
+    private long completionCount;
+    private final BlockIndex completionBlocks = new BlockIndex();
+
+    private final int[][] slices = new int[ResultFileFormat.SLICE_COLUMNS][ResultFileFormat.BLOCK_RECORDS];
+    private int pendingSlices;
+    private long sliceCount;
+    private final BlockIndex sliceBlocks = new BlockIndex();
+    private int lastSliceProcess = Integer.MIN_VALUE;
+    private long contextSwitches;
+
+    private String algorithmName = "";
+    private double averageWaitingTime;
+    private double averageTurnaroundTime;
+    private double averageResponseTime;
+
+    private long position;
+
+    private ResultFileWriter(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        // Worst case of 5 varint bytes per value
+        blockBuffer = ByteBuffer.allocate(5 * ResultFileFormat.COMPLETION_COLUMNS * ResultFileFormat.BLOCK_RECORDS)
+                .order(ResultFileFormat.ORDER);
+        blockBuffer.putInt(ResultFileFormat.MAGIC).putInt(ResultFileFormat.VERSION).putLong(0);
+        writeBuffer();
+    }
+
+    /**
+     * Opens a writer, replacing any existing file. Pass it as the trace of a run, then close it.
+     * @param path The file to write.
+     * @return A sink that must be closed to complete the file.
+     * @throws IOException If the file cannot be opened.
+     */
+    public static ResultFileWriter open(Path path) throws IOException {
+        return new ResultFileWriter(path);
+    }
+
+    /**
+     * Writes a finished result to a file, including its Gantt slices if the run recorded them.
+     * Each completion follows the slice that finished the process, as it does in a run, so a
+     * result with slices gives the same file as streaming the run itself.
+     * @param algorithmName The display name of the algorithm that produced the result.
+     * @param result The result to write.
+     * @param path The file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void write(String algorithmName, EngineResult result, Path path) throws IOException {
+        try (ResultFileWriter writer = open(path)) {
+            writer.onRunStart(algorithmName);
+            GanttChart gantt = result.gantt();
+            Workload workload = result.workload();
+            int position = 0;
+            for (int slice = 0; slice < gantt.size(); slice++) {
+                writer.onDispatch(gantt.processId(slice), gantt.start(slice), gantt.end(slice), 0);
+                if (position < result.size()) {
+                    int row = result.completedRow(position);
+                    if (workload.processId(row) == gantt.processId(slice)
+                            && result.completionTime(row) == gantt.end(slice)) {
+                        writer.writeCompletion(result, row);
+                        position++;
+                    }
+                }
+            }
+            for (; position < result.size(); position++) {
+                writer.writeCompletion(result, result.completedRow(position));
+            }
+            writer.onRunEnd(result.averageWaitingTime(), result.averageTurnaroundTime(), result.averageResponseTime());
+            writer.contextSwitches = result.contextSwitches();
+        }
+    }
+
+    private void writeCompletion(EngineResult result, int row) {
+        Workload workload = result.workload();
+        onCompletion(workload.processId(row), workload.arrivalTime(row), workload.burstTime(row),
+                result.completionTime(row), result.responseTime(row), result.turnaroundTime(row),
+                result.waitingTime(row));
+    }
+
+    @Override
+    public void onRunStart(String algorithmName) {
+        this.algorithmName = algorithmName;
+    }
+
+    @Override
+    public void onDispatch(int processId, int start, int end, int remainingBefore) {
+        if (lastSliceProcess != Integer.MIN_VALUE && lastSliceProcess != processId) {
+            contextSwitches++;
+        }
+        lastSliceProcess = processId;
+        slices[0][pendingSlices] = processId;
+        slices[1][pendingSlices] = start;
+        slices[2][pendingSlices] = end - start;
+        if (++pendingSlices == ResultFileFormat.BLOCK_RECORDS) {
+            flushSlices();
+        }
+    }
+
+    @Override
+    public void onCompletion(int processId, int arrivalTime, int burstTime, int completionTime,
+                             int responseTime, int turnaroundTime, int waitingTime) {
+        completions[0][pendingCompletions] = processId;
+        completions[1][pendingCompletions] = arrivalTime;
+        completions[2][pendingCompletions] = burstTime;
+        completions[3][pendingCompletions] = completionTime;
+        completions[4][pendingCompletions] = responseTime;
+        completions[5][pendingCompletions] = waitingTime;
+        if (++pendingCompletions == ResultFileFormat.BLOCK_RECORDS) {
+            flushCompletions();
+        }
+    }
+
+    @Override
+    public void onRunEnd(double averageWaitingTime, double averageTurnaroundTime, double averageResponseTime) {
+        this.averageWaitingTime = averageWaitingTime;
+        this.averageTurnaroundTime = averageTurnaroundTime;
+        this.averageResponseTime = averageResponseTime;
+    }
+
+    private void flushCompletions() {
+        if (pendingCompletions > 0) {
+            completionBlocks.add(position, writeBlock(completions, pendingCompletions));
+            completionCount += pendingCompletions;
+            pendingCompletions = 0;
+        }
+    }
+
+    private void flushSlices() {
+        if (pendingSlices > 0) {
+            sliceBlocks.add(position, writeBlock(slices, pendingSlices));
+            sliceCount += pendingSlices;
+            pendingSlices = 0;
+        }
+    }
+
+    private int writeBlock(int[][] columns, int count) {
+        blockBuffer.clear();
+        for (int[] column : columns) {
+            ResultFileFormat.putDeltas(blockBuffer, column, count);
+        }
+        return writeBuffer();
+    }
+
+    private int writeBuffer() {
+        blockBuffer.flip();
+        int length = blockBuffer.remaining();
+        try {
+            while (blockBuffer.hasRemaining()) {
+                channel.write(blockBuffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        position += length;
+        blockBuffer.clear();
+        return length;
+    }
+
+    @Override
+    public void close() {
+        try {
+            flushCompletions();
+            flushSlices();
+            long footerOffset = position;
+            byte[] name = algorithmName.getBytes(StandardCharsets.UTF_8);
+            blockBuffer.clear();
+            blockBuffer.putInt(name.length).put(name)
+                    .putDouble(averageWaitingTime).putDouble(averageTurnaroundTime).putDouble(averageResponseTime)
+                    .putLong(contextSwitches)
+                    .putLong(completionCount).putLong(sliceCount);
+            completionBlocks.writeTo(blockBuffer);
+            sliceBlocks.writeTo(blockBuffer);
+            blockBuffer.putLong(footerOffset).putInt(ResultFileFormat.MAGIC);
+            writeBuffer();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Offsets and lengths of the blocks of one kind, in write order.
+     */
+    private static final class BlockIndex {
+        private long[] offsets = new long[16];
+        private int[] lengths = new int[16];
+        private int size;
+
+        void add(long offset, int length) {
+            if (size == offsets.length) {
+                offsets = Arrays.copyOf(offsets, size * 2);
+                lengths = Arrays.copyOf(lengths, size * 2);
+            }
+            offsets[size] = offset;
+            lengths[size] = length;
+            size++;
+        }
+
+        void writeTo(ByteBuffer out) {
+            out.putInt(size);
+            for (int i = 0; i < size; i++) {
+                out.putLong(offsets[i]).putInt(lengths[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package cpuscheduler.io;
+
+import cpuscheduler.engine.Workload;
+import cpuscheduler.engine.WorkloadBuilder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CancellationException;
+import java.util.function.LongConsumer;
+
+/**
+ * Reads process traces from CSV or binary files through a memory-mapped {@link FileChannel}.
+ * The file is mapped one window at a time and parsed in place, byte by byte, straight into
+ * ints: no line Strings, no Process objects. Memory used by reading is therefore one window
+ * of page cache whatever the file size; only the caller decides what to keep.
+ *
+ * <p>CSV files have one process per line as {@code pid,arrival,burst,priority}. An optional
+ * header line, blank lines and {@code #} comments are skipped. The binary format is the one
+ * written by {@link WorkloadWriter#binary(Path)} and is recognised by its magic number.
+ */
+public final class WorkloadReader {
+    // Size of one mapped window; a multiple of the binary record size
+    static final int WINDOW_BYTES = 1 << 26;
+
+    private WorkloadReader() {
+    }
+
+    /**
+     * Reads a whole trace into primitive columns.
+     * @param path A CSV or binary trace file.
+     * @return A workload with one row per record, in file order.
+     * @throws IOException If the file cannot be read or is malformed.
+     * @throws CancellationException If the thread is interrupted while reading.
+     */
+    public static Workload read(Path path) throws IOException {
+        return read(path, _ -> { });
+    }
+
+    /**
+     * Reads a whole trace into primitive columns, reporting progress after every window.
+     * @param path A CSV or binary trace file.
+     * @param bytesRead Called with the number of bytes parsed so far.
+     * @return A workload with one row per record, in file order.
+     * @throws IOException If the file cannot be read or is malformed.
+     * @throws CancellationException If the thread is interrupted while reading.
+     */
+    public static Workload read(Path path, LongConsumer bytesRead) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WorkloadBuilder builder;
+            if (isBinary(channel)) {
+                builder = new WorkloadBuilder((int) Math.min(Integer.MAX_VALUE - 8, readRecordCount(channel, path)));
+            }
+            else {
+                // A short CSV record is about 16 bytes, so this rarely needs to grow
+                builder = new WorkloadBuilder((int) Math.min(Integer.MAX_VALUE - 8, channel.size() / 16 + 1));
+            }
+            stream(channel, path, (pid, arrival, burst, priority) -> builder.add(pid, burst, priority, arrival),
+                    bytesRead);
+            return builder.build();
+        }
+    }
+
+    /**
+     * Streams every record of a trace to a sink, keeping nothing but the current window mapped.
+     * @param path A CSV or binary trace file.
+     * @param sink Receives the records in file order.
+     * @return The number of records read.
+     * @throws IOException If the file cannot be read or is malformed.
+     * @throws CancellationException If the thread is interrupted while reading.
+     */
+    public static long stream(Path path, ProcessRecordSink sink) throws IOException {
+        return stream(path, sink, _ -> { });
+    }
+
+    /**
+     * Streams every record of a trace to a sink, reporting progress after every window.
+     * @param path A CSV or binary trace file.
+     * @param sink Receives the records in file order.
+     * @param bytesRead Called with the number of bytes parsed so far.
+     * @return The number of records read.
+     * @throws IOException If the file cannot be read or is malformed.
+     * @throws CancellationException If the thread is interrupted while reading.
+     */
+    public static long stream(Path path, ProcessRecordSink sink, LongConsumer bytesRead) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return stream(channel, path, sink, bytesRead);
+        }
+    }
+
+    private static long stream(FileChannel channel, Path path, ProcessRecordSink sink, LongConsumer bytesRead)
+            throws IOException {
+        if (isBinary(channel)) {
+            return streamBinary(channel, path, sink, bytesRead);
+        }
+        return new CsvParser(path, sink).parse(channel, bytesRead);
+    }
+
+    private static boolean isBinary(FileChannel channel) throws IOException {
+        if (channel.size() < BinaryTraceFormat.HEADER_BYTES) {
+            return false;
+        }
+        ByteBuffer magic = ByteBuffer.allocate(4).order(BinaryTraceFormat.ORDER);
+        channel.read(magic, 0);
+        return magic.getInt(0) == BinaryTraceFormat.MAGIC;
+    }
+
+    private static long readRecordCount(FileChannel channel, Path path) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(BinaryTraceFormat.HEADER_BYTES).order(BinaryTraceFormat.ORDER);
+        channel.read(header, 0);
+        int version = header.getInt(4);
+        if (version != BinaryTraceFormat.VERSION) {
+            throw new IOException(path + ": unsupported binary trace version " + version + ".");
+        }
+        long count = header.getLong(8);
+        long expectedSize = BinaryTraceFormat.HEADER_BYTES + count * BinaryTraceFormat.RECORD_BYTES;
+        if (count < 0 || channel.size() != expectedSize) {
+            throw new IOException(path + ": header declares " + count + " records but the file has "
+                    + channel.size() + " bytes.");
+        }
+        return count;
+    }
+
+    private static long streamBinary(FileChannel channel, Path path, ProcessRecordSink sink, LongConsumer bytesRead)
+            throws IOException {
+        long count = readRecordCount(channel, path);
+        long record = 0;
+        long position = BinaryTraceFormat.HEADER_BYTES;
+        while (record < count) {
+            checkInterrupted(path);
+            int length = (int) Math.min(WINDOW_BYTES, (count - record) * BinaryTraceFormat.RECORD_BYTES);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            window.order(BinaryTraceFormat.ORDER);
+            for (int offset = 0; offset < length; offset += BinaryTraceFormat.RECORD_BYTES) {
+                int burst = window.getInt(offset + 8);
+                int arrival = window.getInt(offset + 4);
+                if (burst <= 0 || arrival < 0) {
+                    throw new IOException(path + ": record " + (record + offset / BinaryTraceFormat.RECORD_BYTES)
+                            + " has a non-positive burst or a negative arrival time.");
+                }
+                sink.accept(window.getInt(offset), arrival, burst, window.getInt(offset + 12));
+            }
+            record += length / BinaryTraceFormat.RECORD_BYTES;
+            position += length;
+            bytesRead.accept(position);
+        }
+        return count;
+    }
+
+    private static void checkInterrupted(Path path) {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Reading " + path + " was cancelled.");
+        }
+    }
+
+    /**
+     * Parses CSV lines in place from mapped windows. A window ends after its last complete line;
+     * the partial line at its end is re-read at the start of the next window.
+     */
+    private static final class CsvParser {
+        private static final int FIELDS = 4;
+
+        private final Path path;
+        private final ProcessRecordSink sink;
+        private final int[] fields = new int[FIELDS];
+        private long lineNumber;
+        private long records;
+        // Only the first non-blank line may be a header
+        private boolean headerAllowed = true;
+
+        CsvParser(Path path, ProcessRecordSink sink) {
+            this.path = path;
+            this.sink = sink;
+        }
+
+        long parse(FileChannel channel, LongConsumer bytesRead) throws IOException {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                checkInterrupted(path);
+                int length = (int) Math.min(WINDOW_BYTES, size - position);
+                boolean lastWindow = position + length == size;
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                int end = length;
+                if (!lastWindow) {
+                    while (end > 0 && window.get(end - 1) != '\n') {
+                        end--;
+                    }
+                    if (end == 0) {
+                        throw new IOException(path + ": line " + (lineNumber + 1) + " is longer than "
+                                + WINDOW_BYTES + " bytes.");
+                    }
+                }
+                int lineStart = 0;
+                for (int i = 0; i < end; i++) {
+                    if (window.get(i) == '\n') {
+                        parseLine(window, lineStart, i);
+                        lineStart = i + 1;
+                    }
+                }
+                if (lineStart < end) {
+                    parseLine(window, lineStart, end); // Last line without a trailing newline
+                }
+                position += end;
+                bytesRead.accept(position);
+            }
+            return records;
+        }
+
+        private void parseLine(ByteBuffer window, int from, int to) throws IOException {
+            lineNumber++;
+            int i = from;
+            for (int field = 0; field < FIELDS; field++) {
+                i = skipBlanks(window, i, to);
+                if (field == 0 && (i == to || window.get(i) == '#')) {
+                    return; // Blank or comment line
+                }
+                boolean negative = i < to && window.get(i) == '-';
+                if (negative) {
+                    i++;
+                }
+                long value = 0;
+                int digitsStart = i;
+                while (i < to) {
+                    int digit = window.get(i) - '0';
+                    if (digit < 0 || digit > 9) {
+                        break;
+                    }
+                    value = value * 10 + digit;
+                    if (value > Integer.MAX_VALUE + 1L) {
+                        throw malformed("value out of range");
+                    }
+                    i++;
+                }
+                if (i == digitsStart) {
+                    if (headerAllowed && field == 0) {
+                        headerAllowed = false;
+                        return;
+                    }
+                    throw malformed("expected a number in column " + (field + 1));
+                }
+                value = negative ? -value : value;
+                if (value > Integer.MAX_VALUE) {
+                    throw malformed("value out of range");
+                }
+                fields[field] = (int) value;
+                i = skipBlanks(window, i, to);
+                if (field < FIELDS - 1) {
+                    if (i == to || window.get(i) != ',') {
+                        throw malformed("expected 4 columns: pid,arrival,burst,priority");
+                    }
+                    i++;
+                }
+            }
+            if (i < to && window.get(i) != '#') {
+                throw malformed("unexpected text after the priority column");
+            }
+            headerAllowed = false;
+            if (fields[2] <= 0) {
+                throw malformed("burst time must be positive");
+            }
+            if (fields[1] < 0) {
+                throw malformed("arrival time cannot be negative");
+            }
+            records++;
+            sink.accept(fields[0], fields[1], fields[2], fields[3]);
+        }
+
+        private static int skipBlanks(ByteBuffer window, int i, int to) {
+            while (i < to) {
+                byte b = window.get(i);
+                if (b != ' ' && b != '\t' && b != '\r') {
+                    break;
+                }
+                i++;
+            }
+            return i;
+        }
+
+        private IOException malformed(String reason) {
+            return new IOException(path + ": line " + lineNumber + ": " + reason + ".");
+        }
+    }
+}
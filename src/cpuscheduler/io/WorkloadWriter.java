@@ -0,0 +1,147 @@
+package cpuscheduler.io;
+
+import cpuscheduler.engine.Workload;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes process records to a CSV or binary trace file that {@link WorkloadReader} can read.
+ * Records are encoded into a fixed buffer and flushed as it fills, so a writer can be fed
+ * directly by a reader or a generator without holding the workload in memory.
+ */
+public final class WorkloadWriter implements ProcessRecordSink, AutoCloseable {
+    private static final int BUFFER_BYTES = 1 << 20;
+    private static final byte[] CSV_HEADER = "pid,arrival,burst,priority\n".getBytes();
+
+    private final FileChannel channel;
+    private final boolean binary;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES).order(BinaryTraceFormat.ORDER);
+    // Scratch space for formatting one int, most significant digit last
+    private final byte[] digits = new byte[11];
+    private long records;
+
+    private WorkloadWriter(Path path, boolean binary) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.binary = binary;
+        if (binary) {
+            // The record count is filled in by close()
+            buffer.putInt(BinaryTraceFormat.MAGIC).putInt(BinaryTraceFormat.VERSION).putLong(0);
+        }
+        else {
+            buffer.put(CSV_HEADER);
+        }
+    }
+
+    /**
+     * Opens a writer for the binary trace format, replacing any existing file.
+     * @param path The file to write.
+     * @return A writer that must be closed to complete the file.
+     * @throws IOException If the file cannot be opened.
+     */
+    public static WorkloadWriter binary(Path path) throws IOException {
+        return new WorkloadWriter(path, true);
+    }
+
+    /**
+     * Opens a writer for CSV with a header line, replacing any existing file.
+     * @param path The file to write.
+     * @return A writer that must be closed to complete the file.
+     * @throws IOException If the file cannot be opened.
+     */
+    public static WorkloadWriter csv(Path path) throws IOException {
+        return new WorkloadWriter(path, false);
+    }
+
+    /**
+     * Writes a whole workload to a file, as CSV if the name ends in {@code .csv} and in the
+     * binary format otherwise.
+     * @param workload The processes to write, in row order.
+     * @param path The file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void write(Workload workload, Path path) throws IOException {
+        boolean csv = path.getFileName().toString().toLowerCase().endsWith(".csv");
+        try (WorkloadWriter writer = csv ? csv(path) : binary(path)) {
+            for (int row = 0; row < workload.size(); row++) {
+                writer.accept(workload.processId(row), workload.arrivalTime(row), workload.burstTime(row),
+                        workload.priority(row));
+            }
+        }
+    }
+
+    @Override
+    public void accept(int processId, int arrivalTime, int burstTime, int priority) {
+        // A CSV record is at most 4 * 11 digits plus separators
+        if (buffer.remaining() < 48) {
+            flush();
+        }
+        if (binary) {
+            buffer.putInt(processId).putInt(arrivalTime).putInt(burstTime).putInt(priority);
+        }
+        else {
+            putDecimal(processId);
+            buffer.put((byte) ',');
+            putDecimal(arrivalTime);
+            buffer.put((byte) ',');
+            putDecimal(burstTime);
+            buffer.put((byte) ',');
+            putDecimal(priority);
+            buffer.put((byte) '\n');
+        }
+        records++;
+    }
+
+    /**
+     * Gets the number of records written so far.
+     */
+    public long recordCount() {
+        return records;
+    }
+
+    private void putDecimal(int value) {
+        long v = value;
+        if (v < 0) {
+            buffer.put((byte) '-');
+            v = -v;
+        }
+        int length = 0;
+        do {
+            digits[length++] = (byte) ('0' + v % 10);
+            v /= 10;
+        } while (v != 0);
+        while (length > 0) {
+            buffer.put(digits[--length]);
+        }
+    }
+
+    private void flush() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            if (binary) {
+                ByteBuffer count = ByteBuffer.allocate(8).order(BinaryTraceFormat.ORDER).putLong(0, records);
+                channel.write(count, 8);
+            }
+        } finally {
+            channel.close();
+        }
+    }
+}
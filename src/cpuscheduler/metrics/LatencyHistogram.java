@@ -0,0 +1,139 @@
+package cpuscheduler.metrics;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size log-linear histogram of non-negative int values, in the style of HdrHistogram.
+ * Values below 512 get a bucket each; above that, every power-of-two range is split into 256
+ * equal buckets, so any recorded value is reported within 0.4% of itself. The whole int range
+ * fits in 6,144 counters (24 KB), recording is a few arithmetic operations, and two histograms
+ * are merged by adding their counters, which makes them cheap to combine across parallel runs.
+ *
+ * <p>The count, minimum, maximum and mean are tracked exactly. Not thread-safe.
+ */
+public final class LatencyHistogram {
+    // Values below 2^SUB_BUCKET_BITS are exact; each higher power of two gets HALF buckets
+    private static final int SUB_BUCKET_BITS = 9;
+    private static final int HALF = 1 << (SUB_BUCKET_BITS - 1);
+    private static final int BUCKETS = (Integer.SIZE - 1 - SUB_BUCKET_BITS) * HALF + (1 << SUB_BUCKET_BITS);
+
+    private final int[] counts = new int[BUCKETS];
+    private long count;
+    private long sum;
+    private int min = Integer.MAX_VALUE;
+    private int max;
+
+    /**
+     * Records one value.
+     * @param value The value, at least 0.
+     */
+    public void record(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Histogram values cannot be negative: " + value);
+        }
+        counts[indexOf(value)]++;
+        count++;
+        sum += value;
+        if (value < min) {
+            min = value;
+        }
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    private static int indexOf(int value) {
+        if (value < (1 << SUB_BUCKET_BITS)) {
+            return value;
+        }
+        int shift = (Integer.SIZE - SUB_BUCKET_BITS) - Integer.numberOfLeadingZeros(value);
+        return shift * HALF + (value >>> shift);
+    }
+
+    private static long highestValueIn(int index) {
+        if (index < (1 << SUB_BUCKET_BITS)) {
+            return index;
+        }
+        int shift = index / HALF - 1;
+        long subBucket = index % HALF + HALF;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * Adds every value recorded by another histogram to this one.
+     * @param other The histogram to add; it is not modified.
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Gets an independent copy of this histogram.
+     */
+    public LatencyHistogram copy() {
+        LatencyHistogram copy = new LatencyHistogram();
+        copy.add(this);
+        return copy;
+    }
+
+    public void clear() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        sum = 0;
+        min = Integer.MAX_VALUE;
+        max = 0;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Gets the smallest recorded value, or 0 if nothing was recorded.
+     */
+    public int min() {
+        return count == 0 ? 0 : min;
+    }
+
+    /**
+     * Gets the largest recorded value, or 0 if nothing was recorded.
+     */
+    public int max() {
+        return max;
+    }
+
+    /**
+     * Gets the exact mean of the recorded values, or 0 if nothing was recorded.
+     */
+    public double mean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Gets a percentile by the nearest-rank method. The result is the top of the bucket that
+     * holds the ranked value, capped at the maximum, so it is exact below 512 and never more
+     * than 0.4% above the true value.
+     * @param percentile The percentile, between 0 and 100.
+     * @return The value, or 0 if nothing was recorded.
+     */
+    public int valueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return (int) Math.min(highestValueIn(i), max);
+            }
+        }
+        return max;
+    }
+}
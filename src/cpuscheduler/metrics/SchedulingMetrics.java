@@ -0,0 +1,117 @@
+package cpuscheduler.metrics;
+
+/**
+ * The metrics of a scheduling run: latency distributions of every process plus the run-level
+ * counters. Metrics of several runs (for example the same algorithm over workload shards run
+ * in parallel) are combined with {@link #merge(SchedulingMetrics)}.
+ *
+ * @param waitingTimes Time each process spent ready but not running.
+ * @param turnaroundTimes Time from arrival to completion of each process.
+ * @param responseTimes Time from arrival to first dispatch of each process.
+ * @param contextSwitches Dispatches that switched to a different process.
+ * @param preemptions Times a running process lost the CPU to an arrival.
+ * @param busyTime Time in which the CPU ran a process.
+ * @param makespan Time from the first arrival to the last completion.
+ * @param ioBusyTime Time in which the I/O device served a process.
+ * @param ioOverlapTime Time in which the CPU and the I/O device were both busy.
+ * @param switchOverheadTime Time in which the CPU switched between processes.
+ */
+public record SchedulingMetrics(LatencyHistogram waitingTimes, LatencyHistogram turnaroundTimes,
+                                LatencyHistogram responseTimes, long contextSwitches, long preemptions,
+                                long busyTime, long makespan, long ioBusyTime, long ioOverlapTime,
+                                long switchOverheadTime) {
+
+    /**
+     * The percentiles shown by {@link #summary()}.
+     */
+    public static final double[] REPORTED_PERCENTILES = {50, 90, 99, 99.9};
+
+    public long processCount() {
+        return waitingTimes.count();
+    }
+
+    /**
+     * Gets the completed processes per time unit over the makespan.
+     */
+    public double throughput() {
+        return makespan == 0 ? 0 : (double) processCount() / makespan;
+    }
+
+    /**
+     * Gets the fraction of the makespan in which the CPU ran a process.
+     */
+    public double cpuUtilization() {
+        return makespan == 0 ? 0 : (double) busyTime / makespan;
+    }
+
+    /**
+     * Gets the fraction of the makespan in which the I/O device served a process.
+     */
+    public double ioUtilization() {
+        return makespan == 0 ? 0 : (double) ioBusyTime / makespan;
+    }
+
+    /**
+     * Gets the fraction of the makespan in which the CPU and the I/O device were both busy.
+     */
+    public double ioOverlap() {
+        return makespan == 0 ? 0 : (double) ioOverlapTime / makespan;
+    }
+
+    /**
+     * Gets the fraction of the makespan in which the CPU switched between processes.
+     */
+    public double switchOverhead() {
+        return makespan == 0 ? 0 : (double) switchOverheadTime / makespan;
+    }
+
+    /**
+     * Combines the metrics of two runs, as if the runs had been executed back to back:
+     * distributions and counters are added, and so are busy time and makespan.
+     * @param other The metrics to combine with; neither operand is modified.
+     * @return New combined metrics.
+     */
+    public SchedulingMetrics merge(SchedulingMetrics other) {
+        LatencyHistogram waiting = waitingTimes.copy();
+        waiting.add(other.waitingTimes);
+        LatencyHistogram turnaround = turnaroundTimes.copy();
+        turnaround.add(other.turnaroundTimes);
+        LatencyHistogram response = responseTimes.copy();
+        response.add(other.responseTimes);
+        return new SchedulingMetrics(waiting, turnaround, response, contextSwitches + other.contextSwitches,
+                preemptions + other.preemptions, busyTime + other.busyTime, makespan + other.makespan,
+                ioBusyTime + other.ioBusyTime, ioOverlapTime + other.ioOverlapTime,
+                switchOverheadTime + other.switchOverheadTime);
+    }
+
+    /**
+     * Renders the percentiles of each distribution and the run counters, one item per line.
+     * @return The summary text.
+     */
+    public String summary() {
+        StringBuilder text = new StringBuilder(256);
+        appendDistribution(text, "Waiting Time", waitingTimes);
+        appendDistribution(text, "Turnaround Time", turnaroundTimes);
+        appendDistribution(text, "Response Time", responseTimes);
+        text.append(String.format("Throughput: %.4f processes/unit, CPU Utilisation: %.1f%%, Preemptions: %d",
+                throughput(), cpuUtilization() * 100, preemptions));
+        if (ioBusyTime > 0) {
+            text.append(String.format("%nI/O Utilisation: %.1f%%, CPU/I-O Overlap: %.1f%%",
+                    ioUtilization() * 100, ioOverlap() * 100));
+        }
+        if (switchOverheadTime > 0) {
+            text.append(String.format("%nSwitch Overhead: %.1f%% (%d time units)", switchOverhead() * 100,
+                    switchOverheadTime));
+        }
+        return text.toString();
+    }
+
+    private static void appendDistribution(StringBuilder text, String name, LatencyHistogram histogram) {
+        text.append(name).append(':');
+        for (double percentile : REPORTED_PERCENTILES) {
+            text.append(" p").append(percentile == (int) percentile ? Integer.toString((int) percentile)
+                    : Double.toString(percentile)).append('=').append(histogram.valueAtPercentile(percentile));
+        }
+        text.append(" max=").append(histogram.max()).append('\n');
+    }
+}
@@ -0,0 +1,43 @@
+package cpuscheduler.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * An arrival preempted the running process.
+ */
+@Name("cpuscheduler.Preemption")
+@Label("Preemption")
+@Category("CPU Scheduler")
+@StackTrace(false)
+public final class PreemptionEvent extends jdk.jfr.Event {
+    @Label("Process ID")
+    int processId;
+
+    @Label("Simulated Time")
+    long simulatedTime;
+
+    @Label("Remaining Burst")
+    @Description("The burst time the preempted process still needs")
+    int remaining;
+
+    @Label("Core")
+    int core;
+
+    /**
+     * Commits an event if Flight Recorder is recording it; otherwise costs a flag check.
+     */
+    public static void emit(int processId, long simulatedTime, int remaining, int core) {
+        PreemptionEvent event = new PreemptionEvent();
+        if (event.isEnabled()) {
+            event.processId = processId;
+            event.simulatedTime = simulatedTime;
+            event.remaining = remaining;
+            event.core = core;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package cpuscheduler.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A process used up its time slice and went back to the ready queue.
+ *
+ * <p>Emitted once per slice, so it is disabled by default; enable it in the recording settings
+ * for short runs or with a narrow time window.
+ */
+@Name("cpuscheduler.QuantumExpiry")
+@Label("Quantum Expiry")
+@Category("CPU Scheduler")
+@Enabled(false)
+@StackTrace(false)
+public final class QuantumExpiryEvent extends jdk.jfr.Event {
+    @Label("Process ID")
+    int processId;
+
+    @Label("Simulated Time")
+    long simulatedTime;
+
+    @Label("Remaining Burst")
+    @Description("The burst time the process still needs")
+    int remaining;
+
+    @Label("Core")
+    int core;
+
+    /**
+     * Commits an event if Flight Recorder is recording it; otherwise costs a flag check.
+     */
+    public static void emit(int processId, long simulatedTime, int remaining, int core) {
+        QuantumExpiryEvent event = new QuantumExpiryEvent();
+        if (event.isEnabled()) {
+            event.processId = processId;
+            event.simulatedTime = simulatedTime;
+            event.remaining = remaining;
+            event.core = core;
+            event.commit();
+        }
+    }
+}
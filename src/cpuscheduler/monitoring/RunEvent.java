@@ -0,0 +1,47 @@
+package cpuscheduler.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event spanning one simulation run, from start to the last event.
+ */
+@Name("cpuscheduler.Run")
+@Label("Scheduler Run")
+@Category("CPU Scheduler")
+@Description("One simulation run of a scheduling engine")
+@StackTrace(false)
+public final class RunEvent extends jdk.jfr.Event {
+    @Label("Engine")
+    @Description("The simulator and policy that ran")
+    String engine;
+
+    @Label("Processes")
+    int processes;
+
+    @Label("Events")
+    @Description("Simulation events handled, or dispatches for the Round Robin engine")
+    long events;
+
+    @Label("Simulated Time")
+    @Description("The simulation clock when the run ended")
+    long simulatedTime;
+
+    @Label("Context Switches")
+    int contextSwitches;
+
+    @Label("Preemptions")
+    int preemptions;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocated;
+
+    @Label("Completed")
+    @Description("False if the run was cancelled or failed")
+    boolean completed;
+}
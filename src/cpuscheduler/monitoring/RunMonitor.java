@@ -0,0 +1,128 @@
+package cpuscheduler.monitoring;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Reports one run to the {@link SchedulerMonitor} and records its Flight Recorder events. Used by
+ * a single simulating thread: report progress at intervals and slices as they happen,
+ * {@link #finish} when the run completes, and close it in all cases so a cancelled run is still
+ * counted.
+ *
+ * <p>Whether Flight Recorder is running is checked once per run. Without a recording the event
+ * classes are never loaded, which saves the few hundred milliseconds of initialising Flight
+ * Recorder, and every slice costs one field check.
+ */
+public final class RunMonitor implements AutoCloseable {
+    private final SchedulerMonitor monitor;
+    private final boolean recording = FlightRecorder.isInitialized();
+    private final RunEvent event;
+    private final String engine;
+    private final long startNanos = System.nanoTime();
+    private final long startAllocated;
+    private long reportedEvents;
+    private long events;
+    private long clock;
+    private boolean closed;
+
+    RunMonitor(SchedulerMonitor monitor, String engine, int processes, long startAllocated) {
+        this.monitor = monitor;
+        this.engine = engine;
+        this.startAllocated = startAllocated;
+        this.event = recording ? new RunEvent() : null;
+        if (recording) {
+            event.engine = engine;
+            event.processes = processes;
+            event.begin();
+        }
+    }
+
+    /**
+     * Publishes the live state of the run.
+     * @param eventsProcessed The events handled so far.
+     * @param simulatedTime The simulation clock.
+     * @param queueDepth The number of ready processes.
+     */
+    public void progress(long eventsProcessed, long simulatedTime, int queueDepth) {
+        monitor.progress(eventsProcessed - reportedEvents, simulatedTime, queueDepth);
+        reportedEvents = eventsProcessed;
+        events = eventsProcessed;
+        clock = simulatedTime;
+    }
+
+    /**
+     * Records that a process was given the CPU.
+     * @param processId The process.
+     * @param simulatedTime The dispatch time.
+     * @param remaining The burst time the process still needs.
+     * @param core The core, 0 on a single CPU.
+     */
+    public void dispatch(int processId, long simulatedTime, int remaining, int core) {
+        if (recording) {
+            DispatchEvent.emit(processId, simulatedTime, remaining, core);
+        }
+    }
+
+    /**
+     * Records that an arrival preempted the running process.
+     * @param processId The preempted process.
+     * @param simulatedTime The time of the preemption.
+     * @param remaining The burst time the process still needs.
+     * @param core The core, 0 on a single CPU.
+     */
+    public void preemption(int processId, long simulatedTime, int remaining, int core) {
+        if (recording) {
+            PreemptionEvent.emit(processId, simulatedTime, remaining, core);
+        }
+    }
+
+    /**
+     * Records that a process used up its time slice.
+     * @param processId The process.
+     * @param simulatedTime The end of the slice.
+     * @param remaining The burst time the process still needs.
+     * @param core The core, 0 on a single CPU.
+     */
+    public void quantumExpiry(int processId, long simulatedTime, int remaining, int core) {
+        if (recording) {
+            QuantumExpiryEvent.emit(processId, simulatedTime, remaining, core);
+        }
+    }
+
+    /**
+     * Records the totals of a run that completed.
+     * @param eventsProcessed The events handled by the whole run.
+     * @param simulatedTime The simulation clock at the end.
+     * @param contextSwitches The context switches of the run.
+     * @param preemptions The preemptions of the run.
+     */
+    public void finish(long eventsProcessed, long simulatedTime, int contextSwitches, int preemptions) {
+        events = eventsProcessed;
+        clock = simulatedTime;
+        if (recording) {
+            event.contextSwitches = contextSwitches;
+            event.preemptions = preemptions;
+            event.completed = true;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        long nanos = System.nanoTime() - startNanos;
+        long allocated = startAllocated < 0 ? -1 : SchedulerMonitor.allocatedBytes() - startAllocated;
+        monitor.finish(engine, events - reportedEvents, clock, nanos, allocated);
+        if (!recording) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.events = events;
+            event.simulatedTime = clock;
+            event.allocated = allocated;
+            event.commit();
+        }
+    }
+}
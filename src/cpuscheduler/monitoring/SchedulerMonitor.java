@@ -0,0 +1,154 @@
+package cpuscheduler.monitoring;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The process-wide instrumentation of the scheduling engines: the JMX counters behind
+ * {@link SchedulerMonitorMXBean}, and the {@link RunEvent} of every run. The engines call
+ * {@link #startRun(String, int)} once per run and report through the returned {@link RunMonitor}
+ * every few thousand events, so the cost per event is nothing beyond the Flight Recorder checks.
+ *
+ * <p>Starting the platform MBean server takes about half a second, so the monitor is registered
+ * on a background thread and never delays a run; set {@code -Dcpuscheduler.jmx=false} to skip it.
+ */
+public final class SchedulerMonitor implements SchedulerMonitorMXBean {
+    public static final String OBJECT_NAME = "cpuscheduler:type=SchedulerMonitor";
+
+    private static final SchedulerMonitor INSTANCE = new SchedulerMonitor();
+    private static final com.sun.management.ThreadMXBean ALLOCATION = allocationBean();
+
+    private final AtomicInteger activeRuns = new AtomicInteger();
+    private final LongAdder finishedRuns = new LongAdder();
+    private final LongAdder eventsProcessed = new LongAdder();
+    private volatile long simulatedClock;
+    private volatile int queueDepth;
+    private volatile String lastRunEngine = "";
+    private volatile long lastRunMillis;
+    private volatile long lastRunAllocatedBytes = -1;
+
+    // Previous read of EventsPerSecond
+    private long sampleEvents;
+    private long sampleNanos = System.nanoTime();
+
+    static {
+        if (!"false".equals(System.getProperty("cpuscheduler.jmx"))) {
+            Thread.ofPlatform().daemon().name("scheduler-monitor-registration").start(SchedulerMonitor::register);
+        }
+    }
+
+    private SchedulerMonitor() {
+    }
+
+    /**
+     * Gets the monitor, registering it with the platform MBean server on first use.
+     */
+    public static SchedulerMonitor get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts monitoring a run.
+     * @param engine The simulator and policy, as shown in events and JMX.
+     * @param processes The number of processes in the workload.
+     * @return The handle the run reports through; close it when the run ends.
+     */
+    public static RunMonitor startRun(String engine, int processes) {
+        INSTANCE.activeRuns.incrementAndGet();
+        return new RunMonitor(INSTANCE, engine, processes, allocatedBytes());
+    }
+
+    void progress(long newEvents, long clock, int depth) {
+        eventsProcessed.add(newEvents);
+        simulatedClock = clock;
+        queueDepth = depth;
+    }
+
+    void finish(String engine, long newEvents, long clock, long nanos, long allocated) {
+        eventsProcessed.add(newEvents);
+        simulatedClock = clock;
+        lastRunEngine = engine;
+        lastRunMillis = nanos / 1_000_000;
+        lastRunAllocatedBytes = allocated;
+        finishedRuns.increment();
+        activeRuns.decrementAndGet();
+    }
+
+    /**
+     * Gets the bytes allocated so far by the current thread, or -1 if not measured.
+     */
+    static long allocatedBytes() {
+        return ALLOCATION == null ? -1 : ALLOCATION.getCurrentThreadAllocatedBytes();
+    }
+
+    @Override
+    public int getActiveRuns() {
+        return activeRuns.get();
+    }
+
+    @Override
+    public long getFinishedRuns() {
+        return finishedRuns.sum();
+    }
+
+    @Override
+    public long getEventsProcessed() {
+        return eventsProcessed.sum();
+    }
+
+    @Override
+    public synchronized double getEventsPerSecond() {
+        long events = eventsProcessed.sum();
+        long now = System.nanoTime();
+        double rate = now == sampleNanos ? 0 : (events - sampleEvents) * 1e9 / (now - sampleNanos);
+        sampleEvents = events;
+        sampleNanos = now;
+        return rate;
+    }
+
+    @Override
+    public long getSimulatedClock() {
+        return simulatedClock;
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    @Override
+    public String getLastRunEngine() {
+        return lastRunEngine;
+    }
+
+    @Override
+    public long getLastRunMillis() {
+        return lastRunMillis;
+    }
+
+    @Override
+    public long getLastRunAllocatedBytes() {
+        return lastRunAllocatedBytes;
+    }
+
+    private static void register() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+        } catch (JMException | SecurityException e) {
+            // Another copy of these classes registered first; the counters still work, unpublished
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean bean && bean.isThreadAllocatedMemorySupported()
+                && bean.isThreadAllocatedMemoryEnabled()) {
+            return bean;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,54 @@
+package cpuscheduler.monitoring;
+
+/**
+ * Live counters of the scheduling engines, registered as {@value SchedulerMonitor#OBJECT_NAME}.
+ * Running simulations report every {@link cpuscheduler.engine.ProgressListener#INTERVAL} events,
+ * so the live values lag by at most that many events.
+ */
+public interface SchedulerMonitorMXBean {
+    /**
+     * Gets the number of simulations currently running.
+     */
+    int getActiveRuns();
+
+    /**
+     * Gets the number of simulations that finished, including cancelled ones.
+     */
+    long getFinishedRuns();
+
+    /**
+     * Gets the number of events handled by every simulation since startup.
+     */
+    long getEventsProcessed();
+
+    /**
+     * Gets the events handled per second of wall time since the previous read of this attribute.
+     */
+    double getEventsPerSecond();
+
+    /**
+     * Gets the simulation clock last reported by a running simulation.
+     */
+    long getSimulatedClock();
+
+    /**
+     * Gets the number of ready processes last reported by a running simulation.
+     */
+    int getQueueDepth();
+
+    /**
+     * Gets the engine and policy of the last simulation that finished.
+     */
+    String getLastRunEngine();
+
+    /**
+     * Gets the wall time of the last simulation that finished.
+     */
+    long getLastRunMillis();
+
+    /**
+     * Gets the bytes allocated by the thread of the last simulation that finished, or -1 if
+     * the JVM does not measure allocation per thread.
+     */
+    long getLastRunAllocatedBytes();
+}
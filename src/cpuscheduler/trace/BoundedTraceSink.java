@@ -0,0 +1,101 @@
+package cpuscheduler.trace;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the most recent trace records in memory, overwriting the oldest once full.
+ * Records are held in primitive columns and only formatted by {@link #lines()}.
+ */
+public class BoundedTraceSink implements TraceSink {
+    private static final int DISPATCH = 0;
+    private static final int COMPLETION = 1;
+    private static final int IO = 2;
+
+    private final int capacity;
+    private final byte[] kinds;
+    private final int[] processIds;
+    // Dispatch: start, end, remaining; I/O: blocked at, start, end; completion: arrival, burst, completion, response, turnaround, waiting
+    private final int[][] fields;
+    private long written;
+
+    public BoundedTraceSink(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive.");
+        }
+        this.capacity = capacity;
+        this.kinds = new byte[capacity];
+        this.processIds = new int[capacity];
+        this.fields = new int[6][capacity];
+    }
+
+    @Override
+    public void onDispatch(int processId, int start, int end, int remainingBefore) {
+        int slot = nextSlot(DISPATCH, processId);
+        fields[0][slot] = start;
+        fields[1][slot] = end;
+        fields[2][slot] = remainingBefore;
+    }
+
+    @Override
+    public void onIo(int processId, int blockedAt, int start, int end) {
+        int slot = nextSlot(IO, processId);
+        fields[0][slot] = blockedAt;
+        fields[1][slot] = start;
+        fields[2][slot] = end;
+    }
+
+    @Override
+    public void onCompletion(int processId, int arrivalTime, int burstTime, int completionTime,
+                             int responseTime, int turnaroundTime, int waitingTime) {
+        int slot = nextSlot(COMPLETION, processId);
+        fields[0][slot] = arrivalTime;
+        fields[1][slot] = burstTime;
+        fields[2][slot] = completionTime;
+        fields[3][slot] = responseTime;
+        fields[4][slot] = turnaroundTime;
+        fields[5][slot] = waitingTime;
+    }
+
+    private int nextSlot(int kind, int processId) {
+        int slot = (int) (written % capacity);
+        kinds[slot] = (byte) kind;
+        processIds[slot] = processId;
+        written++;
+        return slot;
+    }
+
+    /**
+     * Gets the total number of records received, including ones that have been overwritten.
+     * @return The record count.
+     */
+    public long recordCount() {
+        return written;
+    }
+
+    /**
+     * Formats the retained records, oldest first.
+     * @return One line per retained record.
+     */
+    public List<String> lines() {
+        int retained = (int) Math.min(written, capacity);
+        List<String> lines = new ArrayList<>(retained);
+        StringBuilder line = new StringBuilder();
+        for (long i = written - retained; i < written; i++) {
+            int slot = (int) (i % capacity);
+            line.setLength(0);
+            if (kinds[slot] == DISPATCH) {
+                TraceFormat.dispatch(line, processIds[slot], fields[0][slot], fields[1][slot], fields[2][slot]);
+            }
+            else if (kinds[slot] == IO) {
+                TraceFormat.io(line, processIds[slot], fields[0][slot], fields[1][slot], fields[2][slot]);
+            }
+            else {
+                TraceFormat.completion(line, processIds[slot], fields[0][slot], fields[1][slot], fields[2][slot],
+                        fields[3][slot], fields[4][slot], fields[5][slot]);
+            }
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+}
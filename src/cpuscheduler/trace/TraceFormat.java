@@ -0,0 +1,32 @@
+package cpuscheduler.trace;
+
+/**
+ * Text layout shared by the sinks that produce readable trace lines.
+ */
+final class TraceFormat {
+    private TraceFormat() {
+    }
+
+    static void dispatch(StringBuilder out, int processId, int start, int end, int remainingBefore) {
+        out.append("P").append(processId)
+                .append(" ran ").append(start).append("-").append(end)
+                .append(" (remaining ").append(remainingBefore).append(")");
+    }
+
+    static void io(StringBuilder out, int processId, int blockedAt, int start, int end) {
+        out.append("P").append(processId)
+                .append(" blocked ").append(blockedAt).append("-").append(end)
+                .append(" (I/O ").append(start).append("-").append(end).append(")");
+    }
+
+    static void completion(StringBuilder out, int processId, int arrivalTime, int burstTime, int completionTime,
+                           int responseTime, int turnaroundTime, int waitingTime) {
+        out.append("P").append(processId)
+                .append(" terminated: burst=").append(burstTime)
+                .append(" arrival=").append(arrivalTime)
+                .append(" completion=").append(completionTime)
+                .append(" response=").append(responseTime)
+                .append(" turnaround=").append(turnaroundTime)
+                .append(" waiting=").append(waitingTime);
+    }
+}
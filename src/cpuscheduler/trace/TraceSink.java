@@ -0,0 +1,63 @@
+package cpuscheduler.trace;
+
+/**
+ * Receives a step-by-step trace of a scheduling run. Every callback takes primitives so that
+ * the scheduler does not allocate or format anything unless the chosen sink needs it.
+ */
+public interface TraceSink extends AutoCloseable {
+    /**
+     * A sink that discards everything; the default for a run.
+     */
+    TraceSink NONE = new TraceSink() {
+        @Override
+        public void onDispatch(int processId, int start, int end, int remainingBefore) {
+        }
+
+        @Override
+        public void onCompletion(int processId, int arrivalTime, int burstTime, int completionTime,
+                                 int responseTime, int turnaroundTime, int waitingTime) {
+        }
+    };
+
+    /**
+     * Called once before the first dispatch.
+     * @param algorithmName The display name of the algorithm being run.
+     */
+    default void onRunStart(String algorithmName) {
+    }
+
+    /**
+     * Called every time a process is given the CPU.
+     * @param processId The process that ran.
+     * @param start The time the slice began.
+     * @param end The time the slice ended.
+     * @param remainingBefore The burst time the process still needed when the slice began.
+     */
+    void onDispatch(int processId, int start, int end, int remainingBefore);
+
+    /**
+     * Called when the I/O device has served a blocked process, which is then ready again.
+     * @param processId The process that did I/O.
+     * @param blockedAt The time the process blocked and joined the device queue.
+     * @param start The time the device started its I/O burst.
+     * @param end The time the I/O burst ended.
+     */
+    default void onIo(int processId, int blockedAt, int start, int end) {
+    }
+
+    /**
+     * Called when a process terminates.
+     */
+    void onCompletion(int processId, int arrivalTime, int burstTime, int completionTime,
+                      int responseTime, int turnaroundTime, int waitingTime);
+
+    /**
+     * Called once after the last process terminates.
+     */
+    default void onRunEnd(double averageWaitingTime, double averageTurnaroundTime, double averageResponseTime) {
+    }
+
+    @Override
+    default void close() {
+    }
+}
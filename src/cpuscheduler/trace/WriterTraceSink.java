@@ -0,0 +1,85 @@
+package cpuscheduler.trace;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Streams trace lines to a character stream, such as a file, as the run progresses.
+ */
+public class WriterTraceSink implements TraceSink {
+    private final Writer out;
+    private final StringBuilder line = new StringBuilder(128);
+
+    public WriterTraceSink(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * Opens a buffered sink that writes to the given file, replacing any existing content.
+     * @param path The file to write.
+     * @return A sink that must be closed once the run finishes.
+     * @throws IOException If the file cannot be opened.
+     */
+    public static WriterTraceSink toFile(Path path) throws IOException {
+        return new WriterTraceSink(Files.newBufferedWriter(path, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void onRunStart(String algorithmName) {
+        line.setLength(0);
+        line.append("--- ").append(algorithmName).append(" Scheduling Logic ---");
+        writeLine();
+    }
+
+    @Override
+    public void onDispatch(int processId, int start, int end, int remainingBefore) {
+        line.setLength(0);
+        TraceFormat.dispatch(line, processId, start, end, remainingBefore);
+        writeLine();
+    }
+
+    @Override
+    public void onIo(int processId, int blockedAt, int start, int end) {
+        line.setLength(0);
+        TraceFormat.io(line, processId, blockedAt, start, end);
+        writeLine();
+    }
+
+    @Override
+    public void onCompletion(int processId, int arrivalTime, int burstTime, int completionTime,
+                             int responseTime, int turnaroundTime, int waitingTime) {
+        line.setLength(0);
+        TraceFormat.completion(line, processId, arrivalTime, burstTime, completionTime,
+                responseTime, turnaroundTime, waitingTime);
+        writeLine();
+    }
+
+    @Override
+    public void onRunEnd(double averageWaitingTime, double averageTurnaroundTime, double averageResponseTime) {
+        line.setLength(0);
+        line.append(String.format("Average Waiting Time: %.2f, Average Turnaround Time: %.2f, Average Response Time: %.2f",
+                averageWaitingTime, averageTurnaroundTime, averageResponseTime));
+        writeLine();
+    }
+
+    private void writeLine() {
+        try {
+            out.append(line).append('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            out.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
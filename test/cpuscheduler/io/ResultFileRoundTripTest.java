@@ -0,0 +1,139 @@
+package cpuscheduler.io;
+
+import cpuscheduler.GanttChart;
+import cpuscheduler.Process;
+import cpuscheduler.algorithms.RoundRobinSchedulingAlgorithm;
+import cpuscheduler.engine.EngineResult;
+import cpuscheduler.engine.RunOptions;
+import cpuscheduler.engine.Workload;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Writes a Round Robin run of more than one block of processes and slices to a result file, both
+ * streamed as the run's trace and from the finished result, and reads it back. Process ids fall
+ * and arrival times are random, so the completion order gives every column negative deltas.
+ */
+class ResultFileRoundTripTest {
+    private static final int PROCESSES = 2 * ResultFileFormat.BLOCK_RECORDS + 1_000;
+    private static final RoundRobinSchedulingAlgorithm ROUND_ROBIN = new RoundRobinSchedulingAlgorithm(4);
+
+    @TempDir
+    static Path directory;
+
+    private static EngineResult result;
+    private static Path streamed;
+    private static Path written;
+
+    @BeforeAll
+    static void writeBothWays() throws IOException {
+        SplittableRandom random = new SplittableRandom(1);
+        List<Process> processes = new ArrayList<>(PROCESSES);
+        for (int i = 0; i < PROCESSES; i++) {
+            processes.add(new Process(PROCESSES - i, 1 + random.nextInt(20), random.nextInt(10),
+                    random.nextInt(PROCESSES)));
+        }
+        result = ROUND_ROBIN.simulate(Workload.of(processes), RunOptions.WITH_GANTT);
+
+        streamed = directory.resolve("streamed.res");
+        try (ResultFileWriter writer = ResultFileWriter.open(streamed)) {
+            ROUND_ROBIN.schedule(processes, writer);
+        }
+        written = directory.resolve("written.res");
+        ResultFileWriter.write(ROUND_ROBIN.getName(), result, written);
+    }
+
+    @Test
+    void streamingAndWritingAFinishedResultGiveTheSameFile() throws IOException {
+        assertEquals(-1, Files.mismatch(streamed, written));
+    }
+
+    @Test
+    void theRunSpansSeveralBlocksWithNegativeDeltas() {
+        assertTrue(result.size() > ResultFileFormat.BLOCK_RECORDS);
+        assertTrue(result.gantt().size() > ResultFileFormat.BLOCK_RECORDS);
+        Workload workload = result.workload();
+        boolean falls = false;
+        for (int position = 1; position < result.size() && !falls; position++) {
+            falls = workload.processId(result.completedRow(position))
+                    < workload.processId(result.completedRow(position - 1));
+        }
+        assertTrue(falls);
+    }
+
+    @Test
+    void everyProcessReadsBack() throws IOException {
+        Workload workload = result.workload();
+        try (ResultFileReader reader = ResultFileReader.open(streamed)) {
+            assertEquals(result.size(), reader.processCount());
+            for (int position = 0; position < result.size(); position++) {
+                int row = result.completedRow(position);
+                assertEquals(workload.processId(row), reader.processId(position));
+                assertEquals(workload.arrivalTime(row), reader.arrivalTime(position));
+                assertEquals(workload.burstTime(row), reader.burstTime(position));
+                assertEquals(result.completionTime(row), reader.completionTime(position));
+                assertEquals(result.responseTime(row), reader.responseTime(position));
+                assertEquals(result.turnaroundTime(row), reader.turnaroundTime(position));
+                assertEquals(result.waitingTime(row), reader.waitingTime(position));
+            }
+        }
+    }
+
+    @Test
+    void theFooterReadsBack() throws IOException {
+        try (ResultFileReader reader = ResultFileReader.open(streamed)) {
+            assertEquals(ROUND_ROBIN.getName(), reader.algorithmName());
+            assertEquals(result.averageWaitingTime(), reader.averageWaitingTime());
+            assertEquals(result.averageTurnaroundTime(), reader.averageTurnaroundTime());
+            assertEquals(result.averageResponseTime(), reader.averageResponseTime());
+            assertEquals(result.contextSwitches(), reader.contextSwitches());
+        }
+    }
+
+    @Test
+    void everySliceReadsBack() throws IOException {
+        GanttChart expected = result.gantt();
+        try (ResultFileReader reader = ResultFileReader.open(streamed)) {
+            assertEquals(expected.size(), reader.sliceCount());
+            GanttChart actual = reader.gantt();
+            assertEquals(expected.size(), actual.size());
+            for (int slice = 0; slice < expected.size(); slice++) {
+                assertEquals(expected.processId(slice), reader.sliceProcessId(slice));
+                assertEquals(expected.start(slice), reader.sliceStart(slice));
+                assertEquals(expected.end(slice), reader.sliceEnd(slice));
+                assertEquals(expected.processId(slice), actual.processId(slice));
+                assertEquals(expected.start(slice), actual.start(slice));
+                assertEquals(expected.end(slice), actual.end(slice));
+            }
+        }
+    }
+
+    @Test
+    void theCsvExportHasOneLinePerProcessInCompletionOrder() throws IOException {
+        Path csv = directory.resolve("result.csv");
+        try (ResultFileReader reader = ResultFileReader.open(written)) {
+            reader.exportCsv(csv);
+        }
+        List<String> lines = Files.readAllLines(csv);
+        assertEquals(result.size() + 1, lines.size());
+        assertEquals("pid,arrival,burst,completion,response,turnaround,waiting", lines.get(0));
+        Workload workload = result.workload();
+        for (int position = 0; position < result.size(); position++) {
+            int row = result.completedRow(position);
+            assertEquals(workload.processId(row) + "," + workload.arrivalTime(row) + "," + workload.burstTime(row)
+                    + "," + result.completionTime(row) + "," + result.responseTime(row) + ","
+                    + result.turnaroundTime(row) + "," + result.waitingTime(row), lines.get(position + 1));
+        }
+    }
+}
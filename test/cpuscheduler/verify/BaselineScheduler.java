@@ -0,0 +1,161 @@
+package cpuscheduler.verify;
+
+import cpuscheduler.Process;
+import cpuscheduler.engine.Workload;
+import cpuscheduler.verify.ReferenceScheduler.Algorithm;
+import cpuscheduler.verify.ReferenceScheduler.Schedule;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * The FCFS, SJF, Priority and Round Robin schedulers the engines replaced, copied from the
+ * {@code schedule()} loops of the original {@code SchedulingAlgorithm} and
+ * {@code RoundRobinSchedulingAlgorithm}. Only the console output and the text Gantt chart are left
+ * out, and the Round Robin quantum is a parameter rather than a static field.
+ *
+ * <p>Like the original, it models processes that all arrive at time 0: FCFS runs them in list
+ * order, SJF and Priority sort the list by burst time or priority number, keeping list order among
+ * equal keys, and Round Robin cycles through the list, re-queueing a process while its remaining
+ * time exceeds the quantum. The engines and the {@link ReferenceScheduler} must give the same
+ * times on such workloads.
+ */
+final class BaselineScheduler {
+    private BaselineScheduler() {
+    }
+
+    /**
+     * Schedules a workload the way the original algorithms did.
+     * @param workload The processes, all arriving at time 0, with distinct ids.
+     * @param algorithm FCFS, SJF, PRIORITY or ROUND_ROBIN.
+     * @param quantumTime The time slice for ROUND_ROBIN; ignored by the other algorithms.
+     * @return The per-process times, by workload row.
+     */
+    static Schedule run(Workload workload, Algorithm algorithm, int quantumTime) {
+        List<Process> processes = new ArrayList<>(workload.size());
+        Map<Integer, Integer> rows = new HashMap<>();
+        for (int row = 0; row < workload.size(); row++) {
+            if (workload.arrivalTime(row) != 0) {
+                throw new IllegalArgumentException("The baseline only models processes arriving at time 0.");
+            }
+            processes.add(new Process(workload.processId(row), workload.burstTime(row), workload.priority(row)));
+            rows.put(workload.processId(row), row);
+        }
+        List<Process> completed = switch (algorithm) {
+            case FCFS -> schedule(getProcesses(processes));
+            case SJF -> schedule(sortedProcesses(processes, Comparator.comparingInt(Process::getBurstTime)));
+            case PRIORITY -> schedule(sortedProcesses(processes, Comparator.comparingInt(Process::getPriority)));
+            case ROUND_ROBIN -> scheduleRoundRobin(getProcesses(processes), quantumTime);
+            default -> throw new IllegalArgumentException("The baseline has no " + algorithm + ".");
+        };
+
+        int n = workload.size();
+        int[] start = new int[n];
+        int[] completion = new int[n];
+        int[] waiting = new int[n];
+        int[] turnaround = new int[n];
+        int[] response = new int[n];
+        for (Process p : completed) {
+            int row = rows.get(p.getProcessId());
+            start[row] = p.getStartTime();
+            completion[row] = p.getCompletionTime();
+            waiting[row] = p.getWaitingTime();
+            turnaround[row] = p.getTurnaroundTime();
+            response[row] = p.getResponseTime();
+        }
+        return new Schedule(start, completion, waiting, turnaround, response);
+    }
+
+    // SchedulingAlgorithm.schedule
+    private static List<Process> schedule(Queue<Process> readyQueue) {
+        List<Process> completedProcesses = new ArrayList<>();
+        int currentTime = 0;
+
+        while (!readyQueue.isEmpty()) {
+            Process currentProcess = readyQueue.poll();
+            currentProcess.setState("Running"); // Conceptual state during its execution turn
+
+            currentProcess.setStartTime(currentTime);
+            currentProcess.setCompletionTime(currentTime + currentProcess.getBurstTime());
+            currentProcess.setResponseTime(currentTime - currentProcess.getArrivalTime());
+            currentProcess.setTurnaroundTime(currentProcess.getCompletionTime() - currentProcess.getArrivalTime());
+            currentProcess.setWaitingTime(currentProcess.getTurnaroundTime() - currentProcess.getBurstTime());
+
+            currentTime = currentProcess.getCompletionTime();
+            currentProcess.setState("Terminated");
+            completedProcesses.add(currentProcess);
+        }
+        return completedProcesses;
+    }
+
+    // RoundRobinSchedulingAlgorithm.schedule
+    private static List<Process> scheduleRoundRobin(Queue<Process> readyQueue, int quantumTime) {
+        List<Process> completedProcesses = new ArrayList<>();
+        int currentTime = 0;
+
+        // Map each process ID to its remaining burst time
+        Map<Integer, Integer> processBurstTimeMap = new HashMap<>();
+        while (!readyQueue.isEmpty()) {
+            Process currentProcess = readyQueue.poll();
+            int currentProcessId = currentProcess.getProcessId();
+            int currentProcessBurstTime = currentProcess.getBurstTime();
+
+            if (!processBurstTimeMap.containsKey(currentProcessId)) {
+                processBurstTimeMap.put(currentProcessId, currentProcessBurstTime);
+                currentProcess.setResponseTime(currentTime - currentProcess.getArrivalTime());
+                currentProcess.setStartTime(currentTime);
+            }
+
+            currentProcess.setState("Running");
+
+            int remainingBurstTime = processBurstTimeMap.get(currentProcessId);
+            if (remainingBurstTime > quantumTime) {
+                currentProcess.setWaitingTime(currentTime - currentProcess.getArrivalTime() - (currentProcessBurstTime - remainingBurstTime));
+                processBurstTimeMap.put(currentProcessId, remainingBurstTime - quantumTime);
+                currentTime += quantumTime;
+                currentProcess.setState("Ready");
+                readyQueue.add(currentProcess);
+            }
+            else {
+                currentTime += remainingBurstTime;
+                currentProcess.setCompletionTime(currentTime);
+                currentProcess.setTurnaroundTime(currentProcess.getCompletionTime() - currentProcess.getArrivalTime());
+                currentProcess.setWaitingTime(currentProcess.getTurnaroundTime() - currentProcessBurstTime);
+                currentProcess.setState("Terminated");
+                completedProcesses.add(currentProcess);
+            }
+        }
+        return completedProcesses;
+    }
+
+    // SchedulingAlgorithm.getProcesses
+    private static Queue<Process> getProcesses(List<Process> processes) {
+        List<Process> localProcessList = cloneProcesses(processes);
+
+        return new LinkedList<>(localProcessList);
+    }
+
+    // SJFSchedulingAlgorithm and PrioritySchedulingAlgorithm.getProcesses
+    private static Queue<Process> sortedProcesses(List<Process> processes, Comparator<Process> order) {
+        List<Process> localProcessList = cloneProcesses(processes);
+
+        localProcessList.sort(order);
+
+        return new LinkedList<>(localProcessList);
+    }
+
+    // SchedulingAlgorithm.cloneProcesses
+    private static List<Process> cloneProcesses(List<Process> processes) {
+        List<Process> localProcessList = new ArrayList<>();
+        for (Process p : processes) {
+            Process processCopy = new Process(p.getProcessId(), p.getBurstTime(), p.getPriority());
+            localProcessList.add(processCopy);
+        }
+        return localProcessList;
+    }
+}
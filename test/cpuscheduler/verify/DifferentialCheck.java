@@ -0,0 +1,657 @@
+package cpuscheduler.verify;
+
+import cpuscheduler.algorithms.CFSSchedulingAlgorithm;
+import cpuscheduler.algorithms.FCFSSchedulingAlgorithm;
+import cpuscheduler.algorithms.MLFQSchedulingAlgorithm;
+import cpuscheduler.algorithms.PreemptivePrioritySchedulingAlgorithm;
+import cpuscheduler.algorithms.PrioritySchedulingAlgorithm;
+import cpuscheduler.algorithms.RoundRobinSchedulingAlgorithm;
+import cpuscheduler.algorithms.SJFSchedulingAlgorithm;
+import cpuscheduler.algorithms.SRTFSchedulingAlgorithm;
+import cpuscheduler.algorithms.SchedulingAlgorithm;
+import cpuscheduler.engine.EngineResult;
+import cpuscheduler.engine.EventSimulator;
+import cpuscheduler.engine.HeadlessScheduler;
+import cpuscheduler.engine.IncrementalScheduler;
+import cpuscheduler.engine.MultiCoreConfig;
+import cpuscheduler.engine.MultiCoreSimulator;
+import cpuscheduler.engine.RoundRobinEngine;
+import cpuscheduler.engine.RoundRobinPolicy;
+import cpuscheduler.engine.RunOptions;
+import cpuscheduler.engine.Workload;
+import cpuscheduler.verify.ReferenceScheduler.Algorithm;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+
+/**
+ * Checks every optimized way of running FCFS, SJF, Priority, SRTF, preemptive Priority, Round
+ * Robin, MLFQ and CFS against the {@link ReferenceScheduler}: the event simulator, the Round Robin
+ * engine with and without its analytic fast-forward, the headless scheduler, a one-core multi-core
+ * run and the incremental scheduler, including after processes are added and removed.
+ *
+ * <p>Two kinds of check run:
+ * <ul>
+ *   <li>The {@link #TIE_BREAK_RULES}, small hand-made workloads whose completion times follow
+ *       from one tie-break rule each. The reference and every path must give those times.</li>
+ *   <li>Random workloads, with few distinct arrival, burst and priority values so that ties are
+ *       common, and an occasional zero burst. A path that disagrees with the reference on any completion, waiting, turnaround
+ *       or response time, or throws, fails; its workload is then shrunk, by dropping processes
+ *       and lowering values while the failure persists, to a minimal one that still fails.</li>
+ *   <li>The {@link #BASELINES}: random workloads whose processes all arrive at time 0, on which
+ *       the FCFS, SJF, Priority and Round Robin references, and every path checked against them,
+ *       must give the same times as the original algorithms in the {@link BaselineScheduler}.
+ *       Failures are shrunk the same way.</li>
+ * </ul>
+ * MLFQ and CFS take their settings from the case's quantum q: levels of q, 2q and 4q with a boost
+ * every 6q of CPU time, and a target latency of 4q, a minimum granularity of (q + 1) / 2 and a
+ * wakeup granularity of q - 1.
+ *
+ * <p>{@code DifferentialCheckTest} runs all three checks in {@code mvn test}. A seed gives the same
+ * workloads on every run, so a failure can be replayed.
+ */
+public final class DifferentialCheck {
+    /**
+     * Runs one algorithm over a workload through one engine.
+     */
+    @FunctionalInterface
+    public interface Runner {
+        /**
+         * @param workload The processes.
+         * @param quantumTime The time slice for Round Robin; ignored by the other algorithms.
+         * @return The result of the run.
+         */
+        EngineResult run(Workload workload, int quantumTime);
+    }
+
+    /**
+     * Runs one algorithm over a workload through the reference scheduler.
+     */
+    @FunctionalInterface
+    public interface Reference {
+        /**
+         * @param workload The processes.
+         * @param quantumTime The time slice for Round Robin, or the q that MLFQ and CFS settings
+         *                    are derived from; ignored by the other algorithms.
+         * @return The per-process times.
+         */
+        ReferenceScheduler.Schedule run(Workload workload, int quantumTime);
+    }
+
+    /**
+     * An optimized path and the reference it must agree with.
+     */
+    public record Path(String name, Reference reference, Runner runner) {
+    }
+
+    /**
+     * A workload and the Round Robin quantum to run it with.
+     */
+    public record Case(Workload workload, int quantumTime) {
+        /**
+         * Lists the processes as trace CSV lines, {@code pid,arrival,burst,priority}.
+         */
+        public String toCsv() {
+            StringBuilder csv = new StringBuilder();
+            for (int row = 0; row < workload.size(); row++) {
+                csv.append(workload.processId(row)).append(',').append(workload.arrivalTime(row)).append(',')
+                        .append(workload.burstTime(row)).append(',').append(workload.priority(row)).append('\n');
+            }
+            return csv.toString();
+        }
+    }
+
+    /**
+     * A path that disagreed with its reference, or a path or reference that disagreed with the
+     * baseline.
+     * @param name The path or reference and what it was compared with.
+     * @param failing The smallest case found that still fails.
+     * @param message The first difference on that case.
+     * @param originalSize The number of processes of the random case before shrinking.
+     */
+    public record Failure(String name, Case failing, String message, int originalSize) {
+    }
+
+    /**
+     * A reference and the original algorithm it must agree with on processes that all arrive at
+     * time 0.
+     * @param name The algorithm.
+     * @param reference The reference, and through it every path checked against it.
+     * @param baseline The original algorithm, run by the {@link BaselineScheduler}.
+     */
+    public record Baseline(String name, Reference reference, Reference baseline) {
+    }
+
+    /**
+     * Compares two schedulers on one case.
+     */
+    @FunctionalInterface
+    private interface Comparison {
+        /**
+         * @return The first difference, or null if they agree.
+         */
+        String difference(Case checked);
+    }
+
+    /**
+     * A tie-break rule with a workload that depends on it.
+     * @param rule The rule, as documented.
+     * @param reference The reference of the algorithm the rule applies to; it applies to every path
+     *                  checked against that reference.
+     * @param example The workload and quantum.
+     * @param expectedCompletions The completion time of every row under the rule.
+     */
+    public record TieBreakRule(String rule, Reference reference, Case example, int[] expectedCompletions) {
+    }
+
+    // The references every path and rule is checked against; rules match paths by reference
+    public static final Reference FCFS =
+            (workload, quantum) -> ReferenceScheduler.run(workload, Algorithm.FCFS, quantum);
+    public static final Reference SJF =
+            (workload, quantum) -> ReferenceScheduler.run(workload, Algorithm.SJF, quantum);
+    public static final Reference PRIORITY =
+            (workload, quantum) -> ReferenceScheduler.run(workload, Algorithm.PRIORITY, quantum);
+    public static final Reference SRTF =
+            (workload, quantum) -> ReferenceScheduler.run(workload, Algorithm.SRTF, quantum);
+    public static final Reference PREEMPTIVE_PRIORITY =
+            (workload, quantum) -> ReferenceScheduler.run(workload, Algorithm.PREEMPTIVE_PRIORITY, quantum);
+    public static final Reference ROUND_ROBIN =
+            (workload, quantum) -> ReferenceScheduler.run(workload, Algorithm.ROUND_ROBIN, quantum);
+    public static final Reference MLFQ = (workload, quantum) ->
+            ReferenceScheduler.mlfq(workload, mlfqQuanta(quantum), mlfqBoostPeriod(quantum));
+    public static final Reference CFS = (workload, quantum) ->
+            ReferenceScheduler.cfs(workload, cfsTargetLatency(quantum), cfsMinGranularity(quantum),
+                    cfsWakeupGranularity(quantum));
+
+    /**
+     * The tie-break rules every engine follows.
+     */
+    public static final List<TieBreakRule> TIE_BREAK_RULES = List.of(
+            rule("FCFS: processes arriving at the same instant run in workload row order.",
+                    FCFS, 0, new int[][]{{0, 3, 0}, {0, 1, 0}, {0, 2, 0}}, 3, 4, 6),
+            rule("SJF: equal burst times go to the lower workload row, even if it arrived later.",
+                    SJF, 0, new int[][]{{0, 3, 0}, {2, 2, 0}, {1, 2, 0}}, 3, 5, 7),
+            rule("Priority: the lowest priority number runs first; equal numbers go to the lower row.",
+                    PRIORITY, 0, new int[][]{{0, 2, 5}, {1, 1, 3}, {1, 1, 1}, {1, 1, 3}}, 2, 4, 3, 5),
+            rule("Non-preemptive: a process arriving at the instant the CPU frees up competes for it.",
+                    SJF, 0, new int[][]{{0, 2, 0}, {0, 5, 0}, {2, 1, 0}}, 2, 8, 3),
+            rule("Round Robin: a process whose quantum expires goes behind processes arriving at that instant.",
+                    ROUND_ROBIN, 2, new int[][]{{0, 4, 0}, {2, 2, 0}}, 6, 4),
+            rule("Round Robin: a process alone in the ready queue keeps the CPU; an idle CPU waits for the next arrival.",
+                    ROUND_ROBIN, 1, new int[][]{{0, 3, 0}, {5, 1, 0}}, 3, 6),
+            rule("SRTF: an arrival preempts when its burst is shorter than the running process's remaining time.",
+                    SRTF, 0, new int[][]{{0, 5, 0}, {1, 3, 0}}, 8, 4),
+            rule("SRTF: an arrival whose burst equals the remaining time does not preempt.",
+                    SRTF, 0, new int[][]{{0, 4, 0}, {1, 3, 0}}, 4, 7),
+            rule("Preemptive Priority: a lower priority number preempts, an equal one does not.",
+                    PREEMPTIVE_PRIORITY, 0, new int[][]{{0, 3, 2}, {1, 1, 2}, {2, 1, 1}}, 4, 5, 3),
+            rule("MLFQ: an arrival preempts a process on a lower level, which keeps the time it used there.",
+                    MLFQ, 1, new int[][]{{0, 4, 0}, {2, 1, 0}}, 5, 3),
+            rule("CFS: an arrival preempts when the running process is ahead by more than the wakeup granularity.",
+                    CFS, 2, new int[][]{{0, 6, 0}, {1, 1, 0}, {2, 1, 0}}, 8, 3, 4));
+
+    /**
+     * The algorithms the original code had, whose references and paths are checked against it.
+     */
+    public static final List<Baseline> BASELINES = List.of(
+            baseline("FCFS", FCFS, Algorithm.FCFS),
+            baseline("SJF", SJF, Algorithm.SJF),
+            baseline("Priority", PRIORITY, Algorithm.PRIORITY),
+            baseline("Round Robin", ROUND_ROBIN, Algorithm.ROUND_ROBIN));
+
+    /**
+     * The paths checked by default.
+     */
+    public static final List<Path> PATHS = defaultPaths();
+
+    private DifferentialCheck() {
+    }
+
+    /**
+     * Checks the reference and every path against the tie-break rules.
+     * @param paths The paths to check.
+     * @return One message per rule and path that gave other completion times; empty if all agree.
+     */
+    public static List<String> checkRules(List<Path> paths) {
+        List<String> failures = new ArrayList<>();
+        for (TieBreakRule rule : TIE_BREAK_RULES) {
+            Case ruleCase = rule.example();
+            int[] reference = rule.reference().run(ruleCase.workload(), ruleCase.quantumTime()).completionTimes();
+            String difference = completionDifference(ruleCase.workload(), rule.expectedCompletions(), reference);
+            if (difference != null) {
+                failures.add("reference: " + rule.rule() + " " + difference);
+            }
+            for (Path path : paths) {
+                if (path.reference() != rule.reference()) {
+                    continue;
+                }
+                try {
+                    EngineResult result = path.runner().run(ruleCase.workload(), ruleCase.quantumTime());
+                    int[] completions = new int[ruleCase.workload().size()];
+                    for (int row = 0; row < completions.length; row++) {
+                        completions[row] = result.completionTime(row);
+                    }
+                    difference = completionDifference(ruleCase.workload(), rule.expectedCompletions(), completions);
+                } catch (RuntimeException e) {
+                    difference = "threw " + e;
+                }
+                if (difference != null) {
+                    failures.add(path.name() + ": " + rule.rule() + " " + difference);
+                }
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Checks every path against the reference on random workloads. Each path reports at most its
+     * first failure, shrunk.
+     * @param paths The paths to check.
+     * @param cases The number of random workloads.
+     * @param seed The seed; the same seed gives the same workloads.
+     * @param maxProcesses The most processes in one workload.
+     * @return The failures, one per failing path; empty if every path agrees on every workload.
+     */
+    public static List<Failure> check(List<Path> paths, int cases, long seed, int maxProcesses) {
+        Map<String, Comparison> comparisons = new LinkedHashMap<>();
+        for (Path path : paths) {
+            comparisons.put(path.name(), checked -> compare(path, checked));
+        }
+        return check(comparisons, cases, seed, maxProcesses, false);
+    }
+
+    /**
+     * Checks every reference with a {@link #BASELINES baseline}, and every path checked against
+     * such a reference, against the original algorithm on random workloads whose processes all
+     * arrive at time 0, the only ones it models. Each reports at most its first failure, shrunk.
+     * @param paths The paths to check.
+     * @param cases The number of random workloads.
+     * @param seed The seed; the same seed gives the same workloads.
+     * @param maxProcesses The most processes in one workload.
+     * @return The failures, one per failing reference or path; empty if all agree on every workload.
+     */
+    public static List<Failure> checkBaselines(List<Path> paths, int cases, long seed, int maxProcesses) {
+        Map<String, Comparison> comparisons = new LinkedHashMap<>();
+        for (Baseline baseline : BASELINES) {
+            comparisons.put("Reference " + baseline.name() + " vs baseline", checked -> difference(checked.workload(),
+                    baseline.baseline().run(checked.workload(), checked.quantumTime()),
+                    baseline.reference().run(checked.workload(), checked.quantumTime())));
+            for (Path path : paths) {
+                if (path.reference() == baseline.reference()) {
+                    comparisons.put(path.name() + " vs baseline",
+                            checked -> compare(baseline.baseline(), path.runner(), checked));
+                }
+            }
+        }
+        return check(comparisons, cases, seed, maxProcesses, true);
+    }
+
+    private static List<Failure> check(Map<String, Comparison> comparisons, int cases, long seed, int maxProcesses,
+                                       boolean simultaneous) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Failure> failures = new ArrayList<>();
+        Map<String, Comparison> remaining = new LinkedHashMap<>(comparisons);
+        for (int i = 0; i < cases && !remaining.isEmpty(); i++) {
+            Case randomCase = randomCase(random, maxProcesses, simultaneous);
+            for (Iterator<Map.Entry<String, Comparison>> it = remaining.entrySet().iterator(); it.hasNext(); ) {
+                Map.Entry<String, Comparison> entry = it.next();
+                Comparison comparison = entry.getValue();
+                if (comparison.difference(randomCase) != null) {
+                    Case shrunk = shrink(comparison, randomCase);
+                    failures.add(new Failure(entry.getKey(), shrunk, comparison.difference(shrunk),
+                            randomCase.workload().size()));
+                    it.remove();
+                }
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Describes a failure with its shrunk workload, one trace CSV line per process.
+     */
+    public static String describe(Failure failure) {
+        StringBuilder description = new StringBuilder()
+                .append(failure.name()).append(": ").append(failure.message()).append('\n')
+                .append("  shrunk from ").append(failure.originalSize()).append(" to ")
+                .append(failure.failing().workload().size()).append(" processes, quantum ")
+                .append(failure.failing().quantumTime()).append(" (pid,arrival,burst,priority):\n");
+        for (String line : failure.failing().toCsv().split("\n")) {
+            description.append("  ").append(line).append('\n');
+        }
+        return description.toString();
+    }
+
+    /**
+     * Runs one path and the reference on a case.
+     * @return The first difference, or null if they agree.
+     */
+    public static String compare(Path path, Case checked) {
+        return compare(path.reference(), path.runner(), checked);
+    }
+
+    private static String compare(Reference reference, Runner runner, Case checked) {
+        Workload workload = checked.workload();
+        ReferenceScheduler.Schedule expected = reference.run(workload, checked.quantumTime());
+        EngineResult actual;
+        try {
+            actual = runner.run(workload, checked.quantumTime());
+        } catch (RuntimeException e) {
+            return "threw " + e;
+        }
+        if (actual.size() != workload.size()) {
+            return "returned " + actual.size() + " processes instead of " + workload.size();
+        }
+        int n = workload.size();
+        int[][] columns = new int[4][n];
+        for (int row = 0; row < n; row++) {
+            columns[0][row] = actual.completionTime(row);
+            columns[1][row] = actual.waitingTime(row);
+            columns[2][row] = actual.turnaroundTime(row);
+            columns[3][row] = actual.responseTime(row);
+        }
+        return difference(workload, expected, new ReferenceScheduler.Schedule(new int[n], columns[0], columns[1],
+                columns[2], columns[3]));
+    }
+
+    /**
+     * Compares the completion, waiting, turnaround and response times of two schedules.
+     * @return The first difference, or null if they agree.
+     */
+    private static String difference(Workload workload, ReferenceScheduler.Schedule expected,
+                                     ReferenceScheduler.Schedule actual) {
+        for (int row = 0; row < workload.size(); row++) {
+            String difference = difference(workload, row, "completion", expected.completionTimes()[row],
+                    actual.completionTimes()[row]);
+            if (difference == null) {
+                difference = difference(workload, row, "waiting", expected.waitingTimes()[row],
+                        actual.waitingTimes()[row]);
+            }
+            if (difference == null) {
+                difference = difference(workload, row, "turnaround", expected.turnaroundTimes()[row],
+                        actual.turnaroundTimes()[row]);
+            }
+            if (difference == null) {
+                difference = difference(workload, row, "response", expected.responseTimes()[row],
+                        actual.responseTimes()[row]);
+            }
+            if (difference != null) {
+                return difference;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Shrinks a failing case: drops processes, then lowers quanta, bursts, arrivals and priorities,
+     * keeping every change after which the path still fails, until no single change does.
+     * @param path The failing path.
+     * @param failing A case on which it fails.
+     * @return A case on which it still fails and that no single step makes smaller.
+     */
+    public static Case shrink(Path path, Case failing) {
+        return shrink(checked -> compare(path, checked), failing);
+    }
+
+    private static Case shrink(Comparison comparison, Case failing) {
+        Case current = failing;
+        boolean shrunk = true;
+        while (shrunk) {
+            shrunk = false;
+            for (Case candidate : smaller(current)) {
+                if (comparison.difference(candidate) != null) {
+                    current = candidate;
+                    shrunk = true;
+                    break;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Lists the cases one step smaller than a case, the biggest steps first.
+     */
+    private static List<Case> smaller(Case current) {
+        Workload workload = current.workload();
+        int n = workload.size();
+        int[][] columns = columns(workload);
+        List<Case> candidates = new ArrayList<>();
+        for (int row = 0; n > 1 && row < n; row++) {
+            candidates.add(new Case(without(columns, row), current.quantumTime()));
+        }
+        for (int quantum : lower(current.quantumTime(), 1)) {
+            candidates.add(new Case(workload, quantum));
+        }
+        // Columns: 1 burst, 2 priority, 3 arrival
+        for (int column = 1; column <= 3; column++) {
+            for (int row = 0; row < n; row++) {
+                for (int value : lower(columns[column][row], 0)) {
+                    int[][] changed = copy(columns);
+                    changed[column][row] = value;
+                    candidates.add(new Case(new Workload(changed[0], changed[1], changed[2], changed[3]),
+                            current.quantumTime()));
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Lists smaller values down to a floor: the floor itself, half way, and one less.
+     */
+    private static int[] lower(int value, int floor) {
+        if (value <= floor) {
+            return new int[0];
+        }
+        int half = floor + (value - floor) / 2;
+        if (value - 1 == floor) {
+            return new int[]{floor};
+        }
+        return half == floor || half == value - 1 ? new int[]{floor, value - 1} : new int[]{floor, half, value - 1};
+    }
+
+    private static Case randomCase(SplittableRandom random, int maxProcesses, boolean simultaneous) {
+        int n = 1 + random.nextInt(maxProcesses);
+        // Few distinct values, so equal arrivals, bursts, priorities and remaining times are common
+        int arrivalSpread = random.nextInt(4) == 0 ? 1 : 1 + random.nextInt(2 * n);
+        int longestBurst = 1 + random.nextInt(12);
+        int priorityLevels = 1 + random.nextInt(4);
+        int[] processIds = new int[n];
+        int[] burstTimes = new int[n];
+        int[] priorities = new int[n];
+        int[] arrivalTimes = new int[n];
+        for (int row = 0; row < n; row++) {
+            processIds[row] = row + 1;
+            // Now and then a zero burst, which completes the instant it is dispatched
+            burstTimes[row] = random.nextInt(10) == 0 ? 0 : 1 + random.nextInt(longestBurst);
+            priorities[row] = random.nextInt(priorityLevels);
+            arrivalTimes[row] = simultaneous ? 0 : random.nextInt(arrivalSpread);
+        }
+        return new Case(new Workload(processIds, burstTimes, priorities, arrivalTimes), 1 + random.nextInt(5));
+    }
+
+    private static List<Path> defaultPaths() {
+        List<Path> paths = new ArrayList<>();
+        nonPreemptivePaths(paths, FCFS, new FCFSSchedulingAlgorithm(), HeadlessScheduler.Policy.FCFS);
+        nonPreemptivePaths(paths, SJF, new SJFSchedulingAlgorithm(), HeadlessScheduler.Policy.SJF);
+        nonPreemptivePaths(paths, PRIORITY, new PrioritySchedulingAlgorithm(), HeadlessScheduler.Policy.PRIORITY);
+        algorithmPaths(paths, SRTF, new SRTFSchedulingAlgorithm());
+        algorithmPaths(paths, PREEMPTIVE_PRIORITY, new PreemptivePrioritySchedulingAlgorithm());
+
+        paths.add(new Path("Round Robin/fast-forward", ROUND_ROBIN,
+                (workload, quantum) -> new RoundRobinSchedulingAlgorithm(quantum).simulate(workload, RunOptions.HEADLESS)));
+        paths.add(new Path("Round Robin/gantt", ROUND_ROBIN,
+                (workload, quantum) -> new RoundRobinSchedulingAlgorithm(quantum).simulate(workload, RunOptions.WITH_GANTT)));
+        paths.add(new Path("RoundRobinEngine/stepped", ROUND_ROBIN,
+                (workload, quantum) -> RoundRobinEngine.run(workload, quantum, RunOptions.HEADLESS, false)));
+        paths.add(new Path("EventSimulator/RoundRobinPolicy", ROUND_ROBIN,
+                (workload, quantum) -> EventSimulator.run(workload, new RoundRobinPolicy(quantum))));
+        paths.add(new Path("HeadlessScheduler/ROUND_ROBIN", ROUND_ROBIN,
+                (workload, quantum) -> HeadlessScheduler.run(workload, HeadlessScheduler.Policy.ROUND_ROBIN, quantum)));
+        paths.add(new Path("MultiCoreSimulator/ROUND_ROBIN/1 core", ROUND_ROBIN,
+                (workload, quantum) -> MultiCoreSimulator.run(workload, HeadlessScheduler.Policy.ROUND_ROBIN, quantum,
+                        MultiCoreConfig.global(1), RunOptions.HEADLESS).processes()));
+
+        configuredPaths(paths, MLFQ, quantum -> new MLFQSchedulingAlgorithm(mlfqQuanta(quantum),
+                mlfqBoostPeriod(quantum)));
+        configuredPaths(paths, CFS, quantum -> new CFSSchedulingAlgorithm(cfsTargetLatency(quantum),
+                cfsMinGranularity(quantum), cfsWakeupGranularity(quantum)));
+        return List.copyOf(paths);
+    }
+
+    private static int[] mlfqQuanta(int quantum) {
+        return new int[]{quantum, 2 * quantum, 4 * quantum};
+    }
+
+    private static long mlfqBoostPeriod(int quantum) {
+        return 6L * quantum;
+    }
+
+    private static int cfsTargetLatency(int quantum) {
+        return 4 * quantum;
+    }
+
+    private static int cfsMinGranularity(int quantum) {
+        return (quantum + 1) / 2;
+    }
+
+    private static int cfsWakeupGranularity(int quantum) {
+        return quantum - 1;
+    }
+
+    /**
+     * Adds the paths of an algorithm whose settings depend on the case's quantum.
+     */
+    private static void configuredPaths(List<Path> paths, Reference reference,
+                                        IntFunction<SchedulingAlgorithm> algorithm) {
+        String name = algorithm.apply(1).getName();
+        paths.add(new Path(name + "/simulate", reference,
+                (workload, quantum) -> algorithm.apply(quantum).simulate(workload, RunOptions.HEADLESS)));
+        paths.add(new Path(name + "/gantt", reference,
+                (workload, quantum) -> algorithm.apply(quantum).simulate(workload, RunOptions.WITH_GANTT)));
+    }
+
+    private static void algorithmPaths(List<Path> paths, Reference reference, SchedulingAlgorithm algorithm) {
+        paths.add(new Path(algorithm.getName() + "/simulate", reference,
+                (workload, _) -> algorithm.simulate(workload, RunOptions.HEADLESS)));
+        paths.add(new Path(algorithm.getName() + "/gantt", reference,
+                (workload, _) -> algorithm.simulate(workload, RunOptions.WITH_GANTT)));
+    }
+
+    private static void nonPreemptivePaths(List<Path> paths, Reference reference, SchedulingAlgorithm algorithm,
+                                           HeadlessScheduler.Policy policy) {
+        algorithmPaths(paths, reference, algorithm);
+        paths.add(new Path("HeadlessScheduler/" + policy, reference,
+                (workload, quantum) -> HeadlessScheduler.run(workload, policy, quantum)));
+        paths.add(new Path("MultiCoreSimulator/" + policy + "/1 core", reference,
+                (workload, quantum) -> MultiCoreSimulator.run(workload, policy, quantum, MultiCoreConfig.global(1),
+                        RunOptions.HEADLESS).processes()));
+        paths.add(new Path("IncrementalScheduler/" + policy, reference,
+                (workload, _) -> IncrementalScheduler.of(policy, workload).result()));
+        paths.add(new Path("IncrementalScheduler/" + policy + "/edited", reference,
+                (workload, _) -> edited(policy, workload)));
+    }
+
+    /**
+     * Builds an incremental schedule the way an interactive user would: half the processes, a
+     * result, the rest, a result, then an extra process that is added and removed again, so the
+     * final result resumes from checkpoints of earlier ones.
+     */
+    private static EngineResult edited(HeadlessScheduler.Policy policy, Workload workload) {
+        IncrementalScheduler scheduler = new IncrementalScheduler(policy, 2, false);
+        int n = workload.size();
+        for (int row = 0; row < n; row++) {
+            if (row == n / 2) {
+                scheduler.result();
+            }
+            scheduler.add(workload.processId(row), workload.burstTime(row), workload.priority(row),
+                    workload.arrivalTime(row));
+        }
+        scheduler.result();
+        scheduler.add(n + 1, 1, 0, workload.arrivalTime(n / 2));
+        scheduler.result();
+        scheduler.remove(n);
+        return scheduler.result();
+    }
+
+    private static Baseline baseline(String name, Reference reference, Algorithm algorithm) {
+        return new Baseline(name, reference, (workload, quantum) -> BaselineScheduler.run(workload, algorithm, quantum));
+    }
+
+    private static TieBreakRule rule(String rule, Reference reference, int quantumTime, int[][] processes,
+                                     int... expectedCompletions) {
+        // Each process is {arrival, burst, priority}; ids run from 1 in row order
+        int n = processes.length;
+        int[][] columns = new int[4][n];
+        for (int row = 0; row < n; row++) {
+            columns[0][row] = row + 1;
+            columns[1][row] = processes[row][1];
+            columns[2][row] = processes[row][2];
+            columns[3][row] = processes[row][0];
+        }
+        Workload workload = new Workload(columns[0], columns[1], columns[2], columns[3]);
+        return new TieBreakRule(rule, reference, new Case(workload, quantumTime), expectedCompletions);
+    }
+
+    private static String completionDifference(Workload workload, int[] expected, int[] actual) {
+        for (int row = 0; row < expected.length; row++) {
+            String difference = difference(workload, row, "completion", expected[row], actual[row]);
+            if (difference != null) {
+                return difference;
+            }
+        }
+        return null;
+    }
+
+    private static String difference(Workload workload, int row, String metric, int expected, int actual) {
+        return expected == actual ? null : "process " + workload.processId(row) + " (row " + row + "): " + metric
+                + " time " + actual + ", expected " + expected;
+    }
+
+    /**
+     * Gets the columns of a workload: ids, bursts, priorities, arrivals.
+     */
+    private static int[][] columns(Workload workload) {
+        int n = workload.size();
+        int[][] columns = new int[4][n];
+        for (int row = 0; row < n; row++) {
+            columns[0][row] = workload.processId(row);
+            columns[1][row] = workload.burstTime(row);
+            columns[2][row] = workload.priority(row);
+            columns[3][row] = workload.arrivalTime(row);
+        }
+        return columns;
+    }
+
+    private static int[][] copy(int[][] columns) {
+        int[][] copy = new int[columns.length][];
+        for (int i = 0; i < columns.length; i++) {
+            copy[i] = columns[i].clone();
+        }
+        return copy;
+    }
+
+    /**
+     * Builds the workload without one row; ids are renumbered from 1.
+     */
+    private static Workload without(int[][] columns, int removed) {
+        int n = columns[0].length - 1;
+        int[][] kept = new int[4][n];
+        for (int row = 0, to = 0; row <= n; row++) {
+            if (row != removed) {
+                kept[0][to] = to + 1;
+                for (int column = 1; column < 4; column++) {
+                    kept[column][to] = columns[column][row];
+                }
+                to++;
+            }
+        }
+        return new Workload(kept[0], kept[1], kept[2], kept[3]);
+    }
+}
@@ -0,0 +1,41 @@
+package cpuscheduler.verify;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the {@link DifferentialCheck} in the build, so an engine that drifts from the reference
+ * fails it, and the reference itself is held to the original schedulers. Run more workloads, or replay a failure, with system properties:
+ * {@code mvn test -Dverify.cases=100000 -Dverify.seed=7 -Dverify.maxProcesses=12}.
+ */
+class DifferentialCheckTest {
+    private static final int CASES = Integer.getInteger("verify.cases", 10_000);
+    private static final long SEED = Long.getLong("verify.seed", 1);
+    private static final int MAX_PROCESSES = Integer.getInteger("verify.maxProcesses", 12);
+
+    @Test
+    void everyPathFollowsTheTieBreakRules() {
+        List<String> failures = DifferentialCheck.checkRules(DifferentialCheck.PATHS);
+        assertTrue(failures.isEmpty(), () -> String.join("\n", failures));
+    }
+
+    @Test
+    void everyPathAgreesWithTheReferenceOnRandomWorkloads() {
+        List<DifferentialCheck.Failure> failures =
+                DifferentialCheck.check(DifferentialCheck.PATHS, CASES, SEED, MAX_PROCESSES);
+        assertTrue(failures.isEmpty(), () -> "Seed " + SEED + ", " + CASES + " cases:\n"
+                + failures.stream().map(DifferentialCheck::describe).collect(Collectors.joining("\n")));
+    }
+
+    @Test
+    void referencesAndPathsAgreeWithTheBaselineWhenEverythingArrivesAtZero() {
+        List<DifferentialCheck.Failure> failures =
+                DifferentialCheck.checkBaselines(DifferentialCheck.PATHS, CASES, SEED, MAX_PROCESSES);
+        assertTrue(failures.isEmpty(), () -> "Seed " + SEED + ", " + CASES + " cases:\n"
+                + failures.stream().map(DifferentialCheck::describe).collect(Collectors.joining("\n")));
+    }
+}
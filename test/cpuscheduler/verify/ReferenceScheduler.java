@@ -0,0 +1,440 @@
+package cpuscheduler.verify;
+
+import cpuscheduler.engine.Workload;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A deliberately simple scheduler that the optimized engines are checked against. It advances
+ * the clock one time unit at a time and scans every process at every step, so it costs
+ * O(makespan x n) and is only meant for small workloads, but each scheduling rule is one
+ * readable step of the loop.
+ *
+ * <p>At every instant t, in this order:
+ * <ol>
+ *   <li>Processes arriving at t join the ready queue in workload row order.</li>
+ *   <li>The running process completes if it has no time left. Under Round Robin, one that has
+ *       used up its quantum goes to the back of the ready queue, behind the arrivals of step 1.</li>
+ *   <li>Under SRTF and preemptive Priority, the running process goes back to the ready queue if
+ *       a ready process has a strictly smaller key; an equal key never preempts.</li>
+ *   <li>An idle CPU takes the next ready process: the head of the queue under FCFS and Round
+ *       Robin, otherwise the smallest key (burst time, priority number or remaining time), with
+ *       ties going to the lower workload row. A process with a zero burst completes as it is
+ *       dispatched, and the CPU takes the next one at the same instant.</li>
+ *   <li>The running process runs for one time unit.</li>
+ * </ol>
+ * These are the rules documented by {@link cpuscheduler.engine.EventSimulator}; every engine
+ * must produce the same completion, waiting, turnaround and response times.
+ *
+ * <p>{@link #mlfq} and {@link #cfs} follow the rules of {@link cpuscheduler.engine.MLFQPolicy}
+ * and {@link cpuscheduler.engine.CFSPolicy} in loops of their own, with the same order of steps.
+ * An arrival may preempt at the instant it joins the ready queue, before later arrivals at the
+ * same instant do, as the event simulator checks after every arrival.
+ */
+public final class ReferenceScheduler {
+    /**
+     * The algorithms the reference implements.
+     */
+    public enum Algorithm {
+        FCFS(false),
+        SJF(false),
+        PRIORITY(false),
+        SRTF(true),
+        PREEMPTIVE_PRIORITY(true),
+        ROUND_ROBIN(false);
+
+        private final boolean preemptive;
+
+        Algorithm(boolean preemptive) {
+            this.preemptive = preemptive;
+        }
+
+        public boolean isPreemptive() {
+            return preemptive;
+        }
+    }
+
+    /**
+     * The per-process times of a reference run, indexed by workload row.
+     */
+    public record Schedule(int[] startTimes, int[] completionTimes, int[] waitingTimes, int[] turnaroundTimes,
+                           int[] responseTimes) {
+    }
+
+    // Linux sched_prio_to_weight, nice -20 to 19
+    private static final int[] CFS_WEIGHTS = {
+            88761, 71755, 56483, 46273, 36291,
+            29154, 23254, 18705, 14949, 11916,
+            9548, 7620, 6100, 4904, 3906,
+            3121, 2501, 1991, 1586, 1277,
+            1024, 820, 655, 526, 423,
+            335, 272, 215, 172, 137,
+            110, 87, 70, 56, 45,
+            36, 29, 23, 18, 15,
+    };
+
+    private ReferenceScheduler() {
+    }
+
+    /**
+     * Schedules a workload.
+     * @param workload The processes, without I/O bursts.
+     * @param algorithm The algorithm.
+     * @param quantumTime The time slice for ROUND_ROBIN; ignored by the other algorithms.
+     * @return The per-process times.
+     */
+    public static Schedule run(Workload workload, Algorithm algorithm, int quantumTime) {
+        if (workload.hasIoBursts()) {
+            throw new IllegalArgumentException("The reference scheduler does not model I/O bursts.");
+        }
+        if (algorithm == Algorithm.ROUND_ROBIN && quantumTime <= 0) {
+            throw new IllegalArgumentException("Quantum Time must be positive.");
+        }
+        int n = workload.size();
+        int[] remaining = new int[n];
+        int[] start = new int[n];
+        int[] completion = new int[n];
+        for (int row = 0; row < n; row++) {
+            remaining[row] = workload.burstTime(row);
+            start[row] = -1;
+        }
+        // In the order processes became ready; only FCFS and Round Robin depend on it
+        List<Integer> ready = new ArrayList<>();
+        int running = -1;
+        int sliceUsed = 0;
+        int completed = 0;
+        for (int now = 0; completed < n; now++) {
+            for (int row = 0; row < n; row++) {
+                if (workload.arrivalTime(row) == now) {
+                    ready.add(row);
+                }
+            }
+
+            if (running >= 0 && remaining[running] == 0) {
+                completion[running] = now;
+                completed++;
+                running = -1;
+            }
+            else if (running >= 0 && algorithm == Algorithm.ROUND_ROBIN && sliceUsed == quantumTime) {
+                ready.add(running);
+                running = -1;
+            }
+
+            if (running >= 0 && algorithm.isPreemptive()) {
+                int best = smallestKey(workload, algorithm, ready, remaining);
+                if (best >= 0 && key(workload, algorithm, best, remaining) < key(workload, algorithm, running, remaining)) {
+                    ready.add(running);
+                    running = -1;
+                }
+            }
+
+            while (running < 0 && !ready.isEmpty()) {
+                running = algorithm == Algorithm.FCFS || algorithm == Algorithm.ROUND_ROBIN
+                        ? ready.get(0) : smallestKey(workload, algorithm, ready, remaining);
+                ready.remove(Integer.valueOf(running));
+                sliceUsed = 0;
+                if (start[running] < 0) {
+                    start[running] = now;
+                }
+                if (remaining[running] == 0) {
+                    completion[running] = now;
+                    completed++;
+                    running = -1;
+                }
+            }
+
+            if (running >= 0) {
+                remaining[running]--;
+                sliceUsed++;
+            }
+        }
+
+        return schedule(workload, start, completion);
+    }
+
+    /**
+     * Finds the ready process with the smallest key, the lowest row among equal keys.
+     * @return Its row, or -1 if none is ready.
+     */
+    private static int smallestKey(Workload workload, Algorithm algorithm, List<Integer> ready, int[] remaining) {
+        int best = -1;
+        for (int row : ready) {
+            if (best < 0 || key(workload, algorithm, row, remaining) < key(workload, algorithm, best, remaining)
+                    || (key(workload, algorithm, row, remaining) == key(workload, algorithm, best, remaining) && row < best)) {
+                best = row;
+            }
+        }
+        return best;
+    }
+
+    private static int key(Workload workload, Algorithm algorithm, int row, int[] remaining) {
+        return switch (algorithm) {
+            case SJF -> workload.burstTime(row);
+            case PRIORITY, PREEMPTIVE_PRIORITY -> workload.priority(row);
+            case SRTF -> remaining[row];
+            case FCFS, ROUND_ROBIN -> 0;
+        };
+    }
+
+    /**
+     * Schedules a workload with a Multilevel Feedback Queue:
+     * <ol>
+     *   <li>Processes arriving at t join the top level in workload row order. Each one preempts
+     *       a running process on a lower level that has time left.</li>
+     *   <li>The running process completes if it has no time left, or goes to the back of its level
+     *       if it has used its slice.</li>
+     *   <li>When the CPU is free and the processes have run for a whole boost period since the last
+     *       boost, every ready process moves to the top level with its used time cleared, the top
+     *       level first and then each lower level in order.</li>
+     *   <li>An idle CPU takes the head of the highest non-empty level, for that level's quantum
+     *       minus what the process has already used there.</li>
+     *   <li>The running process runs for one time unit.</li>
+     * </ol>
+     * A process that goes back to a level after using its quantum there, in one slice or across
+     * several, moves down one level instead; the bottom level keeps it.
+     * @param workload The processes, without I/O bursts.
+     * @param quanta The quantum of every level, top level first.
+     * @param boostPeriod The CPU time between boosts, or 0 for no boost.
+     * @return The per-process times.
+     */
+    public static Schedule mlfq(Workload workload, int[] quanta, long boostPeriod) {
+        if (workload.hasIoBursts()) {
+            throw new IllegalArgumentException("The reference scheduler does not model I/O bursts.");
+        }
+        int n = workload.size();
+        int[] remaining = new int[n];
+        int[] start = new int[n];
+        int[] completion = new int[n];
+        int[] level = new int[n];
+        int[] used = new int[n];
+        for (int row = 0; row < n; row++) {
+            remaining[row] = workload.burstTime(row);
+            start[row] = -1;
+        }
+        List<List<Integer>> levels = new ArrayList<>();
+        for (int i = 0; i < quanta.length; i++) {
+            levels.add(new ArrayList<>());
+        }
+        long cpuTime = 0;
+        long nextBoost = boostPeriod == 0 ? Long.MAX_VALUE : boostPeriod;
+        int running = -1;
+        int slice = 0;
+        int sliceUsed = 0;
+        int completed = 0;
+        for (int now = 0; completed < n; now++) {
+            for (int row = 0; row < n; row++) {
+                if (workload.arrivalTime(row) == now) {
+                    levels.get(0).add(row);
+                    if (running >= 0 && remaining[running] > 0 && level[running] > 0) {
+                        requeue(running, quanta, levels, level, used);
+                        running = -1;
+                    }
+                }
+            }
+
+            if (running >= 0 && remaining[running] == 0) {
+                completion[running] = now;
+                completed++;
+                running = -1;
+            }
+            else if (running >= 0 && sliceUsed == slice) {
+                requeue(running, quanta, levels, level, used);
+                running = -1;
+            }
+
+            if (running < 0 && cpuTime >= nextBoost) {
+                while (nextBoost <= cpuTime) {
+                    nextBoost += boostPeriod;
+                }
+                List<Integer> top = new ArrayList<>();
+                for (List<Integer> queue : levels) {
+                    for (int row : queue) {
+                        level[row] = 0;
+                        used[row] = 0;
+                        top.add(row);
+                    }
+                    queue.clear();
+                }
+                levels.getFirst().addAll(top);
+            }
+
+            while (running < 0 && levels.stream().anyMatch(queue -> !queue.isEmpty())) {
+                for (List<Integer> queue : levels) {
+                    if (!queue.isEmpty()) {
+                        running = queue.removeFirst();
+                        break;
+                    }
+                }
+                slice = quanta[level[running]] - used[running];
+                sliceUsed = 0;
+                if (start[running] < 0) {
+                    start[running] = now;
+                }
+                if (remaining[running] == 0) {
+                    completion[running] = now;
+                    completed++;
+                    running = -1;
+                }
+            }
+
+            if (running >= 0) {
+                remaining[running]--;
+                used[running]++;
+                sliceUsed++;
+                cpuTime++;
+            }
+        }
+        return schedule(workload, start, completion);
+    }
+
+    /**
+     * Puts a process back at the end of its level, or of the next one down if it has used its
+     * quantum.
+     */
+    private static void requeue(int row, int[] quanta, List<List<Integer>> levels, int[] level, int[] used) {
+        if (used[row] >= quanta[level[row]]) {
+            level[row] = Math.min(level[row] + 1, quanta.length - 1);
+            used[row] = 0;
+        }
+        levels.get(level[row]).add(row);
+    }
+
+    /**
+     * Schedules a workload with the Completely Fair Scheduler:
+     * <ol>
+     *   <li>Processes arriving at t become ready in workload row order, at the smallest virtual
+     *       runtime any dispatched process has had. Each one preempts the running process if that
+     *       one, counting the time it has run in this slice, is ahead of the smallest ready virtual
+     *       runtime by more than the wakeup granularity.</li>
+     *   <li>The running process completes if it has no time left, or goes back to the ready
+     *       processes if it has used its slice.</li>
+     *   <li>An idle CPU takes the ready process with the smallest virtual runtime in whole time
+     *       units, ties going to the lower workload row, for the target latency times its weight
+     *       over the weight of every process that has arrived and not completed, but at least the
+     *       minimum granularity.</li>
+     *   <li>The running process runs for one time unit.</li>
+     * </ol>
+     * A process's virtual runtime grows when a slice ends, by the slice's length times 1024 x 1024
+     * over its weight, rounded down. Priorities are nice values mapped through the Linux weight
+     * table.
+     * @param workload The processes, without I/O bursts.
+     * @param targetLatency The period in which every runnable process should run once.
+     * @param minGranularity The shortest slice.
+     * @param wakeupGranularity How far ahead the running process must be before an arrival preempts it.
+     * @return The per-process times.
+     */
+    public static Schedule cfs(Workload workload, int targetLatency, int minGranularity, int wakeupGranularity) {
+        if (workload.hasIoBursts()) {
+            throw new IllegalArgumentException("The reference scheduler does not model I/O bursts.");
+        }
+        int n = workload.size();
+        int[] remaining = new int[n];
+        int[] start = new int[n];
+        int[] completion = new int[n];
+        long[] vruntime = new long[n];
+        for (int row = 0; row < n; row++) {
+            remaining[row] = workload.burstTime(row);
+            start[row] = -1;
+        }
+        List<Integer> ready = new ArrayList<>();
+        long minVruntime = 0;
+        long runnableWeight = 0;
+        int running = -1;
+        int slice = 0;
+        int sliceUsed = 0;
+        int completed = 0;
+        for (int now = 0; completed < n; now++) {
+            for (int row = 0; row < n; row++) {
+                if (workload.arrivalTime(row) == now) {
+                    vruntime[row] = minVruntime;
+                    runnableWeight += cfsWeight(workload, row);
+                    ready.add(row);
+                    if (running >= 0 && remaining[running] > 0) {
+                        long current = vruntime[running] + vruntimeDelta(workload, running, sliceUsed);
+                        if (current - vruntime[leftmost(ready, vruntime)] > wakeupGranularity * 1024L) {
+                            vruntime[running] = current;
+                            ready.add(running);
+                            running = -1;
+                        }
+                    }
+                }
+            }
+
+            if (running >= 0 && remaining[running] == 0) {
+                completion[running] = now;
+                completed++;
+                runnableWeight -= cfsWeight(workload, running);
+                running = -1;
+            }
+            else if (running >= 0 && sliceUsed == slice) {
+                vruntime[running] += vruntimeDelta(workload, running, sliceUsed);
+                ready.add(running);
+                running = -1;
+            }
+
+            while (running < 0 && !ready.isEmpty()) {
+                running = leftmost(ready, vruntime);
+                ready.remove(Integer.valueOf(running));
+                minVruntime = Math.max(minVruntime, vruntime[running]);
+                slice = (int) Math.max(minGranularity,
+                        (long) targetLatency * cfsWeight(workload, running) / Math.max(1, runnableWeight));
+                sliceUsed = 0;
+                if (start[running] < 0) {
+                    start[running] = now;
+                }
+                if (remaining[running] == 0) {
+                    completion[running] = now;
+                    completed++;
+                    runnableWeight -= cfsWeight(workload, running);
+                    running = -1;
+                }
+            }
+
+            if (running >= 0) {
+                remaining[running]--;
+                sliceUsed++;
+            }
+        }
+        return schedule(workload, start, completion);
+    }
+
+    private static int cfsWeight(Workload workload, int row) {
+        return CFS_WEIGHTS[Math.max(-20, Math.min(19, workload.priority(row))) + 20];
+    }
+
+    private static long vruntimeDelta(Workload workload, int row, int ran) {
+        return (long) ran * 1024 * 1024 / cfsWeight(workload, row);
+    }
+
+    /**
+     * Finds the ready process with the smallest virtual runtime in whole time units, the lowest
+     * row among equal ones.
+     */
+    private static int leftmost(List<Integer> ready, long[] vruntime) {
+        int best = -1;
+        for (int row : ready) {
+            if (best < 0 || vruntime[row] / 1024 < vruntime[best] / 1024
+                    || (vruntime[row] / 1024 == vruntime[best] / 1024 && row < best)) {
+                best = row;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Derives waiting, turnaround and response times from start and completion times.
+     */
+    private static Schedule schedule(Workload workload, int[] start, int[] completion) {
+        int n = workload.size();
+        int[] waiting = new int[n];
+        int[] turnaround = new int[n];
+        int[] response = new int[n];
+        for (int row = 0; row < n; row++) {
+            turnaround[row] = completion[row] - workload.arrivalTime(row);
+            waiting[row] = turnaround[row] - workload.burstTime(row);
+            response[row] = start[row] - workload.arrivalTime(row);
+        }
+        return new Schedule(start, completion, waiting, turnaround, response);
+    }
+}